@@ -0,0 +1,81 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас AllocationStats — сумарні виділення пам'яті та збирання сміття однієї операції
+ * {@link PerformanceTracker}.
+ *
+ * <p>Байти рахуються по потоку, що виконав операцію
+ * ({@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}), тож паралельні
+ * потоки не змішуються. Кількість і час збирань сміття — різниця лічильників усіх
+ * {@code GarbageCollectorMXBean} і в паралельному режимі включає збирання, спричинені
+ * іншими потоками.</p>
+ */
+public final class AllocationStats {
+    private final String name;
+    private final AtomicLong operations = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong elements = new AtomicLong();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcTimeMs = new AtomicLong();
+
+    public AllocationStats(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Додає вимір.
+     *
+     * @param operationCount Кількість виконань операції, за які виділено {@code allocatedBytes}
+     * @param allocatedBytes Виділено байтів потоком
+     * @param elementCount Кількість оброблених елементів (0 — невідомо)
+     * @param collections Кількість збирань сміття за час операції
+     * @param collectionTimeMs Час збирань сміття, мс
+     */
+    public void record(long operationCount, long allocatedBytes, long elementCount, long collections, long collectionTimeMs) {
+        operations.addAndGet(operationCount);
+        bytes.addAndGet(Math.max(0, allocatedBytes));
+        elements.addAndGet(Math.max(0, elementCount));
+        gcCount.addAndGet(collections);
+        gcTimeMs.addAndGet(collectionTimeMs);
+    }
+
+    public long operations() {
+        return operations.get();
+    }
+
+    public long bytes() {
+        return bytes.get();
+    }
+
+    public long elements() {
+        return elements.get();
+    }
+
+    public long gcCount() {
+        return gcCount.get();
+    }
+
+    public long gcTimeMs() {
+        return gcTimeMs.get();
+    }
+
+    /**
+     * Середня кількість байтів на одне виконання операції.
+     */
+    public double bytesPerOperation() {
+        long count = operations.get();
+        return count == 0 ? Double.NaN : (double) bytes.get() / count;
+    }
+
+    /**
+     * Середня кількість байтів на оброблений елемент (NaN, якщо кількість елементів невідома).
+     */
+    public double bytesPerElement() {
+        long count = elements.get();
+        return count == 0 ? Double.NaN : (double) bytes.get() / count;
+    }
+}
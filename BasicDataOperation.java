@@ -1,8 +1,15 @@
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Загальний клас BasicDataOperation координує роботу різних структур даних (тип Character).
@@ -14,6 +21,9 @@ import java.util.Queue;
  * <ul>
  *   <li>Координація операцій з різними типами колекцій</li>  
  *   <li>Порівняльний аналіз продуктивності структур даних</li>
+ *   <li>Послідовний або паралельний запуск процесорів, кожен на власній копії даних</li>
+ *   <li>Потоковий аналіз за один прохід для файлів, більших за купу (--stream)</li>
+ *   <li>Події Java Flight Recorder для кожної операції з даними (--jfr)</li>
  *   <li>Централізоване управління обробкою символів</li>
  *   <li>Демонстрація переваг різних колекцій</li>
  * </ul>
@@ -31,29 +41,222 @@ import java.util.Queue;
 public class BasicDataOperation {
     static final String PATH_TO_DATA_FILE = "list/Character.data";
 
+    /** Файл символів для процесорів List/Queue/Set; змінюється опцією --data. */
+    private static volatile String characterDataFile = PATH_TO_DATA_FILE;
+
     Character charValueToSearch;
     Character[] charArray;
+    CharFrequencyIndex frequencyIndex;
+    DataType dataType = DataType.CHARACTER;
+    CollectionBackend backend = CollectionBackend.BOXED;
+    boolean concurrent = false;
+    int threadCount = Math.min(3, Runtime.getRuntime().availableProcessors());
+    String querySource;
+    int sortScalingLength;
+    String dataFile;
+    String jfrFile;
+    boolean streaming = false;
+    long progressInterval;
+    String prefix;
+    int topCount = BasicDataOperationUsingStringIndex.DEFAULT_TOP_COUNT;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошуковий-символ> \n" +
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> [опції]\n" +
+"       java BasicDataOperation --queries=ФАЙЛ|- [опції]\n" +
+"Опції:\n" +
+"  --type=ТИП                  тип даних з list/: Character (за замовчуванням), byte, short, int, long,\n" +
+"                              float, double, String, LocalDate, LocalTime, LocalDateTime\n" +
+"  --backend=boxed|primitive   колекції Vector/PriorityQueue/TreeSet або CharList/CharHeap/CharSortedSet\n" +
+"  --timings=each|summary      виводити кожен вимір часу або лише підсумкову таблицю\n" +
+"  --report=text|quiet|json|csv  повний звіт, лише підсумкова таблиця або підсумок у JSON/CSV для дашбордів\n" +
+"  --calibration=МС|off        пошук і peek: виміри по МС мілісекунд з прогрівом, середнє ± похибка\n" +
+"                              (за замовчуванням 10); off — один холодний виклик\n" +
+"  --jfr[=ФАЙЛ]                події JFR для кожної операції з даними; з ФАЙЛом ще й запис JFR у файл\n" +
+"  --sort=linear|comparison    сортування масиву підрахунком (за замовчуванням) або Arrays.sort\n" +
+"  --sort-cache=on|off         повторно використовувати list/Character.data.sorted, якщо дані не змінились\n" +
+"  --sort-parallelism=N|auto   потоків для сортування великих масивів (за замовчуванням 1; auto — усі ядра)\n" +
+"  --sort-threshold=N          мінімум елементів на одну паралельну задачу сортування (за замовчуванням 65536)\n" +
+"  --sort-scaling[=N]          звіт масштабування сортування масивів з N елементів (за замовчуванням 4194304)\n" +
+"  --concurrent                запускати процесори List/Queue/Set паралельно\n" +
+"  --threads=N                 кількість потоків для --concurrent (за замовчуванням до 3)\n" +
+"  --queries=ФАЙЛ|-            пакетний режим: символи запитів з файлу (по одному на рядок) або stdin\n" +
+"  --data=ФАЙЛ                 файл даних замість list/<тип>.data (текстовий або двійковий з DatasetGenerator)\n" +
+"  --stream                    мін/макс/пошук/кількість за один прохід по файлу без масивів і колекцій\n" +
+"  --progress=N                з --stream: проміжний результат кожні N елементів\n" +
+"  --prefix=ТЕКСТ              з --type=String: префікс для пошуку і доповнень (за замовчуванням — пошукове значення)\n" +
+"  --top=K                     з --type=String: скільки найчастіших доповнень префікса виводити (за замовчуванням 10)\n" +
 "Приклад:\n" +
-"  java BasicDataOperation \"&\"";
+"  java BasicDataOperation \"&\"\n" +
+"  java BasicDataOperation \"&\" --backend=primitive\n" +
+"  java BasicDataOperation 42 --type=int\n" +
+"  java BasicDataOperation \"2024-03-16T00:12:38Z\" --type=LocalDateTime\n" +
+"  java BasicDataOperation \"Morning dew sparkling on fresh grass\" --type=String --prefix=Mo --top=5\n" +
+"  java BasicDataOperation --queries=queries.txt\n" +
+"  java BasicDataOperation \"&\" --data=list/generated/Character-zipf-10000000.bin\n" +
+"  java BasicDataOperation 42 --type=int --stream --progress=100000000 --data=list/generated/int-zipf-1000000000.bin\n" +
+"  java BasicDataOperation --sort-scaling --sort-parallelism=auto\n" +
+"  java BasicDataOperation \"&\" --report=json > report.json\n" +
+"  java BasicDataOperation \"&\" --jfr=operations.jfr";
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length < 1) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
 
-        String searchValue = args[0];
+        // у пакетному режимі пошукове значення не потрібне, і першим аргументом може бути опція
+        boolean hasSearchValue = !args[0].startsWith("--");
+        String searchValue = hasSearchValue ? args[0] : null;
 
-        if (searchValue == null || searchValue.length() == 0) {
-            System.out.println("Помилка: порожній пошуковий символ.");
+        if (hasSearchValue && searchValue.length() == 0) {
+            ReportSink.error("Помилка: порожній пошуковий символ.");
             return;
         }
 
         BasicDataOperation coordinator = new BasicDataOperation();
-        coordinator.executeOperations(args);
+        try {
+            coordinator.parseOptions(args, hasSearchValue ? 1 : 0);
+        } catch (IllegalArgumentException e) {
+            ReportSink.error("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        if (coordinator.dataFile != null && coordinator.dataType == DataType.CHARACTER) {
+            characterDataFile = coordinator.dataFile;
+        }
+        if (coordinator.jfrFile != null) {
+            try {
+                DataOperationEvent.startRecording(coordinator.jfrFile);
+            } catch (UncheckedIOException e) {
+                ReportSink.error("Помилка: не вдалося запустити запис JFR: " + e.getCause().getMessage());
+                return;
+            }
+        }
+        try {
+            if (coordinator.sortScalingLength > 0) {
+                coordinator.executeSortScaling();
+            } else if (coordinator.querySource != null) {
+                coordinator.executeBatchQueries();
+            } else if (!hasSearchValue) {
+                ReportSink.error("Помилка: не задано пошукове значення.");
+                System.out.println(USAGE_MESSAGE);
+            } else if (coordinator.streaming) {
+                coordinator.executeStreamingAggregation(searchValue);
+            } else if (coordinator.dataType == DataType.CHARACTER) {
+                coordinator.executeOperations(args);
+            } else {
+                coordinator.executeTypedOperations(searchValue);
+            }
+        } finally {
+            String recordingFile = DataOperationEvent.stopRecording();
+            if (recordingFile != null) {
+                ReportSink.line("\n🎞 Запис JFR збережено у файл " + recordingFile);
+                ReportSink.flush();
+            }
+        }
+    }
+
+    /**
+     * Розбирає опції командного рядка після пошукового символа.
+     * 
+     * @param args Аргументи командного рядка
+     * @param firstOption Індекс першої опції (0, якщо пошукового значення немає)
+     * @throws IllegalArgumentException якщо опція невідома або має некоректне значення
+     */
+    private void parseOptions(String[] args, int firstOption) {
+        for (int i = firstOption; i < args.length; i++) {
+            String option = args[i];
+            if (option.startsWith("--type=")) {
+                this.dataType = DataType.fromOption(option.substring("--type=".length()));
+            } else if (option.startsWith("--backend=")) {
+                this.backend = CollectionBackend.fromOption(option.substring("--backend=".length()));
+            } else if (option.startsWith("--sort=")) {
+                SortEngine.setStrategy(SortEngine.Strategy.fromOption(option.substring("--sort=".length())));
+            } else if (option.startsWith("--sort-cache=")) {
+                SortedOutputCache.setEnabled(parseSwitch(option.substring("--sort-cache=".length()), "--sort-cache"));
+            } else if (option.startsWith("--sort-parallelism=")) {
+                String value = option.substring("--sort-parallelism=".length());
+                SortEngine.setParallelism(value.equalsIgnoreCase("auto")
+                        ? Runtime.getRuntime().availableProcessors()
+                        : parsePositiveInt(value, "--sort-parallelism"));
+            } else if (option.startsWith("--sort-threshold=")) {
+                SortEngine.setParallelThreshold(parsePositiveInt(option.substring("--sort-threshold=".length()), "--sort-threshold"));
+            } else if (option.equals("--sort-scaling")) {
+                this.sortScalingLength = SortScalingReport.DEFAULT_LENGTH;
+            } else if (option.startsWith("--sort-scaling=")) {
+                this.sortScalingLength = parsePositiveInt(option.substring("--sort-scaling=".length()), "--sort-scaling");
+            } else if (option.equals("--concurrent")) {
+                this.concurrent = true;
+            } else if (option.startsWith("--threads=")) {
+                this.threadCount = parsePositiveInt(option.substring("--threads=".length()), "--threads");
+            } else if (option.startsWith("--data=")) {
+                this.dataFile = option.substring("--data=".length());
+                if (dataFile.isEmpty()) {
+                    throw new IllegalArgumentException("--data очікує шлях до файлу");
+                }
+            } else if (option.equals("--stream")) {
+                this.streaming = true;
+            } else if (option.startsWith("--progress=")) {
+                this.progressInterval = parsePositiveInt(option.substring("--progress=".length()), "--progress");
+            } else if (option.startsWith("--queries=")) {
+                this.querySource = option.substring("--queries=".length());
+                if (querySource.isEmpty()) {
+                    throw new IllegalArgumentException("--queries очікує шлях до файлу або -");
+                }
+            } else if (option.startsWith("--prefix=")) {
+                this.prefix = option.substring("--prefix=".length());
+            } else if (option.startsWith("--top=")) {
+                this.topCount = parsePositiveInt(option.substring("--top=".length()), "--top");
+            } else if (option.startsWith("--report=")) {
+                ReportSink.setFormat(ReportSink.Format.fromOption(option.substring("--report=".length())));
+            } else if (option.equals("--jfr")) {
+                DataOperationEvent.setEnabled(true);
+            } else if (option.startsWith("--jfr=")) {
+                this.jfrFile = option.substring("--jfr=".length());
+                if (jfrFile.isEmpty()) {
+                    throw new IllegalArgumentException("--jfr очікує шлях до файлу запису");
+                }
+            } else if (option.equals("--calibration=off")) {
+                PerformanceTracker.setCalibrationTime(0);
+            } else if (option.startsWith("--calibration=")) {
+                PerformanceTracker.setCalibrationTime(parsePositiveInt(option.substring("--calibration=".length()), "--calibration"));
+            } else if (option.equals("--timings=each")) {
+                PerformanceTracker.setConsoleOutput(true);
+            } else if (option.equals("--timings=summary")) {
+                PerformanceTracker.setConsoleOutput(false);
+            } else {
+                throw new IllegalArgumentException("невідома опція " + option);
+            }
+        }
+    }
+
+    /**
+     * Файл даних Character: list/Character.data або заданий опцією --data.
+     */
+    static String characterDataFile() {
+        return characterDataFile;
+    }
+
+    private static boolean parseSwitch(String value, String optionName) {
+        if (value.equalsIgnoreCase("on")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("off")) {
+            return false;
+        }
+        throw new IllegalArgumentException(optionName + " очікує on або off, отримано: " + value);
+    }
+
+    private static int parsePositiveInt(String value, String optionName) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // повідомлення нижче
+        }
+        throw new IllegalArgumentException(optionName + " очікує додатне ціле число, отримано: " + value);
     }
 
     /**
@@ -62,36 +265,212 @@ public class BasicDataOperation {
      * @param args Аргументи командного рядка
      */
     private void executeOperations(String[] args) {
-        System.out.println(SEPARATOR);
-        System.out.println("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ типу Character 🚀");
-        System.out.println("Пошуковий символ: " + args[0]);
-        System.out.println(SEPARATOR);
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ типу Character 🚀");
+        ReportSink.line("Пошуковий символ: " + args[0]);
+        ReportSink.line("Файл даних: " + characterDataFile);
+        ReportSink.line("Тип колекцій: " + backend);
+        ReportSink.line("Кеш сортування: " + (SortedOutputCache.isEnabled() ? "увімкнено" : "вимкнено"));
+        ReportSink.line("Режим: " + (concurrent ? "паралельний (" + threadCount + " потоків)" : "послідовний"));
+        ReportSink.line(SEPARATOR);
         
         // Підготовка даних
         this.charValueToSearch = args[0].charAt(0);
-        this.charArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+        long timeStart = PerformanceTracker.startOperation();
+        this.charArray = DataFileHandler.loadArrayFromFile(characterDataFile);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження файлу Character", charArray.length);
+
+        timeStart = PerformanceTracker.startOperation();
+        this.frequencyIndex = CharFrequencyIndex.of(charArray);
+        PerformanceTracker.displayOperationTime(timeStart, "побудова частотного індексу символів", charArray.length);
         
         runAllOperations();
 
-        System.out.println(SEPARATOR);
-        System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
-        System.out.println(SEPARATOR);
+        PerformanceTracker.printSummary();
+
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        ReportSink.line(SEPARATOR);
+    }
+
+    /**
+     * Виконує операції для типу, відмінного від Character: дані завантажуються
+     * типізованим парсером у {@link TypedArray} і обробляються {@link BasicDataOperationUsingTypedData}.
+     * 
+     * <p>Для типу String після них {@link BasicDataOperationUsingStringIndex} будує префіксний
+     * індекс і виконує точний пошук, пошук за префіксом (--prefix) і top-K доповнень (--top).</p>
+     * 
+     * <p>Опції --backend і --concurrent стосуються лише процесорів Character і тут не діють.</p>
+     * 
+     * @param searchValue Пошукове значення в текстовому вигляді
+     */
+    private void executeTypedOperations(String searchValue) {
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ типу " + dataType + " 🚀");
+        ReportSink.line("Пошукове значення: " + searchValue);
+        String filePath = dataFile != null ? dataFile : dataType.dataFilePath();
+        ReportSink.line("Файл даних: " + filePath);
+        ReportSink.line(SEPARATOR);
+
+        long timeStart = PerformanceTracker.startOperation();
+        TypedArray<?> data;
+        try {
+            data = TypedDataParser.load(dataType, filePath);
+        } catch (RuntimeException e) {
+            ReportSink.error("❌ Помилка при завантаженні " + filePath + ": " + e.getMessage());
+            return;
+        }
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження файлу " + dataType, data.length());
+
+        BasicDataOperationUsingTypedData<?> processor;
+        try {
+            processor = BasicDataOperationUsingTypedData.create(data, searchValue, filePath);
+        } catch (RuntimeException e) {
+            ReportSink.error("Помилка: '" + searchValue + "' не є значенням типу " + dataType + " (" + e.getMessage() + ")");
+            return;
+        }
+        BasicDataOperationUsingStringIndex stringIndexProcessor = null;
+        if (dataType == DataType.STRING) {
+            @SuppressWarnings("unchecked")
+            TypedArray<String> strings = (TypedArray<String>) data;
+            stringIndexProcessor = BasicDataOperationUsingStringIndex.create(strings, searchValue,
+                    prefix != null ? prefix : searchValue, topCount);
+        }
+        processor.executeDataOperations();
+        if (stringIndexProcessor != null) {
+            stringIndexProcessor.executeDataOperations();
+        }
+
+        PerformanceTracker.printSummary();
+
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        ReportSink.line(SEPARATOR);
+    }
+
+    /**
+     * Потоковий режим: {@link StreamingAggregator} відповідає на мін/макс/пошук/кількість
+     * за один прохід по файлу. Дані не завантажуються в масив, тож пам'ять не залежить
+     * від розміру файлу; працює для всіх типів, текстових і двійкових файлів.
+     * 
+     * @param searchValue Пошукове значення в текстовому вигляді
+     */
+    private void executeStreamingAggregation(String searchValue) {
+        String filePath = dataFile != null ? dataFile : dataType.dataFilePath();
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("🚀 ПОТОКОВИЙ АНАЛІЗ ДАНИХ типу " + dataType + " 🚀");
+        ReportSink.line("Пошукове значення: " + searchValue);
+        ReportSink.line("Файл даних: " + filePath);
+        ReportSink.line(SEPARATOR);
+
+        StreamingAggregator aggregator;
+        try {
+            aggregator = new StreamingAggregator(dataType, searchValue, progressInterval);
+        } catch (RuntimeException e) {
+            ReportSink.error("Помилка: '" + searchValue + "' не є значенням типу " + dataType + " (" + e.getMessage() + ")");
+            return;
+        }
+        try {
+            aggregator.run(filePath);
+        } catch (RuntimeException e) {
+            ReportSink.error("❌ Помилка при обробці " + filePath + ": " + e.getMessage());
+            ReportSink.error(String.format("   Файл прочитано не до кінця (%,d елементів до помилки) — підсумок не виводиться.",
+                    aggregator.count()));
+            return;
+        }
+
+        PerformanceTracker.printSummary();
+
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        ReportSink.line(SEPARATOR);
+    }
+
+    /**
+     * Пакетний режим: дані завантажуються і структури будуються один раз, після чого
+     * {@link BatchQueryRunner} відповідає на всі запити кожною структурою.
+     * 
+     * <p>Підтримується лише тип Character; опції --backend і --concurrent тут не діють —
+     * звіт охоплює обидва типи колекцій.</p>
+     */
+    private void executeBatchQueries() {
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("🚀 ПАКЕТНІ ЗАПИТИ ДО ДАНИХ типу Character 🚀");
+        ReportSink.line("Джерело запитів: " + (BatchQueryRunner.STDIN_SOURCE.equals(querySource) ? "stdin" : querySource));
+        ReportSink.line(SEPARATOR);
+
+        if (dataType != DataType.CHARACTER) {
+            ReportSink.error("Помилка: пакетний режим підтримує лише тип Character.");
+            return;
+        }
+
+        char[] queries;
+        try {
+            queries = BatchQueryRunner.readQueries(querySource);
+        } catch (IllegalArgumentException e) {
+            ReportSink.error("Помилка: " + e.getMessage());
+            return;
+        }
+        if (queries.length == 0) {
+            ReportSink.error("Помилка: джерело не містить жодного запиту.");
+            return;
+        }
+
+        long timeStart = PerformanceTracker.startOperation();
+        this.charArray = DataFileHandler.loadArrayFromFile(characterDataFile);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження файлу Character", charArray.length);
+
+        new BatchQueryRunner(charArray, queries).run();
+
+        PerformanceTracker.printSummary();
+
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        ReportSink.line(SEPARATOR);
+    }
+
+    /**
+     * Звіт масштабування сортування: символи файлу даних і випадкові int/long сортуються
+     * з паралелізмом 1, 2, 4, ... до {@code --sort-parallelism} (або до кількості ядер).
+     */
+    private void executeSortScaling() {
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("🚀 МАСШТАБУВАННЯ СОРТУВАННЯ МАСИВІВ 🚀");
+        ReportSink.line(SEPARATOR);
+
+        long timeStart = PerformanceTracker.startOperation();
+        this.charArray = DataFileHandler.loadArrayFromFile(characterDataFile);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження файлу Character", charArray.length);
+
+        int maxParallelism = SortEngine.parallelism() > 1
+                ? SortEngine.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+        try {
+            new SortScalingReport(charArray, sortScalingLength, maxParallelism).run();
+        } catch (IllegalArgumentException e) {
+            ReportSink.error("Помилка: " + e.getMessage());
+            return;
+        }
+
+        ReportSink.line(SEPARATOR);
+        ReportSink.line("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        ReportSink.line(SEPARATOR);
     }
 
     /**
      * Запускає операції з колекцією List.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param data Власна копія масиву для цього процесора
      */
-    private void runListOperations() {
-        System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST (Vector<Character>)");
-        System.out.println("-".repeat(50));
+    private void runListOperations(Character[] data) {
+        ReportSink.line("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST (Vector<Character>)");
+        ReportSink.line("-".repeat(50));
         
         try {
-            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(charValueToSearch, charArray);
+            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(charValueToSearch, data, backend);
             listProcessor.executeDataOperations();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
+            ReportSink.error("❌ Помилка при роботі з List: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -99,17 +478,17 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією Queue.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param data Власна копія масиву для цього процесора
      */
-    private void runQueueOperations() {
-        System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE (PriorityQueue<Character>)");
-        System.out.println("-".repeat(50));
+    private void runQueueOperations(Character[] data) {
+        ReportSink.line("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE (PriorityQueue<Character>)");
+        ReportSink.line("-".repeat(50));
         
         try {
-            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(charValueToSearch, charArray);
+            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(charValueToSearch, data, backend, frequencyIndex);
             queueProcessor.runDataProcessing();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
+            ReportSink.error("❌ Помилка при роботі з Queue: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -117,17 +496,17 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією Set.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param data Власна копія масиву для цього процесора
      */
-    private void runSetOperations() {
-        System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET (TreeSet<Character>)");
-        System.out.println("-".repeat(50));
+    private void runSetOperations(Character[] data) {
+        ReportSink.line("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET (TreeSet<Character>)");
+        ReportSink.line("-".repeat(50));
         
         try {         
-            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(charValueToSearch, charArray);
+            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(charValueToSearch, data, backend, frequencyIndex);
             setProcessor.executeDataAnalysis();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
+            ReportSink.error("❌ Помилка при роботі з Set: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -135,22 +514,139 @@ public class BasicDataOperation {
     /**
      * Запускає операції з усіма типами колекцій для порівняння.
      * 
-     * @param args Аргументи для передачі до класів
+     * <p>Кожен процесор отримує власну копію масиву, знімок якої робиться на старті процесора:
+     * сортування масиву в одному процесорі не впливає на вхідні дані інших.</p>
      */
     private void runAllOperations() {
-        System.out.println("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
-        System.out.println("=".repeat(60));
-        
-        // Обробка List
-        runListOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
-        
-        // Обробка Queue  
-        runQueueOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
-        
-        // Обробка Set
-        runSetOperations();
+        ReportSink.line("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
+        ReportSink.line("=".repeat(60));
+
+        List<ProcessorTask> tasks = List.of(
+                new ProcessorTask("List", this::runListOperations),
+                new ProcessorTask("Queue", this::runQueueOperations),
+                new ProcessorTask("Set", this::runSetOperations));
+
+        long wallClockStart = System.nanoTime();
+        List<ProcessorRun> runs = concurrent ? runConcurrently(tasks) : runSequentially(tasks);
+        long wallClockNs = System.nanoTime() - wallClockStart;
+
+        printExecutionReport(runs, wallClockNs);
+    }
+
+    /**
+     * Запускає процесори один за одним.
+     */
+    private List<ProcessorRun> runSequentially(List<ProcessorTask> tasks) {
+        List<ProcessorRun> runs = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i > 0) {
+                ReportSink.line("\n" + "~".repeat(60) + "\n");
+            }
+            runs.add(tasks.get(i).run(charArray, null));
+        }
+        return runs;
+    }
+
+    /**
+     * Запускає процесори паралельно в пулі з {@code threadCount} потоків.
+     * Виведення кожного процесора накопичується окремо і друкується цілим блоком після завершення.
+     */
+    private List<ProcessorRun> runConcurrently(List<ProcessorTask> tasks) {
+        ThreadOutputCapture capture = ThreadOutputCapture.install();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<ProcessorRun> runs = new ArrayList<>();
+        try {
+            List<Future<ProcessorRun>> futures = new ArrayList<>();
+            for (ProcessorTask task : tasks) {
+                futures.add(executor.submit(() -> task.run(charArray, capture)));
+            }
+            for (Future<ProcessorRun> future : futures) {
+                runs.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ReportSink.error("❌ Паралельне виконання перервано");
+        } catch (ExecutionException e) {
+            ReportSink.error("❌ Помилка паралельного виконання: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+            capture.uninstall();
+        }
+
+        for (int i = 0; i < runs.size(); i++) {
+            if (i > 0) {
+                ReportSink.line("\n" + "~".repeat(60) + "\n");
+            }
+            System.out.print(runs.get(i).output);
+        }
+        return runs;
+    }
+
+    /**
+     * Виводить загальний wall-clock час і час кожного процесора.
+     */
+    private void printExecutionReport(List<ProcessorRun> runs, long wallClockNs) {
+        long totalProcessorNs = runs.stream().mapToLong(run -> run.elapsedNs).sum();
+
+        ReportSink.line("\n⏱  ЗВІТ ВИКОНАННЯ ПРОЦЕСОРІВ (" + (concurrent ? "паралельно" : "послідовно") + ")");
+        ReportSink.line(String.format("%-10s | %14s | %s", "Процесор", "Час (мс)", "Потік"));
+        ReportSink.line("-".repeat(50));
+        for (ProcessorRun run : runs) {
+            ReportSink.line(String.format("%-10s | %14.3f | %s", run.name, run.elapsedNs / 1_000_000.0, run.threadName));
+        }
+        ReportSink.line("-".repeat(50));
+        ReportSink.line(String.format("Загальний час (wall-clock): %.3f мс", wallClockNs / 1_000_000.0));
+        ReportSink.line(String.format("Сума часу процесорів: %.3f мс (прискорення x%.2f)",
+                totalProcessorNs / 1_000_000.0, wallClockNs == 0 ? 0.0 : (double) totalProcessorNs / wallClockNs));
+    }
+
+    /**
+     * Процесор, який запускається на власній копії даних.
+     */
+    private static final class ProcessorTask {
+        private final String name;
+        private final Consumer<Character[]> body;
+
+        ProcessorTask(String name, Consumer<Character[]> body) {
+            this.name = name;
+            this.body = body;
+        }
+
+        /**
+         * Робить знімок даних і виконує процесор, вимірюючи його час.
+         * 
+         * @param source Спільний масив, що не змінюється
+         * @param capture Перехоплення виведення потоку або {@code null}
+         */
+        ProcessorRun run(Character[] source, ThreadOutputCapture capture) {
+            if (capture != null) {
+                capture.startCapture();
+            }
+            long timeStart = System.nanoTime();
+            body.accept(source.clone());
+            long elapsedNs = System.nanoTime() - timeStart;
+            // відкладені записи звіту цього потоку — до кінця перехоплення
+            ReportSink.flush();
+            String output = capture != null ? capture.stopCapture() : "";
+            return new ProcessorRun(name, elapsedNs, Thread.currentThread().getName(), output);
+        }
+    }
+
+    /**
+     * Результат запуску одного процесора.
+     */
+    private static final class ProcessorRun {
+        private final String name;
+        private final long elapsedNs;
+        private final String threadName;
+        private final String output;
+
+        ProcessorRun(String name, long elapsedNs, String threadName, String output) {
+            this.name = name;
+            this.elapsedNs = elapsedNs;
+            this.threadName = threadName;
+            this.output = output;
+        }
     }
 }
 // Файл актуален — дополнительных изменений не требуется.
@@ -6,6 +6,8 @@ import java.util.List;
 /**
  * Клас BasicDataOperationUsingList реалізує операції з колекцією Vector<Character>.
  * 
+ * <p>З {@link CollectionBackend#PRIMITIVE} замість Vector використовується {@link CharList}.</p>
+ * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з символами.</li>
@@ -21,6 +23,9 @@ public class BasicDataOperationUsingList {
     private Character charValueToSearch;
     private Character[] charArray;
     private Vector<Character> charList;
+    private CharList primitiveList;
+    private final CollectionBackend backend;
+    private final String listName;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -29,13 +34,31 @@ public class BasicDataOperationUsingList {
      * @param charArray Масив Character
      */
     BasicDataOperationUsingList(Character charValueToSearch, Character[] charArray) {
+        this(charValueToSearch, charArray, CollectionBackend.BOXED);
+    }
+
+    /**
+     * Конструктор з вибором типу колекції.
+     * 
+     * @param charValueToSearch Значення для пошуку
+     * @param charArray Масив Character
+     * @param backend Тип колекції: Vector або CharList
+     */
+    BasicDataOperationUsingList(Character charValueToSearch, Character[] charArray, CollectionBackend backend) {
         this.charValueToSearch = charValueToSearch;
         this.charArray = charArray;
-        this.charList = new Vector<>(Arrays.asList(charArray));
-        System.out.println("\n✅ BasicDataOperationUsingList ініціалізований");
-        System.out.println("   Розмір Vector: " + charList.size());
-        System.out.println("   Розмір масиву: " + charArray.length);
-        System.out.println("   Символ для пошуку: '" + charValueToSearch + "'");
+        this.backend = backend;
+        if (backend == CollectionBackend.PRIMITIVE) {
+            this.primitiveList = CharList.of(charArray);
+            this.listName = "CharList";
+        } else {
+            this.charList = new Vector<>(Arrays.asList(charArray));
+            this.listName = "Vector";
+        }
+        ReportSink.line("\n✅ BasicDataOperationUsingList ініціалізований");
+        ReportSink.line("   Розмір " + listName + ": " + listSize());
+        ReportSink.line("   Розмір масиву: " + charArray.length);
+        ReportSink.line("   Символ для пошуку: '" + charValueToSearch + "'");
     }
     
     /**
@@ -45,70 +68,81 @@ public class BasicDataOperationUsingList {
      * здійснює сортування та пошукові операції.
      */
     public void executeDataOperations() {
-        System.out.println("\n┌─────────────────────────────────────────────┐");
-        System.out.println("│    ОПЕРАЦІЇ З VECTOR<CHARACTER>             │");
-        System.out.println("└─────────────────────────────────────────────┘");
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line(String.format("│    ОПЕРАЦІЇ З %-30s│", listName.toUpperCase() + (backend == CollectionBackend.BOXED ? "<CHARACTER>" : "")));
+        ReportSink.line("└─────────────────────────────────────────────┘");
         
         // робота з Vector
-        System.out.println("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
         findInList();
         locateMinMaxInList();
         
-        System.out.println("\n📊 ЕТАП 2: СОРТУВАННЯ VECTOR");
+        ReportSink.line("\n📊 ЕТАП 2: СОРТУВАННЯ " + listName.toUpperCase());
         sortList();
         
-        System.out.println("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування Vector)");
+        ReportSink.line("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування " + listName + ")");
         findInList();
         locateMinMaxInList();
 
-        System.out.println("\n┌─────────────────────────────────────────────┐");
-        System.out.println("│    ОПЕРАЦІЇ З МАСИВОМ CHARACTER[]           │");
-        System.out.println("└─────────────────────────────────────────────┘");
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line("│    ОПЕРАЦІЇ З МАСИВОМ CHARACTER[]           │");
+        ReportSink.line("└─────────────────────────────────────────────┘");
 
         // потім масив
-        System.out.println("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
         findInArray();
         locateMinMaxInArray();
 
-        System.out.println("\n📊 ЕТАП 2: СОРТУВАННЯ МАСИВУ");
+        ReportSink.line("\n📊 ЕТАП 2: СОРТУВАННЯ МАСИВУ");
         performArraySorting();
         
-        System.out.println("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування)");
+        ReportSink.line("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування)");
         findInArray();
         locateMinMaxInArray();
 
-        System.out.println("\n💾 ЕТАП 4: ЗБЕРЕЖЕННЯ ВІДСОРТОВАНОГО МАСИВУ");
-        // зберігаємо відсортований масив до окремого файлу
-        DataFileHandler.writeArrayToFile(charArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
-        System.out.println("✅ Масив успішно збережено в файл");
+        ReportSink.line("\n💾 ЕТАП 4: ЗБЕРЕЖЕННЯ ВІДСОРТОВАНОГО МАСИВУ");
+        // зберігаємо відсортований масив до окремого файлу, якщо актуального ще немає
+        if (SortedOutputCache.store(charArray, BasicDataOperation.characterDataFile())) {
+            ReportSink.line("✅ Масив успішно збережено в файл");
+        } else {
+            ReportSink.line("✅ Файл відсортованого масиву актуальний, запис пропущено");
+        }
     }
 
     /**
      * Упорядковує масив об'єктів LocalDateTime за зростанням.
      * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * Алгоритм (порівнянням або підрахунком) обирає {@link SortEngine}; якщо файл даних не змінився,
+     * відсортований масив береться з {@link SortedOutputCache} без повторного сортування.
      */
     void performArraySorting() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("сортування", "масив", "Character", charArray.length);
+        long timeStart = PerformanceTracker.startOperation();
 
-        Arrays.sort(charArray);
+        boolean restored = SortedOutputCache.restore(charArray, BasicDataOperation.characterDataFile());
+        if (!restored) {
+            SortEngine.sort(charArray);
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву символів");
+        PerformanceTracker.displayOperationTime(timeStart,
+                restored ? "відновлення відсортованого масиву символів з кешу" : "упорядкування масиву символів",
+                charArray.length);
+        DataOperationEvent.finish(event, restored ? DataOperationEvent.FROM_CACHE : DataOperationEvent.DONE);
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     void findInArray() {
-        long timeStart = System.nanoTime();
-
-        int position = Arrays.binarySearch(this.charArray, charValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук символа в масивi");
+        DataOperationEvent event = DataOperationEvent.start("пошук", "масив", "Character", charArray.length);
+        int position = PerformanceTracker.measure("пошук символа в масивi",
+                () -> Arrays.binarySearch(this.charArray, charValueToSearch));
+        DataOperationEvent.finish(event, position >= 0);
 
         if (position >= 0) {
-            System.out.println("Символ '" + charValueToSearch + "' знайдено в масивi за позицією: " + position);
+            ReportSink.line("Символ '" + charValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
-            System.out.println("Символ '" + charValueToSearch + "' відсутній в масиві.");
+            ReportSink.line("Символ '" + charValueToSearch + "' відсутній в масиві.");
         }
     }
 
@@ -117,11 +151,12 @@ public class BasicDataOperationUsingList {
      */
     void locateMinMaxInArray() {
         if (charArray == null || charArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+            ReportSink.line("Масив є пустим або не ініціалізованим.");
             return;
         }
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", "масив", "Character", charArray.length);
+        long timeStart = PerformanceTracker.startOperation();
 
         Character minValue = charArray[0];
         Character maxValue = charArray[0];
@@ -131,26 +166,28 @@ public class BasicDataOperationUsingList {
             if (c > maxValue) maxValue = c;
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в масивi");
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в масивi", charArray.length);
+        DataOperationEvent.finishRange(event, minValue, maxValue);
 
-        System.out.println("Найменший символ в масивi: " + minValue);
-        System.out.println("Найбільший символ в масивi: " + maxValue);
+        ReportSink.line("Найменший символ в масивi: " + minValue);
+        ReportSink.line("Найбільший символ в масивi: " + maxValue);
     }
 
     /**
      * Шукає конкретне значення дати та часу в колекції ArrayList.
      */
     void findInList() {
-        long timeStart = System.nanoTime();
-
-        int position = Collections.binarySearch(this.charList, charValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук символа в Vector");        
+        DataOperationEvent event = DataOperationEvent.start("пошук", listName, "Character", listSize());
+        int position = PerformanceTracker.measure("пошук символа в " + listName,
+                () -> backend == CollectionBackend.PRIMITIVE
+                        ? primitiveList.binarySearch(charValueToSearch)
+                        : Collections.binarySearch(this.charList, charValueToSearch));
+        DataOperationEvent.finish(event, position >= 0);
 
         if (position >= 0) {
-            System.out.println("Символ '" + charValueToSearch + "' знайдено в Vector за позицією: " + position);
+            ReportSink.line("Символ '" + charValueToSearch + "' знайдено в " + listName + " за позицією: " + position);
         } else {
-            System.out.println("Символ '" + charValueToSearch + "' відсутній в Vector.");
+            ReportSink.line("Символ '" + charValueToSearch + "' відсутній в " + listName + ".");
         }
     }
 
@@ -158,20 +195,29 @@ public class BasicDataOperationUsingList {
      * Визначає найменше і найбільше значення в колекції ArrayList з датами.
      */
     void locateMinMaxInList() {
-        if (charList == null || charList.isEmpty()) {
-            System.out.println("Vector є пустим або не ініціалізованим.");
+        if (listSize() == 0) {
+            ReportSink.line(listName + " є пустим або не ініціалізованим.");
             return;
         }
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", listName, "Character", listSize());
+        long timeStart = PerformanceTracker.startOperation();
 
-        Character minValue = Collections.min(charList);
-        Character maxValue = Collections.max(charList);
+        char minValue;
+        char maxValue;
+        if (backend == CollectionBackend.PRIMITIVE) {
+            minValue = primitiveList.min();
+            maxValue = primitiveList.max();
+        } else {
+            minValue = Collections.min(charList);
+            maxValue = Collections.max(charList);
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в Vector");
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в " + listName, listSize());
+        DataOperationEvent.finishRange(event, minValue, maxValue);
 
-        System.out.println("Найменший символ в Vector: " + minValue);
-        System.out.println("Найбільший символ в Vector: " + maxValue);
+        ReportSink.line("Найменший символ в " + listName + ": " + minValue);
+        ReportSink.line("Найбільший символ в " + listName + ": " + maxValue);
     }
 
     /**
@@ -179,10 +225,26 @@ public class BasicDataOperationUsingList {
      * Відстежує та виводить час виконання операції сортування.
      */
     void sortList() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("сортування", listName, "Character", listSize());
+        long timeStart = PerformanceTracker.startOperation();
 
-        Collections.sort(charList);
+        if (backend == CollectionBackend.PRIMITIVE) {
+            primitiveList.sort();
+        } else {
+            Collections.sort(charList);
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування " + listName + " символiв", listSize());
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування Vector символiв");
+    /**
+     * Повертає розмір активної колекції (Vector або CharList).
+     */
+    private int listSize() {
+        if (backend == CollectionBackend.PRIMITIVE) {
+            return primitiveList == null ? 0 : primitiveList.size();
+        }
+        return charList == null ? 0 : charList.size();
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -13,8 +18,13 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Класс Canary (канарка) з полями: nickname (кличка), singing (співочість)</li>
  *   <li>Comparator для сортування за nickname та singing (обидва за зростанням)</li>
- *   <li>Операції з LinkedHashMap та TreeMap</li>
- *   <li>Аналіз продуктивності обох типів Map</li>
+ *   <li>Операції з LinkedHashMap та TreeMap; LinkedHashMap підтримує і порядок ключів
+ *       ({@link SortedLinkedMap}) без перебудови при кожному впорядкованому читанні</li>
+ *   <li>Зворотний індекс власник → канарки ({@link ValueIndexedMap}) для пошуку та видалення за значенням</li>
+ *   <li>Аналіз продуктивності обох типів Map, {@link OffHeapCanaryMap} (записи поза heap) і
+ *       стовпцевої {@link CanaryTable} (словникове кодування)</li>
+ *   <li>Багатопотоковий режим ({@code --concurrent}, {@link ConcurrentMapWorkload}): ті самі операції
+ *       з N потоків над ConcurrentHashMap, ConcurrentSkipListMap і {@link StripedSortedMap}</li>
  * </ul>
  */
 public class BasicDataOperationUsingMap {
@@ -68,7 +78,7 @@ public class BasicDataOperationUsingMap {
      * Спочатку сортує за nickname за зростанням (A->Z),
      * потім за singing за зростанням (за номерами/буквами) для однакових nickname.
      */
-    private static final Comparator<Canary> CANARY_COMPARATOR = 
+    static final Comparator<Canary> CANARY_COMPARATOR = 
         Comparator.comparing(Canary::nickname).thenComparing(Canary::singing);
 
     private final Canary KEY_TO_SEARCH_AND_DELETE = new Canary("Ажур", "1");
@@ -77,18 +87,43 @@ public class BasicDataOperationUsingMap {
     private final String VALUE_TO_SEARCH_AND_DELETE = "Ганна";
     private final String VALUE_TO_ADD = "Павло";
 
-    private LinkedHashMap<Canary, String> linkedHashMap;
-    private TreeMap<Canary, String> treeMap;
+    private ValueIndexedMap<Canary, String> linkedHashMap;
+    /** Пряма Map під linkedHashMap: порядок додавання й порядок CANARY_COMPARATOR одночасно. */
+    private SortedLinkedMap<Canary, String> sortedLinkedMap;
+    private ValueIndexedMap<Canary, String> treeMap;
+
+    /** Раундів у порівнянні чергування оновлень і впорядкованих читань. */
+    private static final int INTERLEAVED_ROUNDS = 20;
+    /** Скільки перших записів у порядку ключів читається в кожному раунді. */
+    private static final int SORTED_READ_LIMIT = 10;
+
+    private static final long KEY_SEED = 42;
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperationUsingMap [--size=N] [--distribution=РОЗПОДІЛ]\n" +
+"       java BasicDataOperationUsingMap --concurrent [опції]\n" +
+"  --size=N                 записів в аналізі швидкості (за замовчуванням 10000)\n" +
+"  --distribution=РОЗПОДІЛ  клички з DatasetGenerator: uniform, zipf, sorted, reversed, duplicates\n" +
+"                           (за замовчуванням послідовні Canary0, Canary1, ...)\n" +
+"  --report=text|quiet|json|csv  повний звіт, лише підсумкова таблиця або підсумок у JSON/CSV\n" +
+"  --calibration=МС|off     пошук: виміри по МС мілісекунд з прогрівом (за замовчуванням 10); off — один виклик\n" +
+"  --jfr[=ФАЙЛ]             події JFR для кожної операції з Map; з ФАЙЛом ще й запис JFR у файл";
+    /** Кількість записів в аналізі швидкості (опція --size). */
+    private int performanceTestSize = 10000;
+    /** Розподіл кличок в аналізі швидкості (опція --distribution); null — послідовні Canary0, Canary1, ... */
+    private DatasetGenerator.Distribution keyDistribution;
 
     /**
      * Конструктор, який ініціалізує об'єкт з готовими даними.
      * 
+     * <p>Записи LinkedHashMap копіюються в {@link SortedLinkedMap}, яка додатково тримає
+     * ключі в порядку CANARY_COMPARATOR, тож впорядкований обхід не потребує перебудови.</p>
+     * 
      * @param linkedHashMap LinkedHashMap з початковими даними (ключ: Canary, значення: ім'я власника)
      * @param treeMap TreeMap з початковими даними (ключ: Canary, значення: ім'я власника)
      */
     BasicDataOperationUsingMap(LinkedHashMap<Canary, String> linkedHashMap, TreeMap<Canary, String> treeMap) {
-        this.linkedHashMap = linkedHashMap;
-        this.treeMap = treeMap;
+        this.sortedLinkedMap = new SortedLinkedMap<>(linkedHashMap, CANARY_COMPARATOR);
+        this.linkedHashMap = new ValueIndexedMap<>(sortedLinkedMap);
+        this.treeMap = new ValueIndexedMap<>(treeMap);
     }
     
     /**
@@ -98,31 +133,28 @@ public class BasicDataOperationUsingMap {
      */
     public void executeDataOperations() {
         // Спочатку працюємо з LinkedHashMap
-        System.out.println("========= Операції з LinkedHashMap =========");
-        System.out.println("Початковий розмір LinkedHashMap: " + linkedHashMap.size());
+        ReportSink.line("========= Операції з LinkedHashMap =========");
+        ReportSink.line("Початковий розмір LinkedHashMap: " + linkedHashMap.size());
         
-        // Пошук до сортування
         findByKeyInLinkedHashMap();
         findByValueInLinkedHashMap();
 
+        // порядок додавання і порядок ключів — без перебудови Map
         printLinkedHashMap();
-        sortLinkedHashMap();
-        printLinkedHashMap();
-
-        // Пошук після сортування
-        findByKeyInLinkedHashMap();
-        findByValueInLinkedHashMap();
+        printSortedLinkedHashMap();
 
+        // новий запис одразу займає своє місце в порядку ключів
         addEntryToLinkedHashMap();
+        printSortedLinkedHashMap();
         
         removeByKeyFromLinkedHashMap();
         removeByValueFromLinkedHashMap();
                
-        System.out.println("Кінцевий розмір LinkedHashMap: " + linkedHashMap.size());
+        ReportSink.line("Кінцевий розмір LinkedHashMap: " + linkedHashMap.size());
 
         // Потім обробляємо TreeMap
-        System.out.println("\n\n========= Операції з TreeMap =========");
-        System.out.println("Початковий розмір TreeMap: " + treeMap.size());
+        ReportSink.line("\n\n========= Операції з TreeMap =========");
+        ReportSink.line("Початковий розмір TreeMap: " + treeMap.size());
         
         findByKeyInTreeMap();
         findByValueInTreeMap();
@@ -134,7 +166,7 @@ public class BasicDataOperationUsingMap {
         removeByKeyFromTreeMap();
         removeByValueFromTreeMap();
         
-        System.out.println("Кінцевий розмір TreeMap: " + treeMap.size());
+        ReportSink.line("Кінцевий розмір TreeMap: " + treeMap.size());
         
         // Додаємо порівняння продуктивності в кінці
         compareMapPerformance();
@@ -145,37 +177,37 @@ public class BasicDataOperationUsingMap {
     /**
      * Виводить вміст LinkedHashMap без сортування.
      * LinkedHashMap зберігає порядок додавання елементів.
+     * Записи форматуються {@link ReportSink} уже після виміряного обходу.
      */
     private void printLinkedHashMap() {
-        System.out.println("\n=== Пари ключ-значення в LinkedHashMap ===");
-        long timeStart = System.nanoTime();
+        ReportSink.line("\n=== Пари ключ-значення в LinkedHashMap ===");
+        DataOperationEvent event = DataOperationEvent.start("обхід", "LinkedHashMap", "Canary", linkedHashMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
         for (Map.Entry<Canary, String> entry : linkedHashMap.entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+            ReportSink.entry(entry.getKey(), entry.getValue());
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в LinkedHashMap");
+        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в LinkedHashMap", linkedHashMap.size());
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
     }
 
     /**
-     * Сортує LinkedHashMap за ключами.
-     * Використовує CANARY_COMPARATOR для сортування ключів Canary за nickname та singing.
-     * Перезаписує linkedHashMap відсортованими даними.
+     * Виводить LinkedHashMap у порядку ключів (CANARY_COMPARATOR: nickname, потім singing).
+     * Порядок підтримується {@link SortedLinkedMap} при кожному додаванні й видаленні,
+     * тож обхід не копіює й не сортує Map, а порядок додавання зберігається.
      */
-    private void sortLinkedHashMap() {
-        long timeStart = System.nanoTime();
-
-        // Використовуємо CANARY_COMPARATOR для сортування за nickname та singing
-        linkedHashMap = linkedHashMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey(CANARY_COMPARATOR))
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
-
-        PerformanceTracker.displayOperationTime(timeStart, "сортування LinkedHashMap за ключами");
+    private void printSortedLinkedHashMap() {
+        ReportSink.line("\n=== Пари ключ-значення в LinkedHashMap у порядку ключів ===");
+        DataOperationEvent event = DataOperationEvent.start("впорядкований обхід", "LinkedHashMap", "Canary", sortedLinkedMap.size());
+        long timeStart = PerformanceTracker.startOperation();
+
+        for (Map.Entry<Canary, String> entry : sortedLinkedMap.sortedEntrySet()) {
+            ReportSink.entry(entry.getKey(), entry.getValue());
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "впорядкований обхід LinkedHashMap за ключами", sortedLinkedMap.size());
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
     }
 
     /**
@@ -183,39 +215,34 @@ public class BasicDataOperationUsingMap {
      * Використовує Stream API для пошуку за ключем.
      */
     void findByKeyInLinkedHashMap() {
-        long timeStart = System.nanoTime();
-
-        boolean found = linkedHashMap.keySet().stream()
-                .anyMatch(key -> key.equals(KEY_TO_SEARCH_AND_DELETE));
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в LinkedHashMap");
+        DataOperationEvent event = DataOperationEvent.start("пошук за ключем", "LinkedHashMap", "Canary", linkedHashMap.size());
+        boolean found = PerformanceTracker.measure("пошук за ключем в LinkedHashMap",
+                () -> linkedHashMap.keySet().stream()
+                        .anyMatch(key -> key.equals(KEY_TO_SEARCH_AND_DELETE)));
+        DataOperationEvent.finish(event, found);
 
         if (found) {
             String value = linkedHashMap.get(KEY_TO_SEARCH_AND_DELETE);
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+            ReportSink.line("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в LinkedHashMap.");
+            ReportSink.line("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в LinkedHashMap.");
         }
     }
 
     /**
      * Здійснює пошук елемента за значенням в LinkedHashMap.
-     * Використовує Stream API для пошуку за значенням.
+     * Використовує зворотний індекс: O(1) замість проходу по всіх записах.
      */
     void findByValueInLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("пошук за значенням", "LinkedHashMap", "Canary", linkedHashMap.size());
+        Canary foundKey = PerformanceTracker.measure("пошук за значенням в LinkedHashMap",
+                () -> linkedHashMap.findFirstKeyByValue(VALUE_TO_SEARCH_AND_DELETE));
+        DataOperationEvent.finish(event, foundKey != null);
 
-        Map.Entry<Canary, String> foundEntry = linkedHashMap.entrySet().stream()
-                .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-                .findFirst()
-                .orElse(null);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за значенням в LinkedHashMap");
-
-        if (foundEntry != null) {
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Canary: " + foundEntry.getKey());
+        if (foundKey != null) {
+            ReportSink.line("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Canary: " + foundKey);
         } else {
-            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в LinkedHashMap.");
+            ReportSink.line("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в LinkedHashMap.");
         }
     }
 
@@ -223,49 +250,50 @@ public class BasicDataOperationUsingMap {
      * Додає новий запис до LinkedHashMap.
      */
     void addEntryToLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("додавання", "LinkedHashMap", "Canary", linkedHashMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
         linkedHashMap.put(KEY_TO_ADD, VALUE_TO_ADD);
 
         PerformanceTracker.displayOperationTime(timeStart, "додавання запису до LinkedHashMap");
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
 
-        System.out.println("Додано новий запис: Canary='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        ReportSink.line("Додано новий запис: Canary='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
 
     /**
      * Видаляє запис з LinkedHashMap за ключем.
      */
     void removeByKeyFromLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("видалення за ключем", "LinkedHashMap", "Canary", linkedHashMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
         String removedValue = linkedHashMap.remove(KEY_TO_SEARCH_AND_DELETE);
 
         PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з LinkedHashMap");
+        DataOperationEvent.finish(event, removedValue != null);
 
         if (removedValue != null) {
-            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+            ReportSink.line("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
         } else {
-            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+            ReportSink.line("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
         }
     }
 
     /**
      * Видаляє записи з LinkedHashMap за значенням.
-     * Використовує Stream API для фільтрування та видалення.
+     * Використовує зворотний індекс: вартість пропорційна кількості видалених записів.
      */
     void removeByValueFromLinkedHashMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("видалення за значенням", "LinkedHashMap", "Canary", linkedHashMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
-        List<Canary> keysToRemove = linkedHashMap.entrySet().stream()
-                .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        keysToRemove.forEach(linkedHashMap::remove);
+        List<Canary> keysToRemove = linkedHashMap.removeByValue(VALUE_TO_SEARCH_AND_DELETE);
 
         PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з LinkedHashMap");
+        DataOperationEvent.finish(event, !keysToRemove.isEmpty());
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        ReportSink.line("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
     }
 
     // ===== Методи для TreeMap =====
@@ -273,16 +301,19 @@ public class BasicDataOperationUsingMap {
     /**
      * Виводить вміст TreeMap.
      * TreeMap автоматично відсортована за ключами (Canary nickname та singing за зростанням).
+     * Записи форматуються {@link ReportSink} уже після виміряного обходу.
      */
     private void printTreeMap() {
-        System.out.println("\n=== Пари ключ-значення в TreeMap ===");
+        ReportSink.line("\n=== Пари ключ-значення в TreeMap ===");
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("обхід", "TreeMap", "Canary", treeMap.size());
+        long timeStart = PerformanceTracker.startOperation();
         for (Map.Entry<Canary, String> entry : treeMap.entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+            ReportSink.entry(entry.getKey(), entry.getValue());
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пар ключ-значення в TreeMap");
+        PerformanceTracker.displayOperationTime(timeStart, "виведення пар ключ-значення в TreeMap", treeMap.size());
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
     }
 
     /**
@@ -290,39 +321,34 @@ public class BasicDataOperationUsingMap {
      * Використовує Stream API для пошуку за ключем.
      */
     void findByKeyInTreeMap() {
-        long timeStart = System.nanoTime();
-
-        boolean found = treeMap.keySet().stream()
-                .anyMatch(key -> key.equals(KEY_TO_SEARCH_AND_DELETE));
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в TreeMap");
+        DataOperationEvent event = DataOperationEvent.start("пошук за ключем", "TreeMap", "Canary", treeMap.size());
+        boolean found = PerformanceTracker.measure("пошук за ключем в TreeMap",
+                () -> treeMap.keySet().stream()
+                        .anyMatch(key -> key.equals(KEY_TO_SEARCH_AND_DELETE)));
+        DataOperationEvent.finish(event, found);
 
         if (found) {
             String value = treeMap.get(KEY_TO_SEARCH_AND_DELETE);
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+            ReportSink.line("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
+            ReportSink.line("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
         }
     }
 
     /**
      * Здійснює пошук елемента за значенням в TreeMap.
-     * Використовує Stream API для пошуку за значенням.
+     * Використовує зворотний індекс: O(1) замість проходу по всіх записах.
      */
     void findByValueInTreeMap() {
-        long timeStart = System.nanoTime();
-
-        Map.Entry<Canary, String> foundEntry = treeMap.entrySet().stream()
-                .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-                .findFirst()
-                .orElse(null);
+        DataOperationEvent event = DataOperationEvent.start("пошук за значенням", "TreeMap", "Canary", treeMap.size());
+        Canary foundKey = PerformanceTracker.measure("пошук за значенням в TreeMap",
+                () -> treeMap.findFirstKeyByValue(VALUE_TO_SEARCH_AND_DELETE));
+        DataOperationEvent.finish(event, foundKey != null);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за значенням в TreeMap");
-
-        if (foundEntry != null) {
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Canary: " + foundEntry.getKey());
+        if (foundKey != null) {
+            ReportSink.line("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Canary: " + foundKey);
         } else {
-            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
+            ReportSink.line("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
         }
     }
 
@@ -330,49 +356,50 @@ public class BasicDataOperationUsingMap {
      * Додає новий запис до TreeMap.
      */
     void addEntryToTreeMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("додавання", "TreeMap", "Canary", treeMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
         treeMap.put(KEY_TO_ADD, VALUE_TO_ADD);
 
         PerformanceTracker.displayOperationTime(timeStart, "додавання запису до TreeMap");
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
 
-        System.out.println("Додано новий запис: Canary='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        ReportSink.line("Додано новий запис: Canary='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
 
     /**
      * Видаляє запис з TreeMap за ключем.
      */
     void removeByKeyFromTreeMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("видалення за ключем", "TreeMap", "Canary", treeMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
         String removedValue = treeMap.remove(KEY_TO_SEARCH_AND_DELETE);
 
         PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з TreeMap");
+        DataOperationEvent.finish(event, removedValue != null);
 
         if (removedValue != null) {
-            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+            ReportSink.line("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
         } else {
-            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+            ReportSink.line("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
         }
     }
 
     /**
      * Видаляє записи з TreeMap за значенням.
-     * Використовує Stream API для фільтрування та видалення.
+     * Використовує зворотний індекс: вартість пропорційна кількості видалених записів.
      */
     void removeByValueFromTreeMap() {
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("видалення за значенням", "TreeMap", "Canary", treeMap.size());
+        long timeStart = PerformanceTracker.startOperation();
 
-        List<Canary> keysToRemove = treeMap.entrySet().stream()
-                .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        keysToRemove.forEach(treeMap::remove);
+        List<Canary> keysToRemove = treeMap.removeByValue(VALUE_TO_SEARCH_AND_DELETE);
 
         PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з TreeMap");
+        DataOperationEvent.finish(event, !keysToRemove.isEmpty());
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        ReportSink.line("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
     }
 
     /**
@@ -380,69 +407,240 @@ public class BasicDataOperationUsingMap {
      * Аналізує швидкість обробки даних для операцій додавання та пошуку.
      */
     private void compareMapPerformance() {
-        System.out.println("\n\n=== АНАЛІЗ ШВИДКОСТІ ОБРОБКИ ДАНИХ ===\n");
+        ReportSink.line("\n\n=== АНАЛІЗ ШВИДКОСТІ ОБРОБКИ ДАНИХ ===\n");
         
-        int testSize = 10000;
+        int testSize = performanceTestSize;
         
         // Підготовка тестових даних
-        System.out.println("📊 Тестування з " + testSize + " елементами\n");
+        Canary[] testKeys = new Canary[testSize];
+        String[] testOwners = new String[testSize];
+        String[] nicknames = keyDistribution == null ? null
+                : new DatasetGenerator(keyDistribution, KEY_SEED).strings(testSize);
+        for (int i = 0; i < testSize; i++) {
+            testKeys[i] = nicknames == null
+                    ? new Canary("Canary" + i, String.valueOf(i % 5))
+                    : new Canary(nicknames[i], String.valueOf(1 + i % 5));
+            testOwners[i] = "Owner" + i;
+        }
+        ReportSink.line("📊 Тестування з " + testSize + " елементами (ключі: "
+                + (keyDistribution == null ? "послідовні Canary0, Canary1, ..." : "розподіл " + keyDistribution) + ")\n");
         
         // ===== LinkedHashMap =====
-        System.out.println("1️⃣  LinkedHashMap:");
-        System.out.println("-".repeat(50));
+        ReportSink.line("1️⃣  LinkedHashMap:");
+        ReportSink.line("-".repeat(50));
         LinkedHashMap<Canary, String> linkedMap = new LinkedHashMap<>();
         
         long startTime = System.nanoTime();
         for (int i = 0; i < testSize; i++) {
-            linkedMap.put(new Canary("Canary" + i, String.valueOf(i % 5)), "Owner" + i);
+            linkedMap.put(testKeys[i], testOwners[i]);
         }
         long linkedMapAddTime = System.nanoTime() - startTime;
-        PerformanceTracker.displayOperationTime(System.nanoTime() - linkedMapAddTime, "додавання " + testSize + " елементів");
+        PerformanceTracker.displayElapsedTime(linkedMapAddTime, "додавання " + testSize + " елементів до LinkedHashMap");
         
         startTime = System.nanoTime();
         for (int i = 0; i < testSize / 2; i++) {
-            linkedMap.get(new Canary("Canary" + i, String.valueOf(i % 5)));
+            linkedMap.get(testKeys[i]);
         }
         long linkedMapSearchTime = System.nanoTime() - startTime;
-        PerformanceTracker.displayOperationTime(System.nanoTime() - linkedMapSearchTime, "пошук " + (testSize / 2) + " елементів");
+        PerformanceTracker.displayElapsedTime(linkedMapSearchTime, "пошук " + (testSize / 2) + " елементів в LinkedHashMap");
         
         // ===== TreeMap з CANARY_COMPARATOR =====
-        System.out.println("\n2️⃣  TreeMap (з Comparator):");
-        System.out.println("-".repeat(50));
+        ReportSink.line("\n2️⃣  TreeMap (з Comparator):");
+        ReportSink.line("-".repeat(50));
         TreeMap<Canary, String> treeMapTest = new TreeMap<>(CANARY_COMPARATOR);
         
         startTime = System.nanoTime();
         for (int i = 0; i < testSize; i++) {
-            treeMapTest.put(new Canary("Canary" + i, String.valueOf(i % 5)), "Owner" + i);
+            treeMapTest.put(testKeys[i], testOwners[i]);
         }
         long treeMapAddTime = System.nanoTime() - startTime;
-        PerformanceTracker.displayOperationTime(System.nanoTime() - treeMapAddTime, "додавання " + testSize + " елементів");
+        PerformanceTracker.displayElapsedTime(treeMapAddTime, "додавання " + testSize + " елементів до TreeMap");
         
         startTime = System.nanoTime();
         for (int i = 0; i < testSize / 2; i++) {
-            treeMapTest.get(new Canary("Canary" + i, String.valueOf(i % 5)));
+            treeMapTest.get(testKeys[i]);
         }
         long treeMapSearchTime = System.nanoTime() - startTime;
-        PerformanceTracker.displayOperationTime(System.nanoTime() - treeMapSearchTime, "пошук " + (testSize / 2) + " елементів");
+        PerformanceTracker.displayElapsedTime(treeMapSearchTime, "пошук " + (testSize / 2) + " елементів в TreeMap");
+
+        // ===== OffHeapCanaryMap =====
+        ReportSink.line("\n3️⃣  OffHeapCanaryMap (дані поза heap):");
+        ReportSink.line("-".repeat(50));
+        OffHeapCanaryMap offHeapMap = new OffHeapCanaryMap();
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < testSize; i++) {
+            offHeapMap.put(testKeys[i], testOwners[i]);
+        }
+        long offHeapMapAddTime = System.nanoTime() - startTime;
+        PerformanceTracker.displayElapsedTime(offHeapMapAddTime, "додавання " + testSize + " елементів до OffHeapCanaryMap");
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < testSize / 2; i++) {
+            offHeapMap.get(testKeys[i]);
+        }
+        long offHeapMapSearchTime = System.nanoTime() - startTime;
+        PerformanceTracker.displayElapsedTime(offHeapMapSearchTime, "пошук " + (testSize / 2) + " елементів в OffHeapCanaryMap");
+        ReportSink.line("  Direct-пам'ять: " + offHeapMap.offHeapBytes() / 1024 + " КБ");
+
+        // ===== CanaryTable =====
+        ReportSink.line("\n4️⃣  CanaryTable (стовпці зі словниковим кодуванням):");
+        ReportSink.line("-".repeat(50));
+
+        startTime = System.nanoTime();
+        CanaryTable canaryTable = CanaryTable.of(linkedMap);
+        long canaryTableBuildTime = System.nanoTime() - startTime;
+        PerformanceTracker.displayElapsedTime(canaryTableBuildTime, "побудова CanaryTable з " + testSize + " елементів (з сортуванням)");
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < testSize / 2; i++) {
+            canaryTable.get(testKeys[i]);
+        }
+        long canaryTableSearchTime = System.nanoTime() - startTime;
+        PerformanceTracker.displayElapsedTime(canaryTableSearchTime, "пошук " + (testSize / 2) + " елементів в CanaryTable");
+        ReportSink.line("  Стовпці: " + canaryTable.columnBytes() / 1024 + " КБ, рядків у словниках: "
+                + canaryTable.dictionaryEntries());
+
+        // ===== Чергування оновлень і впорядкованих читань =====
+        int rounds = Math.min(INTERLEAVED_ROUNDS, testSize);
+        ReportSink.line("\n5️⃣  Оновлення + впорядковане читання (" + rounds + " раундів: додавання "
+                + testSize / rounds + " записів, потім перші " + SORTED_READ_LIMIT + " у порядку ключів):");
+        ReportSink.line("-".repeat(50));
+
+        long rebuildTime = measureInterleaved(new LinkedHashMap<>(), rounds, testKeys, testOwners,
+                map -> map.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey(CANARY_COMPARATOR))
+                        .collect(Collectors.toMap(
+                                Map.Entry::getKey,
+                                Map.Entry::getValue,
+                                (e1, e2) -> e1,
+                                LinkedHashMap::new
+                        )).entrySet());
+        PerformanceTracker.displayElapsedTime(rebuildTime, "LinkedHashMap з перебудовою сортуванням");
+
+        long sortedLinkedTime = measureInterleaved(new SortedLinkedMap<>(CANARY_COMPARATOR), rounds, testKeys, testOwners,
+                map -> ((SortedLinkedMap<Canary, String>) map).sortedEntrySet());
+        PerformanceTracker.displayElapsedTime(sortedLinkedTime, "SortedLinkedMap (порядок підтримується при оновленні)");
+
+        long treeMapInterleavedTime = measureInterleaved(new TreeMap<>(CANARY_COMPARATOR), rounds, testKeys, testOwners,
+                Map::entrySet);
+        PerformanceTracker.displayElapsedTime(treeMapInterleavedTime, "TreeMap (без порядку додавання)");
         
         // ===== Підсумок =====
-        System.out.println("\n\n📈 ПОРІВНЯЛЬНА ТАБЛИЦЯ:\n");
-        System.out.println(String.format("%-25s | %-20s | %-20s", "Операція", "LinkedHashMap", "TreeMap"));
-        System.out.println("-".repeat(70));
-        System.out.println(String.format("%-25s | %-20d | %-20d", "Додавання (мкс)", linkedMapAddTime / 1000, treeMapAddTime / 1000));
-        System.out.println(String.format("%-25s | %-20d | %-20d", "Пошук (мкс)", linkedMapSearchTime / 1000, treeMapSearchTime / 1000));
-        System.out.println("-".repeat(70));
+        ReportSink.line("\n\n📈 ПОРІВНЯЛЬНА ТАБЛИЦЯ:\n");
+        ReportSink.line(String.format("%-25s | %-20s | %-20s | %-20s | %-20s", "Операція", "LinkedHashMap", "TreeMap", "OffHeapCanaryMap", "CanaryTable"));
+        ReportSink.line("-".repeat(116));
+        ReportSink.line(String.format("%-25s | %-20d | %-20d | %-20d | %-20d", "Додавання (мкс)",
+                linkedMapAddTime / 1000, treeMapAddTime / 1000, offHeapMapAddTime / 1000, canaryTableBuildTime / 1000));
+        ReportSink.line(String.format("%-25s | %-20d | %-20d | %-20d | %-20d", "Пошук (мкс)",
+                linkedMapSearchTime / 1000, treeMapSearchTime / 1000, offHeapMapSearchTime / 1000, canaryTableSearchTime / 1000));
+        ReportSink.line("-".repeat(116));
         
-        System.out.println("\n\n📌 ВИСНОВКИ:");
-        System.out.println("• LinkedHashMap: збереження порядку вставки, швидкий пошук O(1)");
-        System.out.println("• TreeMap: автоматичне сортування за Comparator, але повільніше O(log n)");
-        System.out.println("• TreeMap завжди відсортована, тоді як LinkedHashMap потребує явного сортування");
+        ReportSink.line("\n\n📌 ВИСНОВКИ:");
+        ReportSink.line("• LinkedHashMap: збереження порядку вставки, швидкий пошук O(1)");
+        ReportSink.line("• TreeMap: автоматичне сортування за Comparator, але повільніше O(log n)");
+        ReportSink.line("• TreeMap завжди відсортована, тоді як LinkedHashMap потребує явного сортування");
+        ReportSink.line("• SortedLinkedMap: порядок додавання і порядок ключів разом, O(log n) на оновлення без перебудови");
+        ReportSink.line("• OffHeapCanaryMap: записи в UTF-8 поза heap, без об'єктів на запис — GC не залежить від розміру Map");
+        ReportSink.line("• CanaryTable: незмінні стовпці int/byte, сортування й порівняння ключів на ідентифікаторах словників");
+    }
+
+    /**
+     * Вимірює чергування оновлень і впорядкованих читань: у кожному раунді до Map додається
+     * наступна порція ключів, після чого читаються перші записи в порядку ключів.
+     *
+     * @param sortedView Записи Map у порядку CANARY_COMPARATOR
+     * @return Загальний час у наносекундах
+     */
+    private static long measureInterleaved(Map<Canary, String> map, int rounds, Canary[] keys, String[] owners,
+                                           Function<Map<Canary, String>, Set<Map.Entry<Canary, String>>> sortedView) {
+        long startTime = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            int from = (int) ((long) keys.length * round / rounds);
+            int to = (int) ((long) keys.length * (round + 1) / rounds);
+            for (int i = from; i < to; i++) {
+                map.put(keys[i], owners[i]);
+            }
+            Iterator<Map.Entry<Canary, String>> sorted = sortedView.apply(map).iterator();
+            for (int read = 0; read < SORTED_READ_LIMIT && sorted.hasNext(); read++) {
+                sorted.next();
+            }
+        }
+        return System.nanoTime() - startTime;
     }
 
     /**
      * Головний метод для запуску програми.
      */
     public static void main(String[] args) {
+        List<String> options = new ArrayList<>();
+        String jfrFile = null;
+        try {
+            for (String option : args) {
+                if (option.startsWith("--report=")) {
+                    ReportSink.setFormat(ReportSink.Format.fromOption(option.substring("--report=".length())));
+                } else if (option.equals("--jfr")) {
+                    DataOperationEvent.setEnabled(true);
+                } else if (option.startsWith("--jfr=") && option.length() > "--jfr=".length()) {
+                    jfrFile = option.substring("--jfr=".length());
+                } else if (option.equals("--calibration=off")) {
+                    PerformanceTracker.setCalibrationTime(0);
+                } else if (option.startsWith("--calibration=")) {
+                    PerformanceTracker.setCalibrationTime(Long.parseLong(option.substring("--calibration=".length())));
+                } else {
+                    options.add(option);
+                }
+            }
+        } catch (NumberFormatException e) {
+            ReportSink.error("Помилка: --calibration очікує кількість мілісекунд або off");
+            System.out.println(USAGE_MESSAGE);
+            return;
+        } catch (IllegalArgumentException e) {
+            ReportSink.error("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        args = options.toArray(new String[0]);
+
+        if (options.contains("--concurrent")) {
+            ConcurrentMapWorkload workload;
+            try {
+                workload = ConcurrentMapWorkload.fromOptions(args);
+            } catch (IllegalArgumentException e) {
+                ReportSink.error("Помилка: " + e.getMessage());
+                System.out.println(ConcurrentMapWorkload.USAGE_MESSAGE);
+                return;
+            }
+            workload.run();
+            PerformanceTracker.printSummary();
+            return;
+        }
+
+        int performanceTestSize = 10000;
+        DatasetGenerator.Distribution keyDistribution = null;
+        try {
+            for (String option : args) {
+                if (option.startsWith("--size=")) {
+                    performanceTestSize = Integer.parseInt(option.substring("--size=".length()));
+                    if (performanceTestSize <= 0) {
+                        throw new IllegalArgumentException("--size очікує додатне ціле число, отримано: " + performanceTestSize);
+                    }
+                } else if (option.startsWith("--distribution=")) {
+                    keyDistribution = DatasetGenerator.Distribution.fromOption(option.substring("--distribution=".length()));
+                } else {
+                    throw new IllegalArgumentException("невідома опція " + option);
+                }
+            }
+        } catch (NumberFormatException e) {
+            ReportSink.error("Помилка: --size очікує ціле число");
+            System.out.println(USAGE_MESSAGE);
+            return;
+        } catch (IllegalArgumentException e) {
+            ReportSink.error("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
         // Створюємо початкові дані для LinkedHashMap
         LinkedHashMap<Canary, String> linkedHashMap = new LinkedHashMap<>();
         linkedHashMap.put(new Canary("Ажур", "1"), "Василь");
@@ -470,6 +668,25 @@ public class BasicDataOperationUsingMap {
         treeMap.put(new Canary("Зоренька", "5"), "Оксана");
 
         BasicDataOperationUsingMap operations = new BasicDataOperationUsingMap(linkedHashMap, treeMap);
-        operations.executeDataOperations();
+        operations.performanceTestSize = performanceTestSize;
+        operations.keyDistribution = keyDistribution;
+        if (jfrFile != null) {
+            try {
+                DataOperationEvent.startRecording(jfrFile);
+            } catch (UncheckedIOException e) {
+                ReportSink.error("Помилка: не вдалося запустити запис JFR: " + e.getCause().getMessage());
+                return;
+            }
+        }
+        try {
+            operations.executeDataOperations();
+            PerformanceTracker.printSummary();
+        } finally {
+            String recordingFile = DataOperationEvent.stopRecording();
+            if (recordingFile != null) {
+                ReportSink.line("\n🎞 Запис JFR збережено у файл " + recordingFile);
+                ReportSink.flush();
+            }
+        }
     }
 }
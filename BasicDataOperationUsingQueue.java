@@ -5,84 +5,132 @@ import java.util.Queue;
 
 /**
  * Клас BasicDataOperationUsingQueue реалізує операції з чергою PriorityQueue для Character.
+ * 
+ * <p>З {@link CollectionBackend#PRIMITIVE} замість PriorityQueue використовується {@link CharHeap}.</p>
+ * 
+ * <p>Пошук і мін/макс до операцій peek/poll виконуються і в самій черзі, і в
+ * {@link CharFrequencyIndex} — окремими рядками звіту: PriorityQueue.contains і пошук
+ * максимуму — лінійні проходи, а індекс відповідає за O(1).</p>
  */
 public class BasicDataOperationUsingQueue {
     private Character charValueToSearch;
     private Character[] charArray;
     private Queue<Character> charQueue;
+    private CharHeap primitiveQueue;
+    private final CharFrequencyIndex frequencyIndex;
+    private final CollectionBackend backend;
+    private final String queueName;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      */
     BasicDataOperationUsingQueue(Character charValueToSearch, Character[] charArray) {
+        this(charValueToSearch, charArray, CollectionBackend.BOXED);
+    }
+
+    /**
+     * Конструктор з вибором типу колекції: PriorityQueue або CharHeap.
+     */
+    BasicDataOperationUsingQueue(Character charValueToSearch, Character[] charArray, CollectionBackend backend) {
+        this(charValueToSearch, charArray, backend, CharFrequencyIndex.of(charArray));
+    }
+
+    /**
+     * Конструктор з готовим частотним індексом тих самих даних.
+     * 
+     * @param frequencyIndex Індекс, побудований з вмісту {@code charArray}
+     */
+    BasicDataOperationUsingQueue(Character charValueToSearch, Character[] charArray, CollectionBackend backend,
+            CharFrequencyIndex frequencyIndex) {
         this.charValueToSearch = charValueToSearch;
         this.charArray = charArray;
-        this.charQueue = new PriorityQueue<>(Arrays.asList(charArray));
-        System.out.println("\n✅ BasicDataOperationUsingQueue ініціалізована");
-        System.out.println("   Розмір PriorityQueue: " + charQueue.size());
-        System.out.println("   Розмір масиву: " + charArray.length);
-        System.out.println("   Символ для пошуку: '" + charValueToSearch + "'");
+        this.backend = backend;
+        this.frequencyIndex = frequencyIndex;
+        if (backend == CollectionBackend.PRIMITIVE) {
+            this.primitiveQueue = CharHeap.of(charArray);
+            this.queueName = "CharHeap";
+        } else {
+            this.charQueue = new PriorityQueue<>(Arrays.asList(charArray));
+            this.queueName = "PriorityQueue";
+        }
+        ReportSink.line("\n✅ BasicDataOperationUsingQueue ініціалізована");
+        ReportSink.line("   Розмір " + queueName + ": " + queueSize());
+        ReportSink.line("   Розмір масиву: " + charArray.length);
+        ReportSink.line("   Символ для пошуку: '" + charValueToSearch + "'");
     }
 
     /**
      * Запускає комплексну обробку даних з використанням черги.
      */
     public void runDataProcessing() {
-        System.out.println("\n┌─────────────────────────────────────────────┐");
-        System.out.println("│    ОПЕРАЦІЇ З PRIORITYQUEUE<CHARACTER>       │");
-        System.out.println("└─────────────────────────────────────────────┘");
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line(String.format("│    ОПЕРАЦІЇ З %-31s│", queueName.toUpperCase() + (backend == CollectionBackend.BOXED ? "<CHARACTER>" : "")));
+        ReportSink.line("└─────────────────────────────────────────────┘");
         
         // спочатку працюємо з чергою
-        System.out.println("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до операцій з чергою)");
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до операцій з чергою)");
         findInQueue();
         locateMinMaxInQueue();
         
-        System.out.println("\n📋 ЕТАП 2: БАЗОВІ ОПЕРАЦІЇ З PRIORITYQUEUE (peek, poll)");
+        ReportSink.line("\n📋 ЕТАП 2: БАЗОВІ ОПЕРАЦІЇ З " + queueName.toUpperCase() + " (peek, poll)");
         performQueueOperations();
 
-        System.out.println("\n┌─────────────────────────────────────────────┐");
-        System.out.println("│    ОПЕРАЦІЇ З МАСИВОМ CHARACTER[]           │");
-        System.out.println("└─────────────────────────────────────────────┘");
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line("│    ОПЕРАЦІЇ З МАСИВОМ CHARACTER[]           │");
+        ReportSink.line("└─────────────────────────────────────────────┘");
 
         // потім з масивом
-        System.out.println("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
         findInArray();
         locateMinMaxInArray();
 
-        System.out.println("\n📊 ЕТАП 2: СОРТУВАННЯ МАСИВУ");
+        ReportSink.line("\n📊 ЕТАП 2: СОРТУВАННЯ МАСИВУ");
         performArraySorting();
 
-        System.out.println("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування)");
+        ReportSink.line("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування)");
         findInArray();
         locateMinMaxInArray();
 
-        System.out.println("\n💾 ЕТАП 4: ЗБЕРЕЖЕННЯ ВІДСОРТОВАНОГО МАСИВУ");
-        // зберігаємо відсортований масив
-        DataFileHandler.writeArrayToFile(charArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
-        System.out.println("✅ Масив успішно збережено в файл");
+        ReportSink.line("\n💾 ЕТАП 4: ЗБЕРЕЖЕННЯ ВІДСОРТОВАНОГО МАСИВУ");
+        // зберігаємо відсортований масив, якщо актуального файлу ще немає
+        if (SortedOutputCache.store(charArray, BasicDataOperation.characterDataFile())) {
+            ReportSink.line("✅ Масив успішно збережено в файл");
+        } else {
+            ReportSink.line("✅ Файл відсортованого масиву актуальний, запис пропущено");
+        }
     }
 
     /**
      * Упорядковує масив символів.
+     * Алгоритм (порівнянням або підрахунком) обирає {@link SortEngine}; якщо файл даних не змінився,
+     * відсортований масив береться з {@link SortedOutputCache} без повторного сортування.
      */
     private void performArraySorting() {
-        long timeStart = System.nanoTime();
-        Arrays.sort(charArray);
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву символів");
+        DataOperationEvent event = DataOperationEvent.start("сортування", "масив", "Character", charArray.length);
+        long timeStart = PerformanceTracker.startOperation();
+        boolean restored = SortedOutputCache.restore(charArray, BasicDataOperation.characterDataFile());
+        if (!restored) {
+            SortEngine.sort(charArray);
+        }
+        PerformanceTracker.displayOperationTime(timeStart,
+                restored ? "відновлення відсортованого масиву символів з кешу" : "упорядкування масиву символів",
+                charArray.length);
+        DataOperationEvent.finish(event, restored ? DataOperationEvent.FROM_CACHE : DataOperationEvent.DONE);
     }
 
     /**
      * Пошук символа в масиві.
      */
     private void findInArray() {
-        long timeStart = System.nanoTime();
-        int position = Arrays.binarySearch(this.charArray, charValueToSearch);
-        PerformanceTracker.displayOperationTime(timeStart, "пошук символа в масивi");
+        DataOperationEvent event = DataOperationEvent.start("пошук", "масив", "Character", charArray.length);
+        int position = PerformanceTracker.measure("пошук символа в масивi",
+                () -> Arrays.binarySearch(this.charArray, charValueToSearch));
+        DataOperationEvent.finish(event, position >= 0);
 
         if (position >= 0) {
-            System.out.println("Символ '" + charValueToSearch + "' знайдено в масивi за позицією: " + position);
+            ReportSink.line("Символ '" + charValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
-            System.out.println("Символ '" + charValueToSearch + "' відсутній в масиві.");
+            ReportSink.line("Символ '" + charValueToSearch + "' відсутній в масиві.");
         }
     }
 
@@ -91,11 +139,12 @@ public class BasicDataOperationUsingQueue {
      */
     private void locateMinMaxInArray() {
         if (charArray == null || charArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+            ReportSink.line("Масив є пустим або не ініціалізованим.");
             return;
         }
 
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", "масив", "Character", charArray.length);
+        long timeStart = PerformanceTracker.startOperation();
         Character minValue = charArray[0];
         Character maxValue = charArray[0];
 
@@ -104,42 +153,73 @@ public class BasicDataOperationUsingQueue {
             if (c > maxValue) maxValue = c;
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в масивi");
-        System.out.println("Найменший символ в масивi: " + minValue);
-        System.out.println("Найбільший символ в масивi: " + maxValue);
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в масивi", charArray.length);
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+        ReportSink.line("Найменший символ в масивi: " + minValue);
+        ReportSink.line("Найбільший символ в масивi: " + maxValue);
     }
 
     /**
-     * Пошук символа в черзі.
+     * Пошук символа в черзі, а потім — у частотному індексі тих самих даних
+     * (черга ще не змінювалась).
      */
     private void findInQueue() {
-        long timeStart = System.nanoTime();
-        boolean found = charQueue.contains(charValueToSearch);
-        PerformanceTracker.displayOperationTime(timeStart, "пошук символа в PriorityQueue");
+        DataOperationEvent event = DataOperationEvent.start("пошук", queueName, "Character", queueSize());
+        boolean found = PerformanceTracker.measure("пошук символа в " + queueName,
+                () -> backend == CollectionBackend.PRIMITIVE
+                        ? primitiveQueue.contains(charValueToSearch)
+                        : charQueue.contains(charValueToSearch));
+        DataOperationEvent.finish(event, found);
 
         if (found) {
-            System.out.println("Символ '" + charValueToSearch + "' знайдено в PriorityQueue");
+            ReportSink.line("Символ '" + charValueToSearch + "' знайдено в " + queueName);
         } else {
-            System.out.println("Символ '" + charValueToSearch + "' відсутній в PriorityQueue");
+            ReportSink.line("Символ '" + charValueToSearch + "' відсутній в " + queueName);
+        }
+
+        event = DataOperationEvent.start("пошук", "CharFrequencyIndex", "Character", charArray.length);
+        boolean indexed = PerformanceTracker.measure("пошук символа в CharFrequencyIndex",
+                () -> frequencyIndex.contains(charValueToSearch));
+        DataOperationEvent.finish(event, indexed);
+
+        if (indexed) {
+            ReportSink.line("CharFrequencyIndex: входжень '" + charValueToSearch + "': " + frequencyIndex.count(charValueToSearch)
+                    + ", менших символів: " + frequencyIndex.rank(charValueToSearch));
         }
     }
 
     /**
-     * Пошук мін/макс значень в черзі.
+     * Пошук мін/макс значень в черзі, а потім — у частотному індексі тих самих даних
+     * (черга ще не змінювалась).
      */
     private void locateMinMaxInQueue() {
-        if (charQueue == null || charQueue.isEmpty()) {
-            System.out.println("PriorityQueue є пустою або не ініціалізованою.");
+        if (queueSize() == 0) {
+            ReportSink.line(queueName + " є пустою або не ініціалізованою.");
             return;
         }
 
-        long timeStart = System.nanoTime();
-        Character minValue = Collections.min(charQueue);
-        Character maxValue = Collections.max(charQueue);
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", queueName, "Character", queueSize());
+        long timeStart = PerformanceTracker.startOperation();
+        char minValue;
+        char maxValue;
+        if (backend == CollectionBackend.PRIMITIVE) {
+            minValue = primitiveQueue.min();
+            maxValue = primitiveQueue.max();
+        } else {
+            minValue = Collections.min(charQueue);
+            maxValue = Collections.max(charQueue);
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в PriorityQueue");
-        System.out.println("Найменший символ в PriorityQueue: " + minValue);
-        System.out.println("Найбільший символ в PriorityQueue: " + maxValue);
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в " + queueName, queueSize());
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+        ReportSink.line("Найменший символ в " + queueName + ": " + minValue);
+        ReportSink.line("Найбільший символ в " + queueName + ": " + maxValue);
+
+        event = DataOperationEvent.start("мін/макс", "CharFrequencyIndex", "Character", charArray.length);
+        // обидва символи в одному int (IntSupplier, без упаковки), щоб виміряти мін і макс одним виміром
+        int range = PerformanceTracker.measure("визначення мiнiмального i максимального символу в CharFrequencyIndex",
+                () -> frequencyIndex.min() << Character.SIZE | frequencyIndex.max());
+        DataOperationEvent.finishRange(event, (char) (range >>> Character.SIZE), (char) range);
     }
 
     /**
@@ -147,28 +227,47 @@ public class BasicDataOperationUsingQueue {
      */
     private void performQueueOperations() {
         // Рахуємо розмір перед операціями
-        int initialSize = charQueue.size();
-        System.out.println("Розмір PriorityQueue перед операціями: " + initialSize);
+        int initialSize = queueSize();
+        ReportSink.line("Розмір " + queueName + " перед операціями: " + initialSize);
+
+        if (backend == CollectionBackend.PRIMITIVE && primitiveQueue.isEmpty()) {
+            // CharHeap не має null-значення для порожньої черги
+            ReportSink.line("→ " + queueName + " порожня, peek() і poll() пропущено");
+            return;
+        }
         
         // Перегляд першого елемента (без видалення)
-        long timeStart = System.nanoTime();
-        Character head = charQueue.peek();
-        PerformanceTracker.displayOperationTime(timeStart, "операція peek() на PriorityQueue");
-        System.out.println("→ Перший елемент (peek): '" + head + "'");
+        DataOperationEvent event = DataOperationEvent.start("peek", queueName, "Character", initialSize);
+        Character head = PerformanceTracker.measure("операція peek() на " + queueName,
+                () -> backend == CollectionBackend.PRIMITIVE ? Character.valueOf(primitiveQueue.peek()) : charQueue.peek());
+        DataOperationEvent.finish(event, head != null);
+        ReportSink.line("→ Перший елемент (peek): '" + head + "'");
 
         // Отримання і видалення першого елемента
-        timeStart = System.nanoTime();
-        Character removed = charQueue.poll();
-        PerformanceTracker.displayOperationTime(timeStart, "операція poll() на PriorityQueue");
-        System.out.println("→ Видалений елемент (poll): '" + removed + "'");
-        System.out.println("   Розмір після poll(): " + charQueue.size());
+        event = DataOperationEvent.start("poll", queueName, "Character", initialSize);
+        long timeStart = PerformanceTracker.startOperation();
+        Character removed = backend == CollectionBackend.PRIMITIVE ? Character.valueOf(primitiveQueue.poll()) : charQueue.poll();
+        PerformanceTracker.displayOperationTime(timeStart, "операція poll() на " + queueName);
+        DataOperationEvent.finish(event, removed != null);
+        ReportSink.line("→ Видалений елемент (poll): '" + removed + "'");
+        ReportSink.line("   Розмір після poll(): " + queueSize());
 
         // Перевірка нового першого елемента
-        if (!charQueue.isEmpty()) {
-            head = charQueue.peek();
-            System.out.println("→ Новий перший елемент: '" + head + "'");
+        if (queueSize() > 0) {
+            head = backend == CollectionBackend.PRIMITIVE ? Character.valueOf(primitiveQueue.peek()) : charQueue.peek();
+            ReportSink.line("→ Новий перший елемент: '" + head + "'");
         } else {
-            System.out.println("→ PriorityQueue порожня після операцій");
+            ReportSink.line("→ " + queueName + " порожня після операцій");
+        }
+    }
+
+    /**
+     * Повертає розмір активної черги (PriorityQueue або CharHeap).
+     */
+    private int queueSize() {
+        if (backend == CollectionBackend.PRIMITIVE) {
+            return primitiveQueue == null ? 0 : primitiveQueue.size();
         }
+        return charQueue == null ? 0 : charQueue.size();
     }
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Клас BasicDataOperationUsingSet реалізує операції з множиною TreeSet для Character.
  * 
+ * <p>З {@link CollectionBackend#PRIMITIVE} замість TreeSet використовується {@link CharSortedSet}.
+ * Кількість входжень шуканого символа, яку множина не зберігає, дає {@link CharFrequencyIndex}.</p>
+ * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataAnalysis()} - Запускає аналіз даних.</li>
@@ -20,7 +21,11 @@ import java.util.TreeSet;
 public class BasicDataOperationUsingSet {
     Character charValueToSearch;
     Character[] charArray;
-    Set<Character> charSet = new TreeSet<>();
+    TreeSet<Character> charSet = new TreeSet<>();
+    CharSortedSet primitiveSet;
+    private final CharFrequencyIndex frequencyIndex;
+    private final CollectionBackend backend;
+    private final String setName;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -29,9 +34,38 @@ public class BasicDataOperationUsingSet {
      * @param charArray Масив Character
      */
     BasicDataOperationUsingSet(Character charValueToSearch, Character[] charArray) {
+        this(charValueToSearch, charArray, CollectionBackend.BOXED);
+    }
+
+    /**
+     * Конструктор з вибором типу колекції.
+     * 
+     * @param charValueToSearch Значення для пошуку
+     * @param charArray Масив Character
+     * @param backend Тип колекції: TreeSet або CharSortedSet
+     */
+    BasicDataOperationUsingSet(Character charValueToSearch, Character[] charArray, CollectionBackend backend) {
+        this(charValueToSearch, charArray, backend, CharFrequencyIndex.of(charArray));
+    }
+
+    /**
+     * Конструктор з готовим частотним індексом тих самих даних.
+     * 
+     * @param frequencyIndex Індекс, побудований з вмісту {@code charArray}
+     */
+    BasicDataOperationUsingSet(Character charValueToSearch, Character[] charArray, CollectionBackend backend,
+            CharFrequencyIndex frequencyIndex) {
         this.charValueToSearch = charValueToSearch;
         this.charArray = charArray;
-        this.charSet = new TreeSet<>(Arrays.asList(charArray));
+        this.backend = backend;
+        this.frequencyIndex = frequencyIndex;
+        if (backend == CollectionBackend.PRIMITIVE) {
+            this.primitiveSet = CharSortedSet.of(charArray);
+            this.setName = "CharSortedSet";
+        } else {
+            this.charSet = new TreeSet<>(Arrays.asList(charArray));
+            this.setName = "TreeSet";
+        }
     }
     
     /**
@@ -54,31 +88,41 @@ public class BasicDataOperationUsingSet {
         findInArray();
         locateMinMaxInArray();
 
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(charArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        // зберігаємо відсортований масив до файлу, якщо актуального ще немає
+        SortedOutputCache.store(charArray, BasicDataOperation.characterDataFile());
     }
 
     /**
      * Упорядковує масив об'єктів Character за зростанням.
      * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * Алгоритм (порівнянням або підрахунком) обирає {@link SortEngine}; якщо файл даних не змінився,
+     * відсортований масив береться з {@link SortedOutputCache} без повторного сортування.
      */
     private void performArraySorting() {
-        long timeStart = System.nanoTime();
-        Arrays.sort(charArray);
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву символів");
+        DataOperationEvent event = DataOperationEvent.start("сортування", "масив", "Character", charArray.length);
+        long timeStart = PerformanceTracker.startOperation();
+        boolean restored = SortedOutputCache.restore(charArray, BasicDataOperation.characterDataFile());
+        if (!restored) {
+            SortEngine.sort(charArray);
+        }
+        PerformanceTracker.displayOperationTime(timeStart,
+                restored ? "відновлення відсортованого масиву символів з кешу" : "упорядкування масиву символів",
+                charArray.length);
+        DataOperationEvent.finish(event, restored ? DataOperationEvent.FROM_CACHE : DataOperationEvent.DONE);
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві символів.
      */
     private void findInArray() {
-        long timeStart = System.nanoTime();
-        int position = Arrays.binarySearch(this.charArray, charValueToSearch);
-        PerformanceTracker.displayOperationTime(timeStart, "пошук символа в масивi");
+        DataOperationEvent event = DataOperationEvent.start("пошук", "масив", "Character", charArray.length);
+        int position = PerformanceTracker.measure("пошук символа в масивi",
+                () -> Arrays.binarySearch(this.charArray, charValueToSearch));
+        DataOperationEvent.finish(event, position >= 0);
         if (position >= 0) {
-            System.out.println("Символ '" + charValueToSearch + "' знайдено в масивi за позицією: " + position);
+            ReportSink.line("Символ '" + charValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
-            System.out.println("Символ '" + charValueToSearch + "' відсутній в масиві.");
+            ReportSink.line("Символ '" + charValueToSearch + "' відсутній в масиві.");
         }
     }
 
@@ -87,70 +131,97 @@ public class BasicDataOperationUsingSet {
      */
     private void locateMinMaxInArray() {
         if (charArray == null || charArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+            ReportSink.line("Масив є пустим або не ініціалізованим.");
             return;
         }
-        long timeStart = System.nanoTime();
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", "масив", "Character", charArray.length);
+        long timeStart = PerformanceTracker.startOperation();
         Character minValue = charArray[0];
         Character maxValue = charArray[0];
         for (Character c : charArray) {
             if (c < minValue) minValue = c;
             if (c > maxValue) maxValue = c;
         }
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в масивi");
-        System.out.println("Найменший символ в масивi: " + minValue);
-        System.out.println("Найбільший символ в масивi: " + maxValue);
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в масивi", charArray.length);
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+        ReportSink.line("Найменший символ в масивi: " + minValue);
+        ReportSink.line("Найбільший символ в масивi: " + maxValue);
     }
 
     /**
      * Здійснює пошук конкретного значення в множині символів.
      */
     private void findInSet() {
-        long timeStart = System.nanoTime();
-        boolean elementExists = this.charSet.contains(charValueToSearch);
-        PerformanceTracker.displayOperationTime(timeStart, "пошук символа в TreeSet");
+        DataOperationEvent event = DataOperationEvent.start("пошук", setName, "Character", setSize());
+        boolean elementExists = PerformanceTracker.measure("пошук символа в " + setName,
+                () -> backend == CollectionBackend.PRIMITIVE
+                        ? primitiveSet.contains(charValueToSearch)
+                        : this.charSet.contains(charValueToSearch));
+        DataOperationEvent.finish(event, elementExists);
         if (elementExists) {
-            System.out.println("Символ '" + charValueToSearch + "' знайдено в TreeSet");
+            ReportSink.line("Символ '" + charValueToSearch + "' знайдено в " + setName
+                    + " (входжень у масиві: " + frequencyIndex.count(charValueToSearch) + ")");
         } else {
-            System.out.println("Символ '" + charValueToSearch + "' відсутній в TreeSet.");
+            ReportSink.line("Символ '" + charValueToSearch + "' відсутній в " + setName + ".");
         }
     }
 
     /**
      * Визначає найменше та найбільше значення в множині Character.
+     * Впорядкована множина знає свої крайні елементи, тож обхід усіх елементів не потрібен.
      */
     private void locateMinMaxInSet() {
-        if (charSet == null || charSet.isEmpty()) {
-            System.out.println("TreeSet є пустим або не ініціалізованим.");
+        if (setSize() == 0) {
+            ReportSink.line(setName + " є пустим або не ініціалізованим.");
             return;
         }
-        long timeStart = System.nanoTime();
-        Character minValue = Collections.min(charSet);
-        Character maxValue = Collections.max(charSet);
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в TreeSet");
-        System.out.println("Найменший символ в TreeSet: " + minValue);
-        System.out.println("Найбільший символ в TreeSet: " + maxValue);
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", setName, "Character", setSize());
+        long timeStart = PerformanceTracker.startOperation();
+        char minValue;
+        char maxValue;
+        if (backend == CollectionBackend.PRIMITIVE) {
+            minValue = primitiveSet.first();
+            maxValue = primitiveSet.last();
+        } else {
+            minValue = charSet.first();
+            maxValue = charSet.last();
+        }
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального символу в " + setName, setSize());
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+        ReportSink.line("Найменший символ в " + setName + ": " + minValue);
+        ReportSink.line("Найбільший символ в " + setName + ": " + maxValue);
     }
 
     /**
      * Аналізує та порівнює елементи масиву та множини.
      */
     private void analyzeArrayAndSet() {
-        System.out.println("Кiлькiсть елементiв в масивi: " + (charArray == null ? 0 : charArray.length));
-        System.out.println("Кiлькiсть елементiв в TreeSet: " + (charSet == null ? 0 : charSet.size()));
+        ReportSink.line("Кiлькiсть елементiв в масивi: " + (charArray == null ? 0 : charArray.length));
+        ReportSink.line("Кiлькiсть елементiв в " + setName + ": " + setSize());
 
         boolean allElementsPresent = true;
         for (Character ch : charArray) {
-            if (!charSet.contains(ch)) {
+            boolean present = backend == CollectionBackend.PRIMITIVE ? primitiveSet.contains(ch) : charSet.contains(ch);
+            if (!present) {
                 allElementsPresent = false;
                 break;
             }
         }
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в TreeSet.");
+            ReportSink.line("Всi елементи масиву наявні в " + setName + ".");
         } else {
-            System.out.println("Не всi елементи масиву наявні в TreeSet.");
+            ReportSink.line("Не всi елементи масиву наявні в " + setName + ".");
+        }
+    }
+
+    /**
+     * Повертає розмір активної множини (TreeSet або CharSortedSet).
+     */
+    private int setSize() {
+        if (backend == CollectionBackend.PRIMITIVE) {
+            return primitiveSet == null ? 0 : primitiveSet.size();
         }
+        return charSet == null ? 0 : charSet.size();
     }
 }
\ No newline at end of file
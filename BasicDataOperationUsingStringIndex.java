@@ -0,0 +1,141 @@
+import java.util.List;
+
+/**
+ * Клас BasicDataOperationUsingStringIndex виконує пошук у рядках (тип String) за допомогою
+ * {@link StringPrefixIndex}: точний пошук з кількістю входжень, пошук за префіксом і
+ * top-K найчастіших доповнень префікса.
+ *
+ * <p>Для порівняння той самий пошук за префіксом виконується лінійним проходом по масиву —
+ * так, як його довелося б робити без індексу.</p>
+ */
+public class BasicDataOperationUsingStringIndex {
+    static final int DEFAULT_TOP_COUNT = 10;
+
+    private static final String COLLECTION = "StringPrefixIndex";
+
+    private final String[] values;
+    private final String valueToSearch;
+    private final String prefix;
+    private final int topCount;
+    private StringPrefixIndex index;
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
+     *
+     * @param values Рядки у вихідному порядку (не змінюються)
+     * @param valueToSearch Рядок для точного пошуку
+     * @param prefix Префікс для пошуку і доповнень
+     * @param topCount Скільки найчастіших доповнень виводити
+     */
+    BasicDataOperationUsingStringIndex(String[] values, String valueToSearch, String prefix, int topCount) {
+        this.values = values;
+        this.valueToSearch = valueToSearch;
+        this.prefix = prefix;
+        this.topCount = topCount;
+        ReportSink.line("\n✅ BasicDataOperationUsingStringIndex ініціалізований");
+        ReportSink.line("   Розмір масиву: " + values.length);
+        ReportSink.line("   Рядок для пошуку: " + valueToSearch);
+        ReportSink.line("   Префікс: \"" + prefix + "\", доповнень: " + topCount);
+    }
+
+    /**
+     * Створює процесор з копії рядків масиву (до його сортування іншими процесорами).
+     */
+    static BasicDataOperationUsingStringIndex create(TypedArray<String> array, String valueToSearch, String prefix, int topCount) {
+        String[] values = new String[array.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i);
+        }
+        return new BasicDataOperationUsingStringIndex(values, valueToSearch, prefix, topCount);
+    }
+
+    /**
+     * Будує індекс і виконує пошук: точний, за префіксом і top-K доповнень.
+     */
+    public void executeDataOperations() {
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line("│    ПРЕФІКСНИЙ ІНДЕКС STRING                 │");
+        ReportSink.line("└─────────────────────────────────────────────┘");
+
+        ReportSink.line("\n📊 ЕТАП 1: ПОБУДОВА ІНДЕКСУ");
+        buildIndex();
+
+        ReportSink.line("\n🔎 ЕТАП 2: ТОЧНИЙ ПОШУК І ПОШУК ЗА ПРЕФІКСОМ");
+        findExact();
+        findByPrefix();
+        scanByPrefix();
+
+        ReportSink.line("\n📋 ЕТАП 3: TOP-" + topCount + " ДОПОВНЕНЬ ПРЕФІКСА");
+        findTopCompletions();
+    }
+
+    void buildIndex() {
+        DataOperationEvent event = DataOperationEvent.start("побудова індексу", COLLECTION, "String", values.length);
+        long timeStart = PerformanceTracker.startOperation();
+
+        index = StringPrefixIndex.of(values);
+
+        PerformanceTracker.displayOperationTime(timeStart, "побудова префіксного індексу String", values.length);
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
+
+        ReportSink.line("Рядків: " + index.size() + ", різних: " + index.distinctCount());
+    }
+
+    void findExact() {
+        DataOperationEvent event = DataOperationEvent.start("пошук", COLLECTION, "String", index.size());
+        int count = PerformanceTracker.measure("точний пошук рядка в префіксному індексі",
+                () -> index.count(valueToSearch));
+        DataOperationEvent.finish(event, count > 0);
+
+        if (count > 0) {
+            ReportSink.line("Рядок \"" + valueToSearch + "\" знайдено, входжень: " + count);
+        } else {
+            ReportSink.line("Рядок \"" + valueToSearch + "\" відсутній.");
+        }
+    }
+
+    void findByPrefix() {
+        DataOperationEvent event = DataOperationEvent.start("пошук за префіксом", COLLECTION, "String", index.size());
+        long count = PerformanceTracker.measure("пошук за префіксом у префіксному індексі",
+                () -> index.prefixCount(prefix));
+        DataOperationEvent.finish(event, count > 0);
+
+        ReportSink.line("Рядків з префіксом \"" + prefix + "\": " + count
+                + " (різних: " + index.prefixDistinctCount(prefix) + ")");
+    }
+
+    /**
+     * Той самий пошук за префіксом проходом по всьому масиву — для порівняння з індексом.
+     */
+    void scanByPrefix() {
+        DataOperationEvent event = DataOperationEvent.start("пошук за префіксом", "масив", "String", values.length);
+        long count = PerformanceTracker.measure("пошук за префіксом проходом по масиву String", () -> {
+            long matches = 0;
+            for (String value : values) {
+                if (value.startsWith(prefix)) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+        DataOperationEvent.finish(event, count > 0);
+
+        ReportSink.line("Рядків з префіксом \"" + prefix + "\" (прохід по масиву): " + count);
+    }
+
+    void findTopCompletions() {
+        DataOperationEvent event = DataOperationEvent.start("top-K доповнень", COLLECTION, "String", index.size());
+        List<StringPrefixIndex.Completion> completions = PerformanceTracker.measure("top-" + topCount + " доповнень префікса",
+                () -> index.topCompletions(prefix, topCount));
+        DataOperationEvent.finish(event, !completions.isEmpty());
+
+        if (completions.isEmpty()) {
+            ReportSink.line("Рядків з префіксом \"" + prefix + "\" немає.");
+            return;
+        }
+        ReportSink.line("Найчастіші рядки з префіксом \"" + prefix + "\" (рядок -> входжень):");
+        for (StringPrefixIndex.Completion completion : completions) {
+            ReportSink.entry(completion.value(), completion.count());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.Vector;
+
+/**
+ * Клас BasicDataOperationUsingTypedData виконує ті самі операції, що й процесори
+ * List/Queue/Set, для будь-якого типу з {@link DataType}, крім Character.
+ *
+ * <p>Масив зберігається в {@link TypedArray} (для числових типів — примітивний), тому пошук,
+ * мін/макс і сортування масиву працюють без упакування. Колекції Vector, PriorityQueue і
+ * TreeSet будуються з упакованих значень, як і для Character.</p>
+ *
+ * @param <T> упакований тип елемента
+ */
+public class BasicDataOperationUsingTypedData<T extends Comparable<? super T>> {
+    private final T valueToSearch;
+    private final TypedArray<T> array;
+    private final String typeName;
+    private final String dataFilePath;
+    private Vector<T> list;
+    private PriorityQueue<T> queue;
+    private TreeSet<T> set;
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
+     *
+     * @param valueToSearch Значення для пошуку
+     * @param array Масив даних (змінюється при сортуванні)
+     * @param dataFilePath Файл, з якого завантажено дані; поруч зберігається {@code .sorted}
+     */
+    BasicDataOperationUsingTypedData(T valueToSearch, TypedArray<T> array, String dataFilePath) {
+        this.valueToSearch = valueToSearch;
+        this.array = array;
+        this.typeName = array.type().typeName();
+        this.dataFilePath = dataFilePath;
+        ReportSink.line("\n✅ BasicDataOperationUsingTypedData ініціалізований");
+        ReportSink.line("   Тип даних: " + typeName);
+        ReportSink.line("   Розмір масиву: " + array.length());
+        ReportSink.line("   Значення для пошуку: " + valueToSearch);
+    }
+
+    /**
+     * Створює процесор, розбираючи пошукове значення за типом масиву.
+     *
+     * @throws IllegalArgumentException якщо значення не відповідає типу
+     */
+    static <T extends Comparable<? super T>> BasicDataOperationUsingTypedData<T> create(TypedArray<T> array, String searchText,
+                                                                                         String dataFilePath) {
+        return new BasicDataOperationUsingTypedData<>(array.parseKey(searchText), array, dataFilePath);
+    }
+
+    /**
+     * Виконує операції з колекціями, а потім з масивом, і зберігає відсортований масив.
+     */
+    public void executeDataOperations() {
+        buildCollections();
+
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line(String.format("│    ОПЕРАЦІЇ З VECTOR<%-24s│", typeName.toUpperCase() + ">"));
+        ReportSink.line("└─────────────────────────────────────────────┘");
+
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
+        findInList();
+        locateMinMaxInList();
+
+        ReportSink.line("\n📊 ЕТАП 2: СОРТУВАННЯ VECTOR");
+        sortList();
+
+        ReportSink.line("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування Vector)");
+        findInList();
+        locateMinMaxInList();
+
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line("│    ОПЕРАЦІЇ З PRIORITYQUEUE І TREESET       │");
+        ReportSink.line("└─────────────────────────────────────────────┘");
+
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК У ЧЕРЗІ ТА МНОЖИНІ");
+        findInQueue();
+        findInSet();
+
+        ReportSink.line("\n📋 ЕТАП 2: МІН/МАКС (peek, poll, first, last)");
+        performQueueOperations();
+        locateMinMaxInSet();
+
+        ReportSink.line("\n┌─────────────────────────────────────────────┐");
+        ReportSink.line(String.format("│    ОПЕРАЦІЇ З МАСИВОМ %-22s│", typeName.toUpperCase() + "[]"));
+        ReportSink.line("└─────────────────────────────────────────────┘");
+
+        ReportSink.line("\n🔎 ЕТАП 1: ПОШУК І ПОШУК МІН/МАКС (до сортування)");
+        findInArray();
+        locateMinMaxInArray();
+
+        ReportSink.line("\n📊 ЕТАП 2: СОРТУВАННЯ МАСИВУ");
+        performArraySorting();
+
+        ReportSink.line("\n🔎 ЕТАП 3: ПОШУК І ПОШУК МІН/МАКС (після сортування)");
+        findInArray();
+        locateMinMaxInArray();
+
+        ReportSink.line("\n💾 ЕТАП 4: ЗБЕРЕЖЕННЯ ВІДСОРТОВАНОГО МАСИВУ");
+        DataFileHandler.writeLinesToFile(dataFilePath + ".sorted", array.length(), array::format);
+        ReportSink.line("✅ Масив успішно збережено в файл");
+    }
+
+    /**
+     * Заповнює колекції упакованими значеннями масиву (до його сортування).
+     */
+    private void buildCollections() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        list = new Vector<>(array.length());
+        for (int i = 0; i < array.length(); i++) {
+            list.add(array.get(i));
+        }
+        queue = new PriorityQueue<>(list);
+        set = new TreeSet<>(list);
+
+        PerformanceTracker.displayOperationTime(timeStart, "створення колекцій " + typeName, array.length());
+    }
+
+    void performArraySorting() {
+        boolean alreadySorted = array.isSorted();
+        if (alreadySorted) {
+            ReportSink.line("Масив " + typeName + " уже впорядкований (позначка двійкового файлу), сортування пропущено.");
+        }
+        DataOperationEvent event = DataOperationEvent.start("сортування", "масив", typeName, array.length());
+        long timeStart = PerformanceTracker.startOperation();
+
+        array.sort();
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву " + typeName, array.length());
+        DataOperationEvent.finish(event, alreadySorted ? "пропущено" : DataOperationEvent.DONE);
+    }
+
+    void findInArray() {
+        DataOperationEvent event = DataOperationEvent.start("пошук", "масив", typeName, array.length());
+        int position = PerformanceTracker.measure("пошук значення в масивi " + typeName,
+                () -> array.binarySearch(valueToSearch));
+        DataOperationEvent.finish(event, position >= 0);
+
+        if (position >= 0) {
+            ReportSink.line("Значення " + valueToSearch + " знайдено в масивi за позицією: " + position);
+        } else {
+            ReportSink.line("Значення " + valueToSearch + " відсутнє в масиві.");
+        }
+    }
+
+    void locateMinMaxInArray() {
+        if (array.length() == 0) {
+            ReportSink.line("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", "масив", typeName, array.length());
+        long timeStart = PerformanceTracker.startOperation();
+
+        T minValue = array.min();
+        T maxValue = array.max();
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального значення в масивi " + typeName, array.length());
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+
+        ReportSink.line("Найменше значення в масивi: " + minValue);
+        ReportSink.line("Найбільше значення в масивi: " + maxValue);
+    }
+
+    void findInList() {
+        DataOperationEvent event = DataOperationEvent.start("пошук", "Vector", typeName, list.size());
+        int position = PerformanceTracker.measure("пошук значення в Vector " + typeName,
+                () -> Collections.binarySearch(list, valueToSearch));
+        DataOperationEvent.finish(event, position >= 0);
+
+        if (position >= 0) {
+            ReportSink.line("Значення " + valueToSearch + " знайдено в Vector за позицією: " + position);
+        } else {
+            ReportSink.line("Значення " + valueToSearch + " відсутнє в Vector.");
+        }
+    }
+
+    void locateMinMaxInList() {
+        if (list.isEmpty()) {
+            ReportSink.line("Vector є пустим або не ініціалізованим.");
+            return;
+        }
+
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", "Vector", typeName, list.size());
+        long timeStart = PerformanceTracker.startOperation();
+
+        T minValue = Collections.min(list);
+        T maxValue = Collections.max(list);
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального значення в Vector " + typeName, list.size());
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+
+        ReportSink.line("Найменше значення в Vector: " + minValue);
+        ReportSink.line("Найбільше значення в Vector: " + maxValue);
+    }
+
+    void sortList() {
+        DataOperationEvent event = DataOperationEvent.start("сортування", "Vector", typeName, list.size());
+        long timeStart = PerformanceTracker.startOperation();
+
+        Collections.sort(list);
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування Vector " + typeName, list.size());
+        DataOperationEvent.finish(event, DataOperationEvent.DONE);
+    }
+
+    void findInQueue() {
+        DataOperationEvent event = DataOperationEvent.start("пошук", "PriorityQueue", typeName, queue.size());
+        boolean found = PerformanceTracker.measure("пошук значення в PriorityQueue " + typeName,
+                () -> queue.contains(valueToSearch));
+        DataOperationEvent.finish(event, found);
+
+        ReportSink.line("Значення " + valueToSearch + (found ? " знайдено" : " відсутнє") + " в PriorityQueue.");
+    }
+
+    /**
+     * Переглядає та вилучає найменший елемент черги.
+     */
+    void performQueueOperations() {
+        if (queue.isEmpty()) {
+            ReportSink.line("PriorityQueue є пустою або не ініціалізованою.");
+            return;
+        }
+
+        DataOperationEvent event = DataOperationEvent.start("peek/poll", "PriorityQueue", typeName, queue.size());
+        long timeStart = PerformanceTracker.startOperation();
+
+        T head = queue.peek();
+        T polled = queue.poll();
+
+        PerformanceTracker.displayOperationTime(timeStart, "операції peek/poll в PriorityQueue " + typeName);
+        DataOperationEvent.finish(event, polled != null);
+
+        ReportSink.line("Голова PriorityQueue (peek): " + head);
+        ReportSink.line("Вилучений елемент (poll): " + polled);
+        ReportSink.line("Розмір PriorityQueue після poll: " + queue.size());
+    }
+
+    void findInSet() {
+        DataOperationEvent event = DataOperationEvent.start("пошук", "TreeSet", typeName, set.size());
+        boolean found = PerformanceTracker.measure("пошук значення в TreeSet " + typeName,
+                () -> set.contains(valueToSearch));
+        DataOperationEvent.finish(event, found);
+
+        ReportSink.line("Значення " + valueToSearch + (found ? " знайдено" : " відсутнє") + " в TreeSet.");
+    }
+
+    void locateMinMaxInSet() {
+        if (set.isEmpty()) {
+            ReportSink.line("TreeSet є пустим або не ініціалізованим.");
+            return;
+        }
+
+        DataOperationEvent event = DataOperationEvent.start("мін/макс", "TreeSet", typeName, set.size());
+        long timeStart = PerformanceTracker.startOperation();
+
+        T minValue = set.first();
+        T maxValue = set.last();
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального значення в TreeSet " + typeName, set.size());
+        DataOperationEvent.finishRange(event, minValue, maxValue);
+
+        ReportSink.line("Найменше значення в TreeSet: " + minValue);
+        ReportSink.line("Найбільше значення в TreeSet: " + maxValue);
+        ReportSink.line("Унікальних значень у TreeSet: " + set.size());
+    }
+}
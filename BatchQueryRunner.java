@@ -0,0 +1,288 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.Vector;
+
+/**
+ * Клас BatchQueryRunner відповідає на пакет пошукових запитів до даних Character.
+ *
+ * <p>Файл даних завантажується, а всі структури (обох типів колекцій {@link CollectionBackend})
+ * будуються один раз; після цього кожна структура відповідає на всі запити. Для кожної
+ * структури виконується:</p>
+ * <ul>
+ *   <li>прогрів: проходи по всіх запитах, доки не мине {@value #WARMUP_SAMPLES} цільових вимірів
+ *       {@code --calibration} (150 мс за замовчуванням; з {@code off} — один прохід);</li>
+ *   <li>проходи без вимірювання окремих запитів (щонайменше {@value #MEASURED_PASSES}, протягом
+ *       {@value #MEASURED_SAMPLES} цільових вимірів) — з медіанного рахується пропускна здатність
+ *       (запитів/с) і середній час запиту;</li>
+ *   <li>прохід з вимірюванням кожного запиту в {@link LatencyHistogram} — з нього беруться перцентилі.
+ *       Від кожного виміру віднімаються накладні витрати пари {@link System#nanoTime()}
+ *       (медіана порожніх вимірів), інакше для запитів у десятки наносекунд перцентилі
+ *       показували б здебільшого таймер.</li>
+ * </ul>
+ *
+ * <p>Запити читаються з файлу або зі стандартного входу ({@code -}) у форматі файлів даних:
+ * один символ на рядок, перший символ після пробілів, порожні рядки пропускаються.</p>
+ */
+final class BatchQueryRunner {
+    static final String STDIN_SOURCE = "-";
+
+    private static final int WARMUP_SAMPLES = 15;
+    private static final int MEASURED_SAMPLES = 10;
+    private static final int MEASURED_PASSES = 5;
+    private static final int TIMER_SAMPLES = 100_000;
+
+    private final Character[] data;
+    private final char[] queries;
+    private final Character[] boxedQueries;
+    private final List<QueryProbe> probes = new ArrayList<>();
+
+    /**
+     * @param data Завантажені дані (масив не змінюється)
+     * @param queries Символи запитів
+     */
+    BatchQueryRunner(Character[] data, char[] queries) {
+        this.data = data;
+        this.queries = queries;
+        // запити упаковуються заздалегідь, щоб не вимірювати Character.valueOf
+        this.boxedQueries = new Character[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            boxedQueries[i] = queries[i];
+        }
+    }
+
+    /**
+     * Читає запити з файлу або, для {@code "-"}, зі стандартного входу.
+     *
+     * @throws IllegalArgumentException якщо файл не існує або недоступний для читання
+     */
+    static char[] readQueries(String source) {
+        if (!STDIN_SOURCE.equals(source)) {
+            if (!Files.isReadable(Paths.get(source))) {
+                throw new IllegalArgumentException("файл запитів недоступний: " + source);
+            }
+            return DataFileHandler.loadCharArrayFromFile(source);
+        }
+
+        CharList queries = new CharList();
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty()) {
+                    queries.add(trimmed.charAt(0));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("помилка читання запитів зі стандартного входу: " + e.getMessage());
+        }
+        return queries.toArray();
+    }
+
+    /**
+     * Будує структури, відповідає на всі запити кожною з них і виводить звіт.
+     */
+    void run() {
+        buildProbes();
+
+        long timerOverheadNs = timerOverhead();
+        List<ProbeResult> results = new ArrayList<>();
+        for (QueryProbe probe : probes) {
+            results.add(measure(probe, timerOverheadNs));
+        }
+        printReport(results, timerOverheadNs);
+    }
+
+    /**
+     * Будує всі структури один раз, фіксуючи час побудови кожної.
+     */
+    private void buildProbes() {
+        long timeStart = PerformanceTracker.startOperation();
+        Character[] sortedArray = data.clone();
+        SortEngine.sort(sortedArray);
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова відсортованого масиву", data.length);
+        probes.add(new QueryProbe("Character[] binarySearch", CollectionBackend.BOXED,
+                i -> Arrays.binarySearch(sortedArray, boxedQueries[i]) >= 0));
+
+        timeStart = PerformanceTracker.startOperation();
+        Vector<Character> vector = new Vector<>(Arrays.asList(data));
+        Collections.sort(vector);
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова Vector", data.length);
+        probes.add(new QueryProbe("Vector binarySearch", CollectionBackend.BOXED,
+                i -> Collections.binarySearch(vector, boxedQueries[i]) >= 0));
+
+        timeStart = PerformanceTracker.startOperation();
+        PriorityQueue<Character> priorityQueue = new PriorityQueue<>(Arrays.asList(data));
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова PriorityQueue", data.length);
+        probes.add(new QueryProbe("PriorityQueue contains", CollectionBackend.BOXED,
+                i -> priorityQueue.contains(boxedQueries[i])));
+
+        timeStart = PerformanceTracker.startOperation();
+        TreeSet<Character> treeSet = new TreeSet<>(Arrays.asList(data));
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова TreeSet", data.length);
+        probes.add(new QueryProbe("TreeSet contains", CollectionBackend.BOXED,
+                i -> treeSet.contains(boxedQueries[i])));
+
+        timeStart = PerformanceTracker.startOperation();
+        CharList charList = CharList.of(data);
+        charList.sort();
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова CharList", data.length);
+        probes.add(new QueryProbe("CharList binarySearch", CollectionBackend.PRIMITIVE,
+                i -> charList.binarySearch(queries[i]) >= 0));
+
+        timeStart = PerformanceTracker.startOperation();
+        CharHeap charHeap = CharHeap.of(data);
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова CharHeap", data.length);
+        probes.add(new QueryProbe("CharHeap contains", CollectionBackend.PRIMITIVE,
+                i -> charHeap.contains(queries[i])));
+
+        timeStart = PerformanceTracker.startOperation();
+        CharSortedSet charSortedSet = CharSortedSet.of(data);
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова CharSortedSet", data.length);
+        probes.add(new QueryProbe("CharSortedSet contains", CollectionBackend.PRIMITIVE,
+                i -> charSortedSet.contains(queries[i])));
+
+        timeStart = PerformanceTracker.startOperation();
+        CharFrequencyIndex frequencyIndex = CharFrequencyIndex.of(data);
+        PerformanceTracker.displayOperationTime(timeStart, "пакет: побудова CharFrequencyIndex", data.length);
+        probes.add(new QueryProbe("CharFrequencyIndex contains", CollectionBackend.PRIMITIVE,
+                i -> frequencyIndex.contains(queries[i])));
+    }
+
+    /**
+     * Відповідає на всі запити однією структурою: прогрів, прохід на пропускну здатність
+     * і прохід з вимірюванням затримки кожного запиту.
+     *
+     * @param timerOverheadNs Накладні витрати пари {@code System.nanoTime()}, що віднімаються від кожного виміру
+     */
+    private ProbeResult measure(QueryProbe probe, long timerOverheadNs) {
+        long warmupNs = WARMUP_SAMPLES * PerformanceTracker.calibrationTimeNs();
+        long warmupStart = System.nanoTime();
+        do {
+            answerAll(probe);
+        } while (System.nanoTime() - warmupStart < warmupNs);
+
+        long measuredNs = MEASURED_SAMPLES * PerformanceTracker.calibrationTimeNs();
+        long measureStart = System.nanoTime();
+        List<Long> passes = new ArrayList<>();
+        int hits;
+        do {
+            long timeStart = System.nanoTime();
+            hits = answerAll(probe);
+            passes.add(System.nanoTime() - timeStart);
+        } while (passes.size() < MEASURED_PASSES || System.nanoTime() - measureStart < measuredNs);
+        Collections.sort(passes);
+        long elapsedNs = passes.get(passes.size() / 2);
+
+        LatencyHistogram histogram = PerformanceTracker.recorder("пакет: запит " + probe.name);
+        int timedHits = 0;
+        for (int i = 0; i < queries.length; i++) {
+            long queryStart = System.nanoTime();
+            boolean found = probe.lookup.test(i);
+            histogram.record(Math.max(0, System.nanoTime() - queryStart - timerOverheadNs));
+            if (found) {
+                timedHits++;
+            }
+        }
+        if (timedHits != hits) {
+            throw new IllegalStateException(probe.name + ": різна кількість знайдених запитів у проходах");
+        }
+        return new ProbeResult(probe, hits, elapsedNs, histogram);
+    }
+
+    /**
+     * Медіана тривалості порожнього виміру — пари {@code System.nanoTime()} без роботи між ними.
+     */
+    private static long timerOverhead() {
+        long[] samples = new long[TIMER_SAMPLES];
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < samples.length; i++) {
+                long start = System.nanoTime();
+                samples[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private int answerAll(QueryProbe probe) {
+        int hits = 0;
+        for (int i = 0; i < queries.length; i++) {
+            if (probe.lookup.test(i)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private void printReport(List<ProbeResult> results, long timerOverheadNs) {
+        ReportSink.line("\n=== ПАКЕТНІ ЗАПИТИ: " + queries.length + " запитів, " + data.length + " елементів ===");
+        ReportSink.line(String.format("%-28s | %-9s | %8s | %14s | %12s | %8s | %8s | %8s | %8s | %10s",
+                "Структура", "Колекції", "Знайдено", "Запитів/с", "Середнє (ns)", "p50", "p90", "p99", "p99.9", "Макс (ns)"));
+        ReportSink.line("-".repeat(145));
+        for (ProbeResult result : results) {
+            double throughput = result.elapsedNs == 0 ? 0.0 : queries.length * 1_000_000_000.0 / result.elapsedNs;
+            LatencyHistogram histogram = result.histogram;
+            ReportSink.line(String.format("%-28s | %-9s | %8d | %14.0f | %12.1f | %8d | %8d | %8d | %8d | %10d",
+                    result.probe.name, result.probe.backend, result.hits, throughput,
+                    (double) result.elapsedNs / queries.length,
+                    histogram.percentile(0.50), histogram.percentile(0.90),
+                    histogram.percentile(0.99), histogram.percentile(0.999), histogram.max()));
+        }
+        ReportSink.line("-".repeat(145));
+        ReportSink.line("Запитів/с і середнє — медіанний з проходів без вимірювання окремих запитів після прогріву; перцентилі —");
+        ReportSink.line("окремий прохід з System.nanoTime() на кожен запит, від кожного виміру віднято " + timerOverheadNs
+                + " ns накладних витрат таймера.");
+        ReportSink.line("Середнє може бути меншим за p50: без таймера між запитами процесор виконує сусідні запити з перекриттям.");
+    }
+
+    /**
+     * Відповідь структури на запит з заданим індексом.
+     */
+    @FunctionalInterface
+    private interface Lookup {
+        boolean test(int queryIndex);
+    }
+
+    /**
+     * Структура, побудована з даних, і спосіб відповісти нею на запит.
+     */
+    private static final class QueryProbe {
+        private final String name;
+        private final CollectionBackend backend;
+        private final Lookup lookup;
+
+        QueryProbe(String name, CollectionBackend backend, Lookup lookup) {
+            this.name = name;
+            this.backend = backend;
+            this.lookup = lookup;
+        }
+    }
+
+    /**
+     * Результат пакетного прогону однієї структури.
+     */
+    private static final class ProbeResult {
+        private final QueryProbe probe;
+        private final int hits;
+        private final long elapsedNs;
+        private final LatencyHistogram histogram;
+
+        ProbeResult(QueryProbe probe, int hits, long elapsedNs, LatencyHistogram histogram) {
+            this.probe = probe;
+            this.hits = hits;
+            this.elapsedNs = elapsedNs;
+            this.histogram = histogram;
+        }
+    }
+}
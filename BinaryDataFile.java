@@ -0,0 +1,733 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас BinaryDataFile — компактний двійковий формат наборів даних для типів з {@link DataType}.
+ *
+ * <p>Файл складається з 48-байтового заголовка і щільно упакованих елементів
+ * (little-endian, як у x86/ARM, тож масове копіювання не переставляє байти):</p>
+ * <pre>
+ *  0  "LSTB"            магічні байти
+ *  4  int               версія формату
+ *  8  16 байт ASCII     назва типу, доповнена нулями
+ * 24  int               прапорці: біт 0 — елементи впорядковані за зростанням
+ * 28  int               резерв (0)
+ * 32  long              кількість елементів
+ * 40  long              CRC32C корисного навантаження
+ * 48  ...               елементи
+ * </pre>
+ *
+ * <p>Ширина елемента: char — 2, byte — 1, short — 2, int/float — 4, long/double — 8,
+ * LocalDate — епохальний день (8), LocalTime — наносекунда доби (8), LocalDateTime —
+ * секунда епохи UTC і наносекунди (8 + 4). String — довжина в байтах (u16) і UTF-8.</p>
+ *
+ * <p>Завантаження відображає навантаження в пам'ять ({@link FileChannel#map}) і копіює його
+ * в масив одним масовим {@code get} на вікно (до 1 ГБ), перевіряючи контрольну суму:
+ * жодного розбору тексту на елемент. {@link DataFileHandler} і {@link TypedDataParser}
+ * розпізнають формат за магічними байтами, тож двійковий файл можна передати будь-якому
+ * режиму через {@code --data}. Прапорець впорядкованості обчислюється під час запису
+ * і дозволяє {@link TypedArray} не сортувати вже відсортовані дані.</p>
+ */
+public final class BinaryDataFile {
+    static final String USAGE_MESSAGE = "Використання: java BinaryDataFile --convert=ФАЙЛ|all [--type=ТИП] [--output=ФАЙЛ]\n" +
+"  --convert=ФАЙЛ   текстовий файл даних; тип визначається з назви (list/int.data → int) або --type\n" +
+"  --convert=all    перетворити всі list/<тип>.data на list/<тип>.bin\n" +
+"  --output=ФАЙЛ    двійковий файл (за замовчуванням — та сама назва з розширенням .bin)\n" +
+"Приклад:\n" +
+"  java BinaryDataFile --convert=all\n" +
+"  java BasicDataOperation 42 --type=int --data=list/int.bin";
+
+    private static final byte[] MAGIC = {'L', 'S', 'T', 'B'};
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 48;
+    private static final int TYPE_NAME_BYTES = 16;
+    private static final int FLAG_SORTED = 1;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    /** Найбільше вікно відображення; кратне ширині будь-якого елемента фіксованого розміру. */
+    private static final long MAX_MAPPED_WINDOW = 12L << 26;
+    /** Найбільша довжина Java-масиву, яку гарантовано можна виділити. */
+    private static final long MAX_ELEMENTS = Integer.MAX_VALUE - 8;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private BinaryDataFile() {
+    }
+
+    /**
+     * Заголовок файлу.
+     */
+    public static final class Header {
+        private final String typeName;
+        private final long count;
+        private final boolean sorted;
+        private final long checksum;
+
+        Header(String typeName, long count, boolean sorted, long checksum) {
+            this.typeName = typeName;
+            this.count = count;
+            this.sorted = sorted;
+            this.checksum = checksum;
+        }
+
+        public String typeName() {
+            return typeName;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Чи впорядковані елементи за зростанням (у порядку {@link SortEngine} / {@link java.util.Arrays#sort}).
+         */
+        public boolean sorted() {
+            return sorted;
+        }
+
+        public long checksum() {
+            return checksum;
+        }
+    }
+
+    /**
+     * Вміст файлу: елементи, записані через {@link Sink}.
+     */
+    @FunctionalInterface
+    public interface Content {
+        void write(Sink sink) throws IOException;
+    }
+
+    /**
+     * Приймач елементів: кодує їх у буфер, рахує кількість і CRC32C та стежить,
+     * чи кожен наступний елемент не менший за попередній.
+     */
+    public static final class Sink {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ORDER);
+        private final CRC32C crc = new CRC32C();
+        private long count;
+        private boolean sorted = true;
+        private long previousLong;
+        private double previousDouble;
+        private Comparable<Object> previousObject;
+
+        private Sink(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        public void putChar(char value) throws IOException {
+            ensure(Character.BYTES);
+            buffer.putChar(value);
+            nextLong(value);
+        }
+
+        public void putByte(byte value) throws IOException {
+            ensure(Byte.BYTES);
+            buffer.put(value);
+            nextLong(value);
+        }
+
+        public void putShort(short value) throws IOException {
+            ensure(Short.BYTES);
+            buffer.putShort(value);
+            nextLong(value);
+        }
+
+        public void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+            nextLong(value);
+        }
+
+        public void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+            nextLong(value);
+        }
+
+        public void putFloat(float value) throws IOException {
+            ensure(Float.BYTES);
+            buffer.putFloat(value);
+            nextDouble(value);
+        }
+
+        public void putDouble(double value) throws IOException {
+            ensure(Double.BYTES);
+            buffer.putDouble(value);
+            nextDouble(value);
+        }
+
+        /**
+         * @throws IllegalArgumentException якщо рядок довший за 65 535 байт у UTF-8
+         */
+        public void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_STRING_BYTES) {
+                throw new IllegalArgumentException("Рядок довший за " + MAX_STRING_BYTES + " байт у UTF-8: " + bytes.length);
+            }
+            ensure(Short.BYTES + bytes.length);
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+            nextObject(value);
+        }
+
+        public void putLocalDate(LocalDate value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value.toEpochDay());
+            nextObject(value);
+        }
+
+        public void putLocalTime(LocalTime value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value.toNanoOfDay());
+            nextObject(value);
+        }
+
+        public void putLocalDateTime(LocalDateTime value) throws IOException {
+            ensure(Long.BYTES + Integer.BYTES);
+            buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(value.getNano());
+            nextObject(value);
+        }
+
+        private void nextLong(long value) {
+            if (count++ > 0 && value < previousLong) {
+                sorted = false;
+            }
+            previousLong = value;
+        }
+
+        /** Порядок {@link Double#compare}, як у Arrays.sort: -0.0 &lt; 0.0, NaN наприкінці. */
+        private void nextDouble(double value) {
+            if (count++ > 0 && Double.compare(previousDouble, value) > 0) {
+                sorted = false;
+            }
+            previousDouble = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void nextObject(Comparable<?> value) {
+            if (count++ > 0 && previousObject.compareTo(value) > 0) {
+                sorted = false;
+            }
+            previousObject = (Comparable<Object>) value;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    // ===== Запис =====
+
+    /**
+     * Записує файл атомарно через {@link DataFileHandler#writeBinaryFile}: спершу місце під
+     * заголовок, потім елементи, наприкінці — заголовок з кількістю, прапорцем і CRC32C.
+     */
+    public static void write(String filePath, DataType type, Content content) {
+        DataFileHandler.writeBinaryFile(filePath, channel -> {
+            channel.write(ByteBuffer.allocate(HEADER_BYTES));
+            Sink sink = new Sink(channel);
+            content.write(sink);
+            sink.drain();
+            ByteBuffer header = encodeHeader(type, sink.count, sink.sorted, sink.crc.getValue());
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        });
+    }
+
+    /**
+     * Записує масив у двійковий файл.
+     */
+    @SuppressWarnings("unchecked")
+    public static void write(String filePath, TypedArray<?> array) {
+        DataType type = array.type();
+        write(filePath, type, sink -> {
+            for (int i = 0; i < array.length(); i++) {
+                Object value = array.get(i);
+                switch (type) {
+                    case BYTE:
+                        sink.putByte((Byte) value);
+                        break;
+                    case SHORT:
+                        sink.putShort((Short) value);
+                        break;
+                    case INT:
+                        sink.putInt((Integer) value);
+                        break;
+                    case LONG:
+                        sink.putLong((Long) value);
+                        break;
+                    case FLOAT:
+                        sink.putFloat((Float) value);
+                        break;
+                    case DOUBLE:
+                        sink.putDouble((Double) value);
+                        break;
+                    case STRING:
+                        sink.putString((String) value);
+                        break;
+                    case LOCAL_DATE:
+                        sink.putLocalDate((LocalDate) value);
+                        break;
+                    case LOCAL_TIME:
+                        sink.putLocalTime((LocalTime) value);
+                        break;
+                    case LOCAL_DATE_TIME:
+                        sink.putLocalDateTime((LocalDateTime) value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Тип " + type + " записується як масив char");
+                }
+            }
+        });
+    }
+
+    /**
+     * Записує символи у двійковий файл типу Character.
+     */
+    public static void write(String filePath, CharList chars) {
+        write(filePath, DataType.CHARACTER, sink -> {
+            for (int i = 0; i < chars.size(); i++) {
+                sink.putChar(chars.get(i));
+            }
+        });
+    }
+
+    private static ByteBuffer encodeHeader(DataType type, long count, boolean sorted, long checksum) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+        header.put(MAGIC);
+        header.putInt(VERSION);
+        byte[] name = type.typeName().getBytes(StandardCharsets.US_ASCII);
+        header.put(name);
+        header.position(header.position() + TYPE_NAME_BYTES - name.length);
+        header.putInt(sorted ? FLAG_SORTED : 0);
+        header.putInt(0);
+        header.putLong(count);
+        header.putLong(checksum);
+        header.flip();
+        return header;
+    }
+
+    // ===== Читання =====
+
+    /**
+     * Перевіряє магічні байти на початку файлу; файл, який не вдалося прочитати, вважається текстовим.
+     */
+    public static boolean isBinary(String filePath) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // читаємо до заповнення або кінця файлу
+            }
+            return !magic.hasRemaining() && magic.flip().equals(ByteBuffer.wrap(MAGIC));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Читає лише заголовок.
+     *
+     * @throws IllegalArgumentException якщо файл не є двійковим файлом даних підтримуваної версії
+     * @throws UncheckedIOException якщо файл не вдалося прочитати
+     */
+    public static Header readHeader(String filePath) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return readHeader(channel, filePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static CharList readChars(String filePath) {
+        return CharList.of(readFixed(filePath, DataType.CHARACTER, Character.BYTES, char[]::new,
+                (window, array, offset, n) -> window.asCharBuffer().get(array, offset, n)));
+    }
+
+    public static byte[] readBytes(String filePath) {
+        return readFixed(filePath, DataType.BYTE, Byte.BYTES, byte[]::new,
+                (window, array, offset, n) -> window.get(array, offset, n));
+    }
+
+    public static short[] readShorts(String filePath) {
+        return readFixed(filePath, DataType.SHORT, Short.BYTES, short[]::new,
+                (window, array, offset, n) -> window.asShortBuffer().get(array, offset, n));
+    }
+
+    public static int[] readInts(String filePath) {
+        return readFixed(filePath, DataType.INT, Integer.BYTES, int[]::new,
+                (window, array, offset, n) -> window.asIntBuffer().get(array, offset, n));
+    }
+
+    public static long[] readLongs(String filePath) {
+        return readFixed(filePath, DataType.LONG, Long.BYTES, long[]::new,
+                (window, array, offset, n) -> window.asLongBuffer().get(array, offset, n));
+    }
+
+    public static float[] readFloats(String filePath) {
+        return readFixed(filePath, DataType.FLOAT, Float.BYTES, float[]::new,
+                (window, array, offset, n) -> window.asFloatBuffer().get(array, offset, n));
+    }
+
+    public static double[] readDoubles(String filePath) {
+        return readFixed(filePath, DataType.DOUBLE, Double.BYTES, double[]::new,
+                (window, array, offset, n) -> window.asDoubleBuffer().get(array, offset, n));
+    }
+
+    public static LocalDate[] readLocalDates(String filePath) {
+        return readFixed(filePath, DataType.LOCAL_DATE, Long.BYTES, LocalDate[]::new, (window, array, offset, n) -> {
+            for (int i = 0; i < n; i++) {
+                array[offset + i] = LocalDate.ofEpochDay(window.getLong(i * Long.BYTES));
+            }
+        });
+    }
+
+    public static LocalTime[] readLocalTimes(String filePath) {
+        return readFixed(filePath, DataType.LOCAL_TIME, Long.BYTES, LocalTime[]::new, (window, array, offset, n) -> {
+            for (int i = 0; i < n; i++) {
+                array[offset + i] = LocalTime.ofNanoOfDay(window.getLong(i * Long.BYTES));
+            }
+        });
+    }
+
+    public static LocalDateTime[] readLocalDateTimes(String filePath) {
+        int width = Long.BYTES + Integer.BYTES;
+        return readFixed(filePath, DataType.LOCAL_DATE_TIME, width, LocalDateTime[]::new, (window, array, offset, n) -> {
+            for (int i = 0; i < n; i++) {
+                int at = i * width;
+                array[offset + i] = LocalDateTime.ofEpochSecond(window.getLong(at), window.getInt(at + Long.BYTES), ZoneOffset.UTC);
+            }
+        });
+    }
+
+    /**
+     * Рядки змінної довжини декодуються послідовно; вікно відображення зсувається на межі
+     * елемента, тож рядок ніколи не розрізається між вікнами.
+     */
+    public static String[] readStrings(String filePath) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            Header header = readHeader(channel, filePath);
+            int count = requireType(header, DataType.STRING, filePath);
+            String[] values = new String[count];
+            byte[] scratch = new byte[MAX_STRING_BYTES];
+            Cursor cursor = new Cursor(channel, filePath);
+            for (int i = 0; i < count; i++) {
+                values[i] = cursor.getString(scratch);
+            }
+            verifyChecksum(header, cursor.checksum(), filePath);
+            return values;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Обходить елементи файлу по одному без створення масиву: пам'ять не залежить від
+     * кількості елементів, тож файл може бути більшим за купу і мати понад 2<sup>31</sup> елементів.
+     * char і цілі типи передаються як long, float/double — як double, решта — об'єктами.
+     * Контрольна сума перевіряється після останнього елемента.
+     *
+     * @throws IllegalArgumentException якщо файл іншого типу, обрізаний або пошкоджений
+     * @throws UncheckedIOException якщо файл не вдалося прочитати
+     */
+    public static void scan(String filePath, DataType type, TypedDataParser.ValueVisitor visitor) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            Header header = readHeader(channel, filePath);
+            requireTypeName(header, type, filePath);
+            byte[] scratch = type == DataType.STRING ? new byte[MAX_STRING_BYTES] : null;
+            Cursor cursor = new Cursor(channel, filePath);
+            for (long i = 0; i < header.count(); i++) {
+                switch (type) {
+                    case CHARACTER:
+                        visitor.visitLong(cursor.window(Character.BYTES).getChar());
+                        break;
+                    case BYTE:
+                        visitor.visitLong(cursor.window(Byte.BYTES).get());
+                        break;
+                    case SHORT:
+                        visitor.visitLong(cursor.window(Short.BYTES).getShort());
+                        break;
+                    case INT:
+                        visitor.visitLong(cursor.window(Integer.BYTES).getInt());
+                        break;
+                    case LONG:
+                        visitor.visitLong(cursor.window(Long.BYTES).getLong());
+                        break;
+                    case FLOAT:
+                        visitor.visitDouble(cursor.window(Float.BYTES).getFloat());
+                        break;
+                    case DOUBLE:
+                        visitor.visitDouble(cursor.window(Double.BYTES).getDouble());
+                        break;
+                    case STRING:
+                        visitor.visitObject(cursor.getString(scratch));
+                        break;
+                    case LOCAL_DATE:
+                        visitor.visitObject(LocalDate.ofEpochDay(cursor.window(Long.BYTES).getLong()));
+                        break;
+                    case LOCAL_TIME:
+                        visitor.visitObject(LocalTime.ofNanoOfDay(cursor.window(Long.BYTES).getLong()));
+                        break;
+                    case LOCAL_DATE_TIME:
+                        ByteBuffer window = cursor.window(Long.BYTES + Integer.BYTES);
+                        visitor.visitObject(LocalDateTime.ofEpochSecond(window.getLong(), window.getInt(), ZoneOffset.UTC));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Невідомий тип " + type);
+                }
+            }
+            verifyChecksum(header, cursor.checksum(), filePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Послідовне читання навантаження вікнами відображення: коли в поточному вікні не
+     * вистачає байтів на наступний елемент, нове вікно відображається з його початку.
+     * Прочитані байти додаються до CRC32C під час зсуву вікна.
+     */
+    private static final class Cursor {
+        private final FileChannel channel;
+        private final String filePath;
+        private final long fileSize;
+        private final CRC32C crc = new CRC32C();
+        private long windowStart = HEADER_BYTES;
+        private MappedByteBuffer window;
+
+        Cursor(FileChannel channel, String filePath) throws IOException {
+            this.channel = channel;
+            this.filePath = filePath;
+            this.fileSize = channel.size();
+            this.window = map(channel, windowStart, fileSize);
+        }
+
+        /**
+         * Повертає вікно, у якому з поточної позиції доступно щонайменше {@code bytes} байт.
+         */
+        ByteBuffer window(int bytes) throws IOException {
+            if (window.remaining() < bytes) {
+                crc.update(window.duplicate().flip());
+                windowStart += window.position();
+                window = map(channel, windowStart, fileSize);
+                if (window.remaining() < bytes) {
+                    throw new IllegalArgumentException("Файл " + filePath + " обірвано до кінця даних");
+                }
+            }
+            return window;
+        }
+
+        String getString(byte[] scratch) throws IOException {
+            int length = window(Short.BYTES).getShort(window.position()) & 0xFFFF;
+            ByteBuffer current = window(Short.BYTES + length);
+            current.getShort();
+            current.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        CRC32C checksum() {
+            crc.update(window.duplicate().flip());
+            return crc;
+        }
+    }
+
+    /**
+     * Масове копіювання вікна з {@code n} елементів у масив з позиції {@code offset}.
+     */
+    @FunctionalInterface
+    private interface WindowCopy<A> {
+        void copy(ByteBuffer window, A array, int offset, int n);
+    }
+
+    /**
+     * Відображає навантаження фіксованої ширини вікнами й копіює кожне масово.
+     *
+     * @throws IllegalArgumentException якщо файл іншого типу, обрізаний, пошкоджений або завеликий для масиву
+     * @throws UncheckedIOException якщо файл не вдалося прочитати
+     */
+    private static <A> A readFixed(String filePath, DataType type, int width, IntFunction<A> allocate, WindowCopy<A> copy) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            Header header = readHeader(channel, filePath);
+            int count = requireType(header, type, filePath);
+            if (channel.size() < HEADER_BYTES + (long) count * width) {
+                throw new IllegalArgumentException("Файл " + filePath + " обірвано до кінця даних");
+            }
+            A array = allocate.apply(count);
+            CRC32C crc = new CRC32C();
+            int windowElements = (int) (MAX_MAPPED_WINDOW / width);
+            long position = HEADER_BYTES;
+            for (int done = 0; done < count; ) {
+                int n = Math.min(count - done, windowElements);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) n * width);
+                window.order(ORDER);
+                crc.update(window.duplicate());
+                copy.copy(window, array, done, n);
+                position += (long) n * width;
+                done += n;
+            }
+            verifyChecksum(header, crc, filePath);
+            return array;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long fileSize) throws IOException {
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(MAX_MAPPED_WINDOW, fileSize - position));
+        window.order(ORDER);
+        return window;
+    }
+
+    private static Header readHeader(FileChannel channel, String filePath) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // читаємо до заповнення або кінця файлу
+        }
+        header.flip();
+        byte[] magic = new byte[MAGIC.length];
+        if (header.remaining() == HEADER_BYTES) {
+            header.get(magic);
+        }
+        if (!ByteBuffer.wrap(magic).equals(ByteBuffer.wrap(MAGIC))) {
+            throw new IllegalArgumentException("Файл " + filePath + " не є двійковим файлом даних");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Непідтримувана версія двійкового формату " + version + " у файлі " + filePath);
+        }
+        byte[] name = new byte[TYPE_NAME_BYTES];
+        header.get(name);
+        int nameLength = 0;
+        while (nameLength < name.length && name[nameLength] != 0) {
+            nameLength++;
+        }
+        int flags = header.getInt();
+        header.getInt();
+        long count = header.getLong();
+        long checksum = header.getLong();
+        return new Header(new String(name, 0, nameLength, StandardCharsets.US_ASCII), count,
+                (flags & FLAG_SORTED) != 0, checksum);
+    }
+
+    private static int requireType(Header header, DataType type, String filePath) {
+        requireTypeName(header, type, filePath);
+        if (header.count() < 0 || header.count() > MAX_ELEMENTS) {
+            throw new IllegalArgumentException("Кількість елементів " + header.count() + " у файлі " + filePath + " не вміщується в масив");
+        }
+        return (int) header.count();
+    }
+
+    private static void requireTypeName(Header header, DataType type, String filePath) {
+        if (!header.typeName().equals(type.typeName())) {
+            throw new IllegalArgumentException("Файл " + filePath + " містить дані типу " + header.typeName() + ", а не " + type);
+        }
+    }
+
+    private static void verifyChecksum(Header header, CRC32C crc, String filePath) {
+        if (crc.getValue() != header.checksum()) {
+            throw new IllegalArgumentException("Контрольна сума файлу " + filePath + " не збігається: дані пошкоджено");
+        }
+    }
+
+    // ===== Перетворення текстових файлів =====
+
+    public static void main(String[] args) {
+        String source = null;
+        DataType type = null;
+        String output = null;
+        try {
+            for (String option : args) {
+                if (option.startsWith("--convert=")) {
+                    source = option.substring("--convert=".length());
+                } else if (option.startsWith("--type=")) {
+                    type = DataType.fromOption(option.substring("--type=".length()));
+                } else if (option.startsWith("--output=")) {
+                    output = option.substring("--output=".length());
+                } else {
+                    throw new IllegalArgumentException("невідома опція " + option);
+                }
+            }
+            if (source == null || source.isEmpty()) {
+                throw new IllegalArgumentException("не задано --convert");
+            }
+            if (source.equals("all")) {
+                for (DataType each : DataType.values()) {
+                    convert(each.dataFilePath(), each, binaryPath(each.dataFilePath()));
+                }
+            } else {
+                convert(source, type != null ? type : typeFromFileName(source), output != null ? output : binaryPath(source));
+            }
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        PerformanceTracker.printSummary();
+    }
+
+    /**
+     * Перетворює текстовий файл даних на двійковий.
+     */
+    public static void convert(String textPath, DataType type, String binaryPath) {
+        long timeStart = System.nanoTime();
+        if (type == DataType.CHARACTER) {
+            write(binaryPath, DataFileHandler.loadCharListFromFile(textPath));
+        } else {
+            write(binaryPath, TypedDataParser.load(type, textPath));
+        }
+        PerformanceTracker.displayOperationTime(timeStart, "перетворення " + textPath + " у двійковий формат");
+
+        Header header = readHeader(binaryPath);
+        System.out.println(String.format("✅ %s → %s: %d елементів, %s, %d → %d байт",
+                textPath, binaryPath, header.count(), header.sorted() ? "впорядковані" : "невпорядковані",
+                fileSize(textPath), fileSize(binaryPath)));
+    }
+
+    private static DataType typeFromFileName(String filePath) {
+        String fileName = Paths.get(filePath).getFileName().toString();
+        int dot = fileName.indexOf('.');
+        return DataType.fromOption(dot < 0 ? fileName : fileName.substring(0, dot));
+    }
+
+    private static String binaryPath(String textPath) {
+        return textPath.endsWith(".data") ? textPath.substring(0, textPath.length() - ".data".length()) + ".bin" : textPath + ".bin";
+    }
+
+    private static long fileSize(String filePath) {
+        try {
+            return Files.size(Path.of(filePath));
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
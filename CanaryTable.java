@@ -0,0 +1,254 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Клас CanaryTable — незмінна стовпцева таблиця записів Canary → власник.
+ *
+ * <p>Рядки (кличка, співочість, власник) кодуються словниками: кожен словник — відсортований
+ * масив унікальних рядків, а ідентифікатор рядка — його позиція в ньому, тож порядок
+ * ідентифікаторів збігається з порядком рядків. Кличка і власник зберігаються як {@code int},
+ * співочість — як {@code byte} (до 256 різних значень). Рядок таблиці займає 9 байт у трьох
+ * примітивних масивах замість вузла Map, об'єкта Canary і посилань на String.</p>
+ *
+ * <p>Записи впорядковуються під час побудови двома стабільними сортуваннями підрахунком
+ * за ідентифікаторами — спершу за співочістю, потім за кличкою, — тобто в порядку
+ * {@link BasicDataOperationUsingMap#CANARY_COMPARATOR} без жодного порівняння рядків.
+ * Пошук за ключем перетворює кличку та співочість на ідентифікатори (двійковий пошук
+ * у словниках) і далі двійковим пошуком порівнює лише числа; пошук за власником —
+ * прохід по масиву {@code int}.</p>
+ */
+public final class CanaryTable {
+    private static final int MAX_SINGING_VALUES = 256;
+
+    private final String[] nicknameDictionary;
+    private final String[] singingDictionary;
+    private final String[] ownerDictionary;
+
+    private final int[] nicknameIds;
+    private final byte[] singingIds;
+    private final int[] ownerIds;
+
+    private CanaryTable(String[] nicknameDictionary, String[] singingDictionary, String[] ownerDictionary,
+                        int[] nicknameIds, byte[] singingIds, int[] ownerIds) {
+        this.nicknameDictionary = nicknameDictionary;
+        this.singingDictionary = singingDictionary;
+        this.ownerDictionary = ownerDictionary;
+        this.nicknameIds = nicknameIds;
+        this.singingIds = singingIds;
+        this.ownerIds = ownerIds;
+    }
+
+    /**
+     * Будує таблицю з копії записів Map.
+     *
+     * @throws IllegalArgumentException якщо різних значень співочості більше за 256
+     * @throws NullPointerException якщо ключ, його поля або власник дорівнюють null
+     */
+    public static CanaryTable of(Map<BasicDataOperationUsingMap.Canary, String> entries) {
+        int n = entries.size();
+        String[] nicknames = new String[n];
+        String[] singings = new String[n];
+        String[] owners = new String[n];
+        int row = 0;
+        for (Map.Entry<BasicDataOperationUsingMap.Canary, String> entry : entries.entrySet()) {
+            nicknames[row] = entry.getKey().nickname();
+            singings[row] = entry.getKey().singing();
+            owners[row] = entry.getValue();
+            row++;
+        }
+
+        String[] nicknameDictionary = dictionary(nicknames);
+        String[] singingDictionary = dictionary(singings);
+        String[] ownerDictionary = dictionary(owners);
+        if (singingDictionary.length > MAX_SINGING_VALUES) {
+            throw new IllegalArgumentException("Забагато різних значень співочості для byte: " + singingDictionary.length);
+        }
+
+        int[] nicknameKeys = encode(nicknames, nicknameDictionary);
+        int[] singingKeys = encode(singings, singingDictionary);
+        int[] ownerKeys = encode(owners, ownerDictionary);
+
+        // LSD: стабільне сортування за молодшим ключем, потім за старшим
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        order = countingSort(order, singingKeys, singingDictionary.length);
+        order = countingSort(order, nicknameKeys, nicknameDictionary.length);
+
+        int[] nicknameIds = new int[n];
+        byte[] singingIds = new byte[n];
+        int[] ownerIds = new int[n];
+        for (int i = 0; i < n; i++) {
+            int source = order[i];
+            nicknameIds[i] = nicknameKeys[source];
+            singingIds[i] = (byte) singingKeys[source];
+            ownerIds[i] = ownerKeys[source];
+        }
+        return new CanaryTable(nicknameDictionary, singingDictionary, ownerDictionary,
+                nicknameIds, singingIds, ownerIds);
+    }
+
+    public int size() {
+        return nicknameIds.length;
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Canary key) {
+        return rowOf(key) >= 0;
+    }
+
+    /**
+     * @return власник або null, якщо ключа немає
+     */
+    public String get(BasicDataOperationUsingMap.Canary key) {
+        int row = rowOf(key);
+        return row < 0 ? null : ownerDictionary[ownerIds[row]];
+    }
+
+    /**
+     * Шукає рядок ключа: кличка та співочість перетворюються на ідентифікатори,
+     * далі двійковий пошук порівнює лише числа.
+     *
+     * @return номер рядка в порядку CANARY_COMPARATOR або -1, якщо ключа немає
+     */
+    public int rowOf(BasicDataOperationUsingMap.Canary key) {
+        int nicknameId = Arrays.binarySearch(nicknameDictionary, key.nickname());
+        int singingId = Arrays.binarySearch(singingDictionary, key.singing());
+        if (nicknameId < 0 || singingId < 0) {
+            return -1;
+        }
+        long target = sortKey(nicknameId, singingId);
+        int low = 0;
+        int high = nicknameIds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = sortKey(nicknameIds[mid], singingIds[mid] & 0xFF);
+            if (midKey < target) {
+                low = mid + 1;
+            } else if (midKey > target) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Рахує записи з вказаним власником проходом по стовпцю ідентифікаторів.
+     */
+    public int countByOwner(String owner) {
+        int ownerId = Arrays.binarySearch(ownerDictionary, owner);
+        if (ownerId < 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int id : ownerIds) {
+            if (id == ownerId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Повертає номери рядків з вказаним власником у порядку CANARY_COMPARATOR.
+     */
+    public int[] rowsByOwner(String owner) {
+        int[] rows = new int[countByOwner(owner)];
+        if (rows.length == 0) {
+            return rows;
+        }
+        int ownerId = Arrays.binarySearch(ownerDictionary, owner);
+        int found = 0;
+        for (int row = 0; row < ownerIds.length; row++) {
+            if (ownerIds[row] == ownerId) {
+                rows[found++] = row;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Відновлює ключ рядка (створює новий Canary).
+     */
+    public BasicDataOperationUsingMap.Canary key(int row) {
+        return new BasicDataOperationUsingMap.Canary(
+                nicknameDictionary[nicknameIds[row]], singingDictionary[singingIds[row] & 0xFF]);
+    }
+
+    public String owner(int row) {
+        return ownerDictionary[ownerIds[row]];
+    }
+
+    /**
+     * Розкодовує таблицю в LinkedHashMap, відсортовану за CANARY_COMPARATOR.
+     */
+    public LinkedHashMap<BasicDataOperationUsingMap.Canary, String> toSortedMap() {
+        LinkedHashMap<BasicDataOperationUsingMap.Canary, String> map = new LinkedHashMap<>();
+        for (int row = 0; row < size(); row++) {
+            map.put(key(row), owner(row));
+        }
+        return map;
+    }
+
+    /**
+     * Обсяг стовпців у байтах (без словників): 9 байт на запис.
+     */
+    public long columnBytes() {
+        return (long) size() * (Integer.BYTES + Byte.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Кількість рядків у словниках (кличок, значень співочості та власників разом).
+     */
+    public int dictionaryEntries() {
+        return nicknameDictionary.length + singingDictionary.length + ownerDictionary.length;
+    }
+
+    private static long sortKey(int nicknameId, int singingId) {
+        return (long) nicknameId << 8 | singingId;
+    }
+
+    /**
+     * Відсортований масив унікальних рядків.
+     */
+    private static String[] dictionary(String[] values) {
+        String[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (unique == 0 || !sorted[i].equals(sorted[unique - 1])) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    private static int[] encode(String[] values, String[] dictionary) {
+        int[] ids = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ids[i] = Arrays.binarySearch(dictionary, values[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Стабільне сортування підрахунком перестановки {@code order} за ключами {@code keys[order[i]]}.
+     */
+    private static int[] countingSort(int[] order, int[] keys, int keyRange) {
+        int[] starts = new int[keyRange + 1];
+        for (int index : order) {
+            starts[keys[index] + 1]++;
+        }
+        for (int k = 0; k < keyRange; k++) {
+            starts[k + 1] += starts[k];
+        }
+        int[] sorted = new int[order.length];
+        for (int index : order) {
+            sorted[starts[keys[index]]++] = index;
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,117 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Клас CharFrequencyIndex — незмінний частотний індекс масиву символів.
+ *
+ * <p>Будується за один прохід по даних: щільна таблиця префіксних сум над усім доменом char
+ * (65 537 лічильників, 256 КБ) і бітова карта присутності (8 КБ). Після побудови
+ * contains, count, rank, min і max виконуються за O(1) незалежно від кількості елементів.</p>
+ *
+ * <p>Індекс описує дані на момент побудови: колекції, які потім змінюються (poll, remove),
+ * він не відстежує. Оскільки індекс незмінний, один екземпляр можна спільно
+ * використовувати з кількох потоків.</p>
+ */
+public final class CharFrequencyIndex {
+    private static final int CHAR_DOMAIN = Character.MAX_VALUE + 1;
+    private static final int WORD_COUNT = CHAR_DOMAIN >>> 6;
+
+    /** {@code prefix[v]} — кількість елементів, менших за v; {@code prefix[CHAR_DOMAIN]} — розмір. */
+    private final int[] prefix = new int[CHAR_DOMAIN + 1];
+    private final long[] presence = new long[WORD_COUNT];
+    private final int distinctCount;
+    private final char min;
+    private final char max;
+
+    private CharFrequencyIndex(Character[] values) {
+        for (Character value : values) {
+            char c = value;
+            prefix[c + 1]++;
+            presence[c >>> 6] |= 1L << c;
+        }
+
+        for (int i = 1; i <= CHAR_DOMAIN; i++) {
+            prefix[i] += prefix[i - 1];
+        }
+
+        int distinct = 0;
+        int firstWord = -1;
+        int lastWord = -1;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            if (presence[i] != 0) {
+                distinct += Long.bitCount(presence[i]);
+                if (firstWord < 0) {
+                    firstWord = i;
+                }
+                lastWord = i;
+            }
+        }
+        this.distinctCount = distinct;
+        this.min = firstWord < 0 ? 0 : (char) ((firstWord << 6) + Long.numberOfTrailingZeros(presence[firstWord]));
+        this.max = lastWord < 0 ? 0 : (char) ((lastWord << 6) + 63 - Long.numberOfLeadingZeros(presence[lastWord]));
+    }
+
+    /**
+     * Будує індекс з масиву Character; елементи null не допускаються.
+     */
+    public static CharFrequencyIndex of(Character[] values) {
+        return new CharFrequencyIndex(values);
+    }
+
+    public boolean contains(char value) {
+        return (presence[value >>> 6] & (1L << value)) != 0;
+    }
+
+    /**
+     * Повертає кількість входжень символа.
+     */
+    public int count(char value) {
+        return prefix[value + 1] - prefix[value];
+    }
+
+    /**
+     * Повертає кількість елементів, строго менших за символ, — позицію його першого
+     * входження у відсортованому масиві (або точку вставки, якщо символу немає).
+     */
+    public int rank(char value) {
+        return prefix[value];
+    }
+
+    /**
+     * Повертає найменший символ.
+     */
+    public char min() {
+        requireNotEmpty();
+        return min;
+    }
+
+    /**
+     * Повертає найбільший символ.
+     */
+    public char max() {
+        requireNotEmpty();
+        return max;
+    }
+
+    public int size() {
+        return prefix[CHAR_DOMAIN];
+    }
+
+    public int distinctCount() {
+        return distinctCount;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void requireNotEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("CharFrequencyIndex порожній");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CharFrequencyIndex{size=" + size() + ", distinct=" + distinctCount + "}";
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас CharHeap — двійкова мін-купа примітивів char.
+ *
+ * <p>Примітивна альтернатива {@code PriorityQueue<Character>} з тими самими операціями:
+ * peek/poll за O(1)/O(log n), contains лінійним проходом по масиву. Максимум шукається
+ * лише серед листків купи (друга половина масиву).</p>
+ */
+public final class CharHeap {
+    private char[] heap;
+    private int size;
+
+    public CharHeap(int initialCapacity) {
+        this.heap = new char[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Будує купу з масиву за O(n) (алгоритм Флойда).
+     */
+    public static CharHeap of(char[] values) {
+        CharHeap charHeap = new CharHeap(values.length);
+        System.arraycopy(values, 0, charHeap.heap, 0, values.length);
+        charHeap.size = values.length;
+        charHeap.heapify();
+        return charHeap;
+    }
+
+    /**
+     * Будує купу з масиву Character, розпаковуючи кожен елемент.
+     */
+    public static CharHeap of(Character[] values) {
+        CharHeap charHeap = new CharHeap(values.length);
+        for (int i = 0; i < values.length; i++) {
+            charHeap.heap[i] = values[i];
+        }
+        charHeap.size = values.length;
+        charHeap.heapify();
+        return charHeap;
+    }
+
+    public void offer(char value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1) + 1);
+        }
+        siftUp(size++, value);
+    }
+
+    /**
+     * Повертає найменший елемент без видалення.
+     */
+    public char peek() {
+        requireNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Видаляє та повертає найменший елемент.
+     */
+    public char poll() {
+        requireNotEmpty();
+        char result = heap[0];
+        char last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return result;
+    }
+
+    public boolean contains(char value) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public char min() {
+        return peek();
+    }
+
+    public char max() {
+        requireNotEmpty();
+        char maxValue = heap[size >>> 1];
+        for (int i = (size >>> 1) + 1; i < size; i++) {
+            if (heap[i] > maxValue) maxValue = heap[i];
+        }
+        return maxValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void heapify() {
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    private void siftUp(int index, char value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            char parentValue = heap[parent];
+            if (value >= parentValue) {
+                break;
+            }
+            heap[index] = parentValue;
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index, char value) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            char childValue = heap[child];
+            int right = child + 1;
+            if (right < size && heap[right] < childValue) {
+                child = right;
+                childValue = heap[right];
+            }
+            if (value <= childValue) {
+                break;
+            }
+            heap[index] = childValue;
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("CharHeap порожня");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CharHeap{size=" + size + "}";
+    }
+}
@@ -0,0 +1,169 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас CharList — динамічний список примітивів char без упакування в Character.
+ *
+ * <p>Примітивна альтернатива {@code Vector<Character>}: елементи зберігаються в
+ * суцільному масиві {@code char[]} (2 байти на елемент), тому пошук і сортування
+ * не розіменовують посилання на об'єкти.</p>
+ */
+public final class CharList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private char[] elements;
+    private int size;
+
+    public CharList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CharList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Від'ємна місткість: " + initialCapacity);
+        }
+        this.elements = new char[initialCapacity];
+    }
+
+    /**
+     * Створює список з копією переданого масиву.
+     */
+    public static CharList of(char[] values) {
+        CharList list = new CharList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * Створює список з масиву Character, розпаковуючи кожен елемент.
+     */
+    public static CharList of(Character[] values) {
+        CharList list = new CharList(values.length);
+        for (int i = 0; i < values.length; i++) {
+            list.elements[i] = values[i];
+        }
+        list.size = values.length;
+        return list;
+    }
+
+    public void add(char value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public char get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, char value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Упорядковує елементи за зростанням.
+     */
+    public void sort() {
+        SortEngine.sort(elements, 0, size);
+    }
+
+    /**
+     * Двійковий пошук; як і {@link java.util.Collections#binarySearch}, вимагає відсортованого списку.
+     *
+     * @return позиція елемента або {@code -(точка вставки) - 1}
+     */
+    public int binarySearch(char value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Лінійний пошук, придатний для невідсортованого списку.
+     */
+    public int indexOf(char value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(char value) {
+        return indexOf(value) >= 0;
+    }
+
+    public char min() {
+        requireNotEmpty();
+        char minValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] < minValue) minValue = elements[i];
+        }
+        return minValue;
+    }
+
+    public char max() {
+        requireNotEmpty();
+        char maxValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] > maxValue) maxValue = elements[i];
+        }
+        return maxValue;
+    }
+
+    /**
+     * Повертає копію елементів у вигляді масиву точного розміру.
+     */
+    public char[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Зменшує внутрішній масив до фактичного розміру.
+     */
+    public void trimToSize() {
+        if (elements.length > size) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Індекс " + index + " поза межами розміру " + size);
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("CharList порожній");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CharList{size=" + size + "}";
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Клас CharSortedSet — впорядкована множина char на основі бітової карти.
+ *
+ * <p>Примітивна альтернатива {@code TreeSet<Character>}: увесь домен char (65 536 значень)
+ * займає фіксовані 8 КБ, contains/add/remove виконуються за O(1), а обхід і first/last
+ * працюють по 64 значення за крок.</p>
+ */
+public final class CharSortedSet {
+    private static final int WORD_COUNT = (Character.MAX_VALUE + 1) >>> 6;
+
+    private final long[] words = new long[WORD_COUNT];
+    private int size;
+
+    /**
+     * Створює множину з усіх символів масиву.
+     */
+    public static CharSortedSet of(char[] values) {
+        CharSortedSet set = new CharSortedSet();
+        for (char value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Створює множину з усіх символів масиву Character.
+     */
+    public static CharSortedSet of(Character[] values) {
+        CharSortedSet set = new CharSortedSet();
+        for (Character value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * @return {@code true}, якщо символ був відсутній у множині
+     */
+    public boolean add(char value) {
+        int wordIndex = value >>> 6;
+        long mask = 1L << value;
+        if ((words[wordIndex] & mask) != 0) {
+            return false;
+        }
+        words[wordIndex] |= mask;
+        size++;
+        return true;
+    }
+
+    /**
+     * @return {@code true}, якщо символ був присутній у множині
+     */
+    public boolean remove(char value) {
+        int wordIndex = value >>> 6;
+        long mask = 1L << value;
+        if ((words[wordIndex] & mask) == 0) {
+            return false;
+        }
+        words[wordIndex] &= ~mask;
+        size--;
+        return true;
+    }
+
+    public boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    /**
+     * Повертає найменший символ множини.
+     */
+    public char first() {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            if (words[i] != 0) {
+                return (char) ((i << 6) + Long.numberOfTrailingZeros(words[i]));
+            }
+        }
+        throw new NoSuchElementException("CharSortedSet порожня");
+    }
+
+    /**
+     * Повертає найбільший символ множини.
+     */
+    public char last() {
+        for (int i = WORD_COUNT - 1; i >= 0; i--) {
+            if (words[i] != 0) {
+                return (char) ((i << 6) + 63 - Long.numberOfLeadingZeros(words[i]));
+            }
+        }
+        throw new NoSuchElementException("CharSortedSet порожня");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Повертає елементи множини за зростанням.
+     */
+    public char[] toArray() {
+        char[] result = new char[size];
+        int position = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result[position++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CharSortedSet{size=" + size + "}";
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Перелік CollectionBackend визначає, на яких колекціях працюють процесори List/Queue/Set.
+ *
+ * <ul>
+ *   <li>{@link #BOXED} — стандартні колекції Java з упакованими Character
+ *       (Vector, PriorityQueue, TreeSet).</li>
+ *   <li>{@link #PRIMITIVE} — примітивні колекції char
+ *       ({@link CharList}, {@link CharHeap}, {@link CharSortedSet}).</li>
+ * </ul>
+ */
+public enum CollectionBackend {
+    BOXED,
+    PRIMITIVE;
+
+    /**
+     * Розбирає значення опції командного рядка (без урахування регістру).
+     *
+     * @throws IllegalArgumentException якщо значення невідоме
+     */
+    public static CollectionBackend fromOption(String value) {
+        for (CollectionBackend backend : values()) {
+            if (backend.name().equalsIgnoreCase(value)) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException("Невідомий тип колекцій: " + value + " (очікується boxed або primitive)");
+    }
+}
@@ -0,0 +1,365 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Клас ConcurrentMapWorkload виконує операції з Canary з кількох потоків і вимірює,
+ * як масштабується пропускна здатність потокобезпечних Map зі зростанням кількості потоків.
+ *
+ * <p>Порівнюються {@link ConcurrentHashMap}, {@link ConcurrentSkipListMap} і
+ * {@link StripedSortedMap} (обидві впорядковані — за {@link BasicDataOperationUsingMap#CANARY_COMPARATOR}).
+ * Кожен потік у циклі виконує ті самі операції, що й однопотоковий режим: пошук за ключем,
+ * пошук за значенням (власником), додавання та видалення — у пропорціях, заданих {@link Mix}.</p>
+ *
+ * <p>Для кожної Map і кожної кількості потоків Map заповнюється наново (половина простору
+ * ключів), потоки стартують одночасно, спершу працюють у вікні прогріву, а потім —
+ * у вимірюваному вікні, в якому рахуються операції. Додавання та видалення рівномірно
+ * розподілені по простору ключів, тож розмір Map залишається приблизно сталим.</p>
+ *
+ * <p>Пошук за значенням у ConcurrentMap — це {@code containsValue}, тобто прохід по всіх
+ * записах, тому його частку в суміші варто тримати невеликою.</p>
+ *
+ * <p>Суміш не містить впорядкованих запитів. Тому після таблиці масштабування окремо
+ * вимірюється найменший ключ заповненої Map: у ConcurrentSkipListMap це {@code firstKey},
+ * а StripedSortedMap спершу збирає впорядкований знімок усіх смуг.</p>
+ */
+final class ConcurrentMapWorkload {
+    static final String USAGE_MESSAGE = "Використання: java BasicDataOperationUsingMap --concurrent [опції]\n" +
+"Опції:\n" +
+"  --threads=1,2,4,...   кількості потоків (за замовчуванням степені двійки до кількості ядер)\n" +
+"  --mix=G,V,P,R         відсотки операцій: пошук за ключем, за значенням, додавання, видалення\n" +
+"                        (сума 100, за замовчуванням 80,2,9,9)\n" +
+"  --duration=МС         вимірюване вікно одного прогону в мілісекундах (за замовчуванням 1000)\n" +
+"  --keys=N              кількість записів у Map на початку прогону (за замовчуванням 10000)";
+
+    private static final int OWNER_COUNT = 100;
+    private static final int MAX_STRIPES = 256;
+
+    private static final int RUNNING_WARMUP = 0;
+    private static final int RUNNING_MEASURED = 1;
+    private static final int STOPPED = 2;
+
+    private int[] threadCounts = defaultThreadCounts();
+    private Mix mix = new Mix(80, 2, 9, 9);
+    private long durationMs = 1000;
+    private int keyCount = 10_000;
+
+    private BasicDataOperationUsingMap.Canary[] keys;
+    private String[] owners;
+    private volatile int phase;
+
+    /**
+     * Частки операцій у відсотках; сума дорівнює 100.
+     */
+    static final class Mix {
+        private final int get;
+        private final int value;
+        private final int put;
+        private final int remove;
+
+        Mix(int get, int value, int put, int remove) {
+            if (get < 0 || value < 0 || put < 0 || remove < 0 || get + value + put + remove != 100) {
+                throw new IllegalArgumentException("--mix очікує чотири невід'ємні відсотки з сумою 100");
+            }
+            this.get = get;
+            this.value = value;
+            this.put = put;
+            this.remove = remove;
+        }
+
+        /**
+         * Розбирає значення опції {@code G,V,P,R}.
+         */
+        static Mix parse(String option) {
+            String[] parts = option.split(",");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("--mix очікує чотири числа через кому, отримано: " + option);
+            }
+            int[] values = new int[4];
+            for (int i = 0; i < 4; i++) {
+                values[i] = parseInt(parts[i].trim(), "--mix");
+            }
+            return new Mix(values[0], values[1], values[2], values[3]);
+        }
+
+        @Override
+        public String toString() {
+            return "get " + get + "%, value " + value + "%, put " + put + "%, remove " + remove + "%";
+        }
+    }
+
+    /**
+     * Розбирає опції після {@code --concurrent}.
+     *
+     * @throws IllegalArgumentException якщо опція невідома або має некоректне значення
+     */
+    static ConcurrentMapWorkload fromOptions(String[] args) {
+        ConcurrentMapWorkload workload = new ConcurrentMapWorkload();
+        for (String option : args) {
+            if (option.equals("--concurrent")) {
+                continue;
+            } else if (option.startsWith("--threads=")) {
+                workload.threadCounts = parseThreadCounts(option.substring("--threads=".length()));
+            } else if (option.startsWith("--mix=")) {
+                workload.mix = Mix.parse(option.substring("--mix=".length()));
+            } else if (option.startsWith("--duration=")) {
+                workload.durationMs = parsePositive(option.substring("--duration=".length()), "--duration");
+            } else if (option.startsWith("--keys=")) {
+                workload.keyCount = parsePositive(option.substring("--keys=".length()), "--keys");
+            } else {
+                throw new IllegalArgumentException("невідома опція " + option);
+            }
+        }
+        return workload;
+    }
+
+    /**
+     * Запускає всі Map на всіх кількостях потоків і виводить таблицю масштабування.
+     */
+    void run() {
+        prepareKeys();
+        int maxThreads = Arrays.stream(threadCounts).max().orElse(1);
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(maxThreads * 4 - 1) << 1);
+
+        List<MapFactory> factories = List.of(
+                new MapFactory("ConcurrentHashMap", () -> new ConcurrentHashMap<>(keyCount * 2)),
+                new MapFactory("ConcurrentSkipListMap",
+                        () -> new ConcurrentSkipListMap<>(BasicDataOperationUsingMap.CANARY_COMPARATOR)),
+                new MapFactory("StripedSortedMap(" + stripes + ")",
+                        () -> new StripedSortedMap<>(BasicDataOperationUsingMap.CANARY_COMPARATOR, stripes)));
+
+        ReportSink.line("\n=== БАГАТОПОТОКОВИЙ РЕЖИМ MAP (Canary) ===");
+        ReportSink.line("Ядер: " + Runtime.getRuntime().availableProcessors()
+                + ", записів: " + keyCount + ", простір ключів: " + keys.length
+                + ", вікно: " + durationMs + " мс (прогрів " + warmupMs() + " мс)");
+        ReportSink.line("Суміш операцій: " + mix);
+
+        List<RunResult> results = new ArrayList<>();
+        for (MapFactory factory : factories) {
+            for (int threads : threadCounts) {
+                RunResult result = measure(factory, threads);
+                results.add(result);
+                ReportSink.line(String.format("  %-26s %3d потоків: %,14.0f оп/с", factory.name, threads, result.opsPerSecond()));
+            }
+        }
+        printScalingReport(results);
+        printOrderedQueryCost(stripes);
+    }
+
+    /**
+     * Готує ключі та власників заздалегідь, щоб створення об'єктів не потрапляло у вимір.
+     */
+    private void prepareKeys() {
+        keys = new BasicDataOperationUsingMap.Canary[keyCount * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new BasicDataOperationUsingMap.Canary("Canary" + i, String.valueOf(1 + i % 5));
+        }
+        owners = new String[OWNER_COUNT];
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            owners[i] = "Owner" + i;
+        }
+    }
+
+    /**
+     * Один прогін: нова заповнена Map, {@code threads} потоків, прогрів і вимірюване вікно.
+     */
+    private RunResult measure(MapFactory factory, int threads) {
+        ConcurrentMap<BasicDataOperationUsingMap.Canary, String> map = factory.create.get();
+        for (int i = 0; i < keys.length; i += 2) {
+            map.put(keys[i], owners[i % OWNER_COUNT]);
+        }
+
+        phase = RUNNING_WARMUP;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = 0x9E3779B97F4A7C15L * (t + 1);
+            futures.add(executor.submit(() -> worker(map, new SplittableRandom(seed), start)));
+        }
+
+        long measuredNs = 0;
+        long operations = 0;
+        try {
+            start.countDown();
+            Thread.sleep(warmupMs());
+            long timeStart = System.nanoTime();
+            phase = RUNNING_MEASURED;
+            Thread.sleep(durationMs);
+            phase = STOPPED;
+            measuredNs = System.nanoTime() - timeStart;
+            for (Future<Long> future : futures) {
+                operations += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            phase = STOPPED;
+        } catch (ExecutionException e) {
+            phase = STOPPED;
+            throw new IllegalStateException("Помилка потоку навантаження: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        PerformanceTracker.displayElapsedTime(measuredNs, "багатопотокова Map " + factory.name + ", потоків: " + threads);
+        return new RunResult(factory.name, threads, operations, measuredNs);
+    }
+
+    /**
+     * Цикл одного потоку: випадкові операції за сумішшю до зупинки.
+     *
+     * @return кількість операцій у вимірюваному вікні
+     */
+    private long worker(ConcurrentMap<BasicDataOperationUsingMap.Canary, String> map,
+                          SplittableRandom random, CountDownLatch start) throws InterruptedException {
+        start.await();
+        long operations = 0;
+        int getBound = mix.get;
+        int valueBound = getBound + mix.value;
+        int putBound = valueBound + mix.put;
+
+        int currentPhase;
+        while ((currentPhase = phase) != STOPPED) {
+            int choice = random.nextInt(100);
+            BasicDataOperationUsingMap.Canary key = keys[random.nextInt(keys.length)];
+            if (choice < getBound) {
+                map.get(key);
+            } else if (choice < valueBound) {
+                map.containsValue(owners[random.nextInt(OWNER_COUNT)]);
+            } else if (choice < putBound) {
+                map.put(key, owners[random.nextInt(OWNER_COUNT)]);
+            } else {
+                map.remove(key);
+            }
+            if (currentPhase == RUNNING_MEASURED) {
+                operations++;
+            }
+        }
+        return operations;
+    }
+
+    private void printScalingReport(List<RunResult> results) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ReportSink.line("\n📈 МАСШТАБУВАННЯ (прискорення відносно " + threadCounts[0] + " потоків):\n");
+        ReportSink.line(String.format("%-26s | %8s | %16s | %12s | %12s",
+                "Map", "Потоків", "Операцій/с", "Прискорення", "Ефективність"));
+        ReportSink.line("-".repeat(86));
+        RunResult baseline = null;
+        for (RunResult result : results) {
+            if (baseline == null || !baseline.name.equals(result.name)) {
+                baseline = result;
+            }
+            double speedup = baseline.opsPerSecond() == 0 ? 0.0 : result.opsPerSecond() / baseline.opsPerSecond();
+            double efficiency = speedup * baseline.threads / result.threads;
+            ReportSink.line(String.format("%-26s | %8s | %,16.0f | %11.2fx | %11.0f%%",
+                    result.name, result.threads + (result.threads > cores ? "*" : ""),
+                    result.opsPerSecond(), speedup, efficiency * 100));
+        }
+        ReportSink.line("-".repeat(86));
+        ReportSink.line("* — потоків більше, ніж ядер (" + cores + "): зростання там обмежене залізом, а не Map.");
+    }
+
+    /**
+     * Вимірює найменший ключ заповненої впорядкованої Map: ціну впорядкованого запиту,
+     * якої таблиця масштабування не показує.
+     */
+    private void printOrderedQueryCost(int stripes) {
+        ConcurrentSkipListMap<BasicDataOperationUsingMap.Canary, String> skipList =
+                new ConcurrentSkipListMap<>(BasicDataOperationUsingMap.CANARY_COMPARATOR);
+        StripedSortedMap<BasicDataOperationUsingMap.Canary, String> striped =
+                new StripedSortedMap<>(BasicDataOperationUsingMap.CANARY_COMPARATOR, stripes);
+        for (int i = 0; i < keys.length; i += 2) {
+            skipList.put(keys[i], owners[i % OWNER_COUNT]);
+            striped.put(keys[i], owners[i % OWNER_COUNT]);
+        }
+
+        ReportSink.line("\n📐 ВПОРЯДКОВАНИЙ ЗАПИТ (найменший ключ серед " + keyCount + " записів):");
+        PerformanceTracker.measure("firstKey ConcurrentSkipListMap", skipList::firstKey);
+        PerformanceTracker.measure("firstKey StripedSortedMap(" + stripes + ") через snapshot()",
+                () -> striped.snapshot().firstKey());
+        ReportSink.line("StripedSortedMap розподіляє ключі між смугами за хешем, тож snapshot() і entrySet()");
+        ReportSink.line("копіюють усі смуги в нову TreeMap — O(n log n) на кожен впорядкований запит.");
+    }
+
+    private long warmupMs() {
+        return Math.max(100, durationMs / 2);
+    }
+
+    private static int[] defaultThreadCounts() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads <<= 1) {
+            counts.add(threads);
+        }
+        counts.add(cores);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] parseThreadCounts(String value) {
+        String[] parts = value.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = parsePositive(parts[i].trim(), "--threads");
+        }
+        return counts;
+    }
+
+    private static int parsePositive(String value, String optionName) {
+        int parsed = parseInt(value, optionName);
+        if (parsed <= 0) {
+            throw new IllegalArgumentException(optionName + " очікує додатне ціле число, отримано: " + value);
+        }
+        return parsed;
+    }
+
+    private static int parseInt(String value, String optionName) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(optionName + " очікує ціле число, отримано: " + value);
+        }
+    }
+
+    /**
+     * Map, що порівнюється, і спосіб створити її порожньою.
+     */
+    private static final class MapFactory {
+        private final String name;
+        private final Supplier<ConcurrentMap<BasicDataOperationUsingMap.Canary, String>> create;
+
+        MapFactory(String name, Supplier<ConcurrentMap<BasicDataOperationUsingMap.Canary, String>> create) {
+            this.name = name;
+            this.create = create;
+        }
+    }
+
+    /**
+     * Результат одного прогону.
+     */
+    private static final class RunResult {
+        private final String name;
+        private final int threads;
+        private final long operations;
+        private final long measuredNs;
+
+        RunResult(String name, int threads, long operations, long measuredNs) {
+            this.name = name;
+            this.threads = threads;
+            this.operations = operations;
+            this.measuredNs = measuredNs;
+        }
+
+        double opsPerSecond() {
+            return measuredNs == 0 ? 0.0 : operations * 1_000_000_000.0 / measuredNs;
+        }
+    }
+}
@@ -1,44 +1,505 @@
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
 
 /**
  * Клас DataFileHandler управляє роботою з файлами даних Character.
+ * 
+ * <p>Для решти типів з каталогу list/ клас надає побайтовий обхід рядків
+ * ({@link #scanLines(String, LineVisitor)}), на якому побудовано {@link TypedDataParser},
+ * та запис довільних рядків ({@link #writeLinesToFile(String, int, IntFunction)}).</p>
  */
 public class DataFileHandler {
+    /** Максимальний розмір одного відображеного вікна файлу (обмеження MappedByteBuffer — 2 ГБ). */
+    private static final long MAX_MAPPED_WINDOW = 1L << 30;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    /** Розмір direct-буфера, через який дані порціями записуються в канал. */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final ThreadLocal<ByteBuffer> WRITE_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+
     /**
      * Завантажує масив Character з файлу (кожен рядок — символ).
+     * 
+     * <p>Дані читаються через {@link #loadCharListFromFile(String)} і упаковуються один раз,
+     * без проміжного списку та повторного копіювання.</p>
      */
     public static Character[] loadArrayFromFile(String filePath) {
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
-            return fileReader.lines()
-                    .map(String::trim)
-                    .filter(line -> !line.isEmpty())
-                    .map(line -> line.charAt(0))
-                    .collect(Collectors.toList())
-                    .toArray(new Character[0]);
+        CharList chars = loadCharListFromFile(filePath);
+        Character[] result = new Character[chars.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = chars.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Завантажує масив char з файлу (кожен рядок — символ).
+     */
+    public static char[] loadCharArrayFromFile(String filePath) {
+        return loadCharListFromFile(filePath).toArray();
+    }
+
+    /**
+     * Завантажує символи з файлу через відображення в пам'ять ({@link FileChannel#map}).
+     * 
+     * <p>UTF-8 декодується за один прохід прямо з відображеного буфера: з кожного рядка
+     * береться перший символ після пробілів (як {@code line.trim().charAt(0)}), порожні рядки
+     * пропускаються. Рядки розділяються {@code \n}, {@code \r\n} або {@code \r}.
+     * UTF-8 BOM на початку файлу пропускається. Некоректні послідовності байтів
+     * замінюються на U+FFFD.</p>
+     * 
+     * <p>Файли, більші за 2 ГБ, відображаються послідовними вікнами. Двійковий файл
+     * ({@link BinaryDataFile}) читається без розбору рядків.</p>
+     */
+    public static CharList loadCharListFromFile(String filePath) {
+        if (BinaryDataFile.isBinary(filePath)) {
+            try {
+                return BinaryDataFile.readChars(filePath);
+            } catch (UncheckedIOException | IllegalArgumentException exception) {
+                exception.printStackTrace();
+                return new CharList();
+            }
+        }
+        CharList chars = new CharList();
+        try {
+            scanTextChars(filePath, chars::add);
         } catch (IOException ioException) {
             ioException.printStackTrace();
-            return new Character[0];
+            return new CharList(0);
+        }
+        chars.trimToSize();
+        return chars;
+    }
+
+    /**
+     * Обробник одного символа файлу даних.
+     */
+    @FunctionalInterface
+    public interface CharVisitor {
+        void visit(char value);
+    }
+
+    /**
+     * Обходить символи текстового файлу в тому ж порядку й за тими ж правилами, що й
+     * {@link #loadCharListFromFile(String)}, не зберігаючи їх: пам'ять не залежить від розміру файлу.
+     *
+     * @throws UncheckedIOException якщо файл не вдалося прочитати
+     */
+    public static void scanChars(String filePath, CharVisitor visitor) {
+        try {
+            scanTextChars(filePath, visitor);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private static void scanTextChars(String filePath, CharVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long position = 0;
+            boolean atLineStart = true;
+
+            while (position < fileSize) {
+                long windowSize = Math.min(MAX_MAPPED_WINDOW, fileSize - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                int limit = buffer.limit();
+                int index = 0;
+
+                if (position == 0 && limit >= 3
+                        && (buffer.get(0) & 0xFF) == 0xEF
+                        && (buffer.get(1) & 0xFF) == 0xBB
+                        && (buffer.get(2) & 0xFF) == 0xBF) {
+                    index = 3;
+                }
+
+                while (index < limit) {
+                    int b = buffer.get(index) & 0xFF;
+
+                    if (!atLineStart) {
+                        // решта рядка не потрібна — шукаємо кінець рядка
+                        if (b == '\n' || b == '\r') {
+                            atLineStart = true;
+                        }
+                        index++;
+                        continue;
+                    }
+
+                    if (b <= ' ') {
+                        // пробіли та керуючі символи, які відкидає String.trim()
+                        index++;
+                        continue;
+                    }
+
+                    int sequenceLength = utf8SequenceLength(b);
+                    if (index + sequenceLength > limit && position + index + sequenceLength <= fileSize) {
+                        // послідовність перетинає межу вікна — наступне вікно почнеться з неї
+                        break;
+                    }
+
+                    visitor.visit(decodeFirstChar(buffer, index, Math.min(sequenceLength, limit - index)));
+                    atLineStart = false;
+                    // байти продовження (0x80-0xBF) пропускаються разом з рештою рядка
+                    index++;
+                }
+
+                position += index;
+            }
+        }
+    }
+
+    /**
+     * Обробник одного рядка файлу, заданого діапазоном байтів [start, end) у буфері.
+     */
+    @FunctionalInterface
+    public interface LineVisitor {
+        void visit(ByteBuffer buffer, int start, int end);
+    }
+
+    /**
+     * Обходить непорожні рядки файлу без створення String для кожного рядка.
+     * 
+     * <p>Файл відображається в пам'ять так само, як у {@link #loadCharListFromFile(String)}:
+     * BOM пропускається, рядки розділяються {@code \n}, {@code \r\n} або {@code \r},
+     * пробіли та керуючі символи на краях рядка відкидаються (як {@code String.trim()}).
+     * Обробник отримує лише байти рядка і сам вирішує, як їх розбирати.</p>
+     * 
+     * <p>Рядок, що перетинає межу вікна, повністю потрапляє в наступне вікно.</p>
+     *
+     * @throws UncheckedIOException якщо файл не вдалося прочитати або рядок довший за вікно відображення
+     */
+    public static void scanLines(String filePath, LineVisitor visitor) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long position = 0;
+
+            while (position < fileSize) {
+                long windowSize = Math.min(MAX_MAPPED_WINDOW, fileSize - position);
+                boolean lastWindow = position + windowSize == fileSize;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                int limit = buffer.limit();
+                int index = 0;
+
+                if (position == 0 && limit >= 3
+                        && (buffer.get(0) & 0xFF) == 0xEF
+                        && (buffer.get(1) & 0xFF) == 0xBB
+                        && (buffer.get(2) & 0xFF) == 0xBF) {
+                    index = 3;
+                }
+
+                while (index < limit) {
+                    int lineEnd = index;
+                    while (lineEnd < limit && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r') {
+                        lineEnd++;
+                    }
+                    if (lineEnd == limit && !lastWindow) {
+                        if (index == 0) {
+                            throw new IOException("Рядок довший за вікно відображення у файлі " + filePath);
+                        }
+                        // незавершений рядок — наступне вікно почнеться з нього
+                        break;
+                    }
+
+                    int start = index;
+                    int end = lineEnd;
+                    while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+                        start++;
+                    }
+                    while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+                        end--;
+                    }
+                    if (start < end) {
+                        visitor.visit(buffer, start, end);
+                    }
+                    index = lineEnd < limit ? lineEnd + 1 : lineEnd;
+                }
+
+                position += index;
+            }
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
         }
     }
 
+    /**
+     * Обчислює контрольну суму CRC32C вмісту файлу.
+     *
+     * <p>Файл відображається в пам'ять вікнами, як і при читанні, і байти подаються в
+     * {@link CRC32C} без копіювання у heap-масив.</p>
+     *
+     * @return Контрольна сума або {@code -1}, якщо файл не вдалося прочитати
+     */
+    public static long checksum(String filePath) {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long position = 0;
+            while (position < fileSize) {
+                long windowSize = Math.min(MAX_MAPPED_WINDOW, fileSize - position);
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize));
+                position += windowSize;
+            }
+        } catch (IOException ioException) {
+            return -1;
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Повертає довжину UTF-8 послідовності за першим байтом (1 для некоректного байта).
+     */
+    private static int utf8SequenceLength(int leadByte) {
+        if (leadByte < 0x80) return 1;
+        if (leadByte >= 0xC2 && leadByte <= 0xDF) return 2;
+        if (leadByte >= 0xE0 && leadByte <= 0xEF) return 3;
+        if (leadByte >= 0xF0 && leadByte <= 0xF4) return 4;
+        return 1;
+    }
+
+    /**
+     * Декодує UTF-8 послідовність і повертає її перший UTF-16 символ
+     * (для символів поза BMP — старший сурогат, як {@code String.charAt(0)}).
+     */
+    private static char decodeFirstChar(MappedByteBuffer buffer, int index, int available) {
+        int leadByte = buffer.get(index) & 0xFF;
+        int length = utf8SequenceLength(leadByte);
+        if (length == 1) {
+            return leadByte < 0x80 ? (char) leadByte : REPLACEMENT_CHAR;
+        }
+        if (available < length) {
+            return REPLACEMENT_CHAR;
+        }
+
+        int codePoint = leadByte & (0xFF >>> (length + 1));
+        for (int i = 1; i < length; i++) {
+            int continuation = buffer.get(index + i) & 0xFF;
+            if ((continuation & 0xC0) != 0x80) {
+                return REPLACEMENT_CHAR;
+            }
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+
+        if ((length == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint)))
+                || (length == 4 && (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT))) {
+            return REPLACEMENT_CHAR;
+        }
+        return codePoint < 0x10000 ? (char) codePoint : Character.highSurrogate(codePoint);
+    }
+
     /**
      * Збереження масиву Character у файл.
      */
     public static void writeArrayToFile(Character[] charArray, String filePath) {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
-            String content = Arrays.stream(charArray)
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(System.lineSeparator()));
-            
-            fileWriter.write(content);
+        writeArrayToFile(charArray, filePath, false);
+    }
+
+    /**
+     * Збереження масиву Character у файл (кожен символ — окремий рядок, UTF-8).
+     * 
+     * <p>Символи кодуються порціями в повторно використовуваний direct-буфер і записуються
+     * через {@link FileChannel} у тимчасовий файл, який після завершення атомарно
+     * перейменовується на цільовий. Рядок з усім вмістом файлу в пам'яті не будується.</p>
+     * 
+     * @param fsync Якщо {@code true}, дані скидаються на диск ({@link FileChannel#force}) перед перейменуванням
+     */
+    public static void writeArrayToFile(Character[] charArray, String filePath, boolean fsync) {
+        writeAtomically(filePath, fsync, (channel, buffer) -> {
+            for (int i = 0; i < charArray.length; i++) {
+                if (i > 0) {
+                    putBytes(channel, buffer, LINE_SEPARATOR);
+                }
+                putChar(channel, buffer, charArray[i]);
+            }
+        });
+    }
+
+    /**
+     * Збереження масиву char у файл.
+     */
+    public static void writeArrayToFile(char[] charArray, String filePath) {
+        writeArrayToFile(charArray, filePath, false);
+    }
+
+    /**
+     * Збереження масиву char у файл; формат і гарантії ті самі, що й для
+     * {@link #writeArrayToFile(Character[], String, boolean)}.
+     */
+    public static void writeArrayToFile(char[] charArray, String filePath, boolean fsync) {
+        writeAtomically(filePath, fsync, (channel, buffer) -> {
+            for (int i = 0; i < charArray.length; i++) {
+                if (i > 0) {
+                    putBytes(channel, buffer, LINE_SEPARATOR);
+                }
+                putChar(channel, buffer, charArray[i]);
+            }
+        });
+    }
+
+    /**
+     * Збереження довільних значень у файл, по одному рядку на елемент (UTF-8).
+     * 
+     * <p>Запис іде тим самим шляхом, що й для символів: порціями через direct-буфер
+     * у тимчасовий файл з атомарним перейменуванням.</p>
+     * 
+     * @param count Кількість рядків
+     * @param line Текст рядка за його індексом
+     */
+    public static void writeLinesToFile(String filePath, int count, IntFunction<? extends CharSequence> line) {
+        writeAtomically(filePath, false, (channel, buffer) -> {
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    putBytes(channel, buffer, LINE_SEPARATOR);
+                }
+                putText(channel, buffer, line.apply(i));
+            }
+        });
+    }
+
+    /**
+     * Двійковий вміст файлу, записаний безпосередньо в канал.
+     */
+    @FunctionalInterface
+    public interface BinaryContent {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Збереження двійкового файлу через той самий тимчасовий файл з атомарним перейменуванням.
+     */
+    public static void writeBinaryFile(String filePath, BinaryContent content) {
+        writeAtomically(filePath, false, (channel, buffer) -> content.write(channel));
+    }
+
+    /**
+     * Запис вмісту файлу через канал і буфер.
+     */
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel, ByteBuffer buffer) throws IOException;
+    }
+
+    /**
+     * Записує файл через тимчасовий файл у тому ж каталозі та атомарне перейменування,
+     * тож читачі бачать або старий, або повністю записаний новий вміст.
+     */
+    private static void writeAtomically(String filePath, boolean fsync, ChannelWriter writer) {
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path tempFile = target.resolveSibling(target.getFileName() + "."
+                + ProcessHandle.current().pid() + "-" + Thread.currentThread().getId() + ".tmp");
+        ByteBuffer buffer = WRITE_BUFFER.get();
+        buffer.clear();
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer.write(channel, buffer);
+                drain(channel, buffer);
+                if (fsync) {
+                    channel.force(true);
+                }
+            }
+
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            if (fsync) {
+                syncDirectory(target.getParent());
+            }
         } catch (IOException ioException) {
             ioException.printStackTrace();
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // тимчасовий файл залишиться, цільовий файл не пошкоджено
+            }
+        }
+    }
+
+    /**
+     * Скидає на диск запис каталогу після перейменування (підтримується не на всіх ОС).
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // наприклад, Windows не дозволяє відкрити каталог як канал
+        }
+    }
+
+    /**
+     * Кодує символ у UTF-8; одиночні сурогати замінюються на '?', як при записі через Writer.
+     */
+    private static void putChar(FileChannel channel, ByteBuffer buffer, char c) throws IOException {
+        if (buffer.remaining() < 3) {
+            drain(channel, buffer);
+        }
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    /**
+     * Кодує текст у UTF-8; сурогатні пари записуються як один 4-байтовий символ.
+     */
+    private static void putText(FileChannel channel, ByteBuffer buffer, CharSequence text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                if (buffer.remaining() < 4) {
+                    drain(channel, buffer);
+                }
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                putChar(channel, buffer, c);
+            }
+        }
+    }
+
+    private static void putBytes(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+        if (buffer.remaining() < bytes.length) {
+            drain(channel, buffer);
+        }
+        buffer.put(bytes);
+    }
+
+    /**
+     * Записує накопичені байти в канал і очищує буфер для наступної порції.
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
         }
+        buffer.clear();
     }
 }
@@ -0,0 +1,164 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+/**
+ * Клас DataOperationEvent — подія Java Flight Recorder для операцій процесорів
+ * BasicDataOperationUsing* (сортування, пошук, мін/макс, операції черги і Map).
+ *
+ * <p>Подія несе назву операції, тип колекції, тип і кількість елементів та результат,
+ * а її початок і тривалість лягають на ту саму шкалу часу, що й події GC, виділення
+ * пам'яті та блокувань, тож усе видно в одному записі JFR.</p>
+ *
+ * <p>Події вимкнені за замовчуванням: {@link #start} тоді повертає null без створення
+ * об'єкта, а {@link #finish} нічого не робить — ціна вимкнених подій зводиться до
+ * читання одного прапорця. Опція {@code --jfr} вмикає події (їх запише запущений окремо
+ * запис, наприклад {@code -XX:StartFlightRecording}), а {@code --jfr=ФАЙЛ} ще й
+ * запускає запис з профілем {@code profile} і зберігає його у файл ({@link #startRecording}).</p>
+ *
+ * <p>Для операцій, виміряних {@link PerformanceTracker#measure}, подія охоплює весь
+ * калібрований вимір, тобто всі виклики операції.</p>
+ */
+@Name("BasicDataOperation.DataOperation")
+@Label("Операція з даними")
+@Category("BasicDataOperation")
+@Description("Операція процесора BasicDataOperationUsing* над колекцією")
+@StackTrace(false)
+final class DataOperationEvent extends Event {
+    static final String FOUND = "знайдено";
+    static final String ABSENT = "відсутнє";
+    static final String DONE = "виконано";
+    static final String FROM_CACHE = "з кешу";
+
+    private static volatile boolean enabled;
+    private static Recording recording;
+
+    @Label("Операція")
+    String operation;
+
+    @Label("Колекція")
+    String collection;
+
+    @Label("Тип елементів")
+    String elementType;
+
+    @Label("Кількість елементів")
+    long elementCount;
+
+    @Label("Результат")
+    String outcome;
+
+    private DataOperationEvent() {
+    }
+
+    static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Починає подію.
+     *
+     * @param operation Операція (сортування, пошук, мін/макс, peek, poll, ...)
+     * @param collection Колекція (масив, Vector, PriorityQueue, TreeMap, ...)
+     * @param elementType Тип елементів
+     * @param elementCount Кількість елементів у колекції перед операцією
+     * @return подія або null, якщо події вимкнені чи JFR їх зараз не записує
+     */
+    static DataOperationEvent start(String operation, String collection, String elementType, long elementCount) {
+        if (!enabled) {
+            return null;
+        }
+        DataOperationEvent event = new DataOperationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.operation = operation;
+        event.collection = collection;
+        event.elementType = elementType;
+        event.elementCount = elementCount;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Завершує подію з результатом; null-подія ігнорується.
+     */
+    static void finish(DataOperationEvent event, String outcome) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Завершує подію пошуку: {@link #FOUND} або {@link #ABSENT}.
+     */
+    static void finish(DataOperationEvent event, boolean found) {
+        finish(event, found ? FOUND : ABSENT);
+    }
+
+    /**
+     * Завершує подію пошуку мін/макс з результатом {@code "[min, max]"}; рядок
+     * будується лише для записаної події.
+     */
+    static void finishRange(DataOperationEvent event, Object min, Object max) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = "[" + min + ", " + max + "]";
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Вмикає події і запускає запис JFR з профілем {@code profile}; запис зберігається
+     * у файл під час {@link #stopRecording()}.
+     *
+     * @throws UncheckedIOException якщо запис не вдалося запустити
+     */
+    static synchronized void startRecording(String file) {
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration("profile"));
+            newRecording.setName("BasicDataOperation");
+            newRecording.enable(DataOperationEvent.class);
+            newRecording.setDestination(Paths.get(file));
+            newRecording.start();
+            recording = newRecording;
+            enabled = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new UncheckedIOException(new IOException("некоректний профіль JFR: " + e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Зупиняє запис, запущений {@link #startRecording}, і зберігає його у файл.
+     *
+     * @return шлях до файлу запису або null, якщо запис не запускався
+     */
+    static synchronized String stopRecording() {
+        if (recording == null) {
+            return null;
+        }
+        String destination = String.valueOf(recording.getDestination());
+        recording.stop();
+        recording.close();
+        recording = null;
+        return destination;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Перелік DataType описує типи елементів, для яких у каталозі list/ є набори даних.
+ *
+ * <p>Кожен тип відповідає файлу {@code list/<назва>.data}. {@link #CHARACTER} обробляється
+ * основним конвеєром з процесорами List/Queue/Set, решта — {@link BasicDataOperationUsingTypedData}.</p>
+ */
+public enum DataType {
+    CHARACTER("Character"),
+    BYTE("byte"),
+    SHORT("short"),
+    INT("int"),
+    LONG("long"),
+    FLOAT("float"),
+    DOUBLE("double"),
+    STRING("String"),
+    LOCAL_DATE("LocalDate"),
+    LOCAL_TIME("LocalTime"),
+    LOCAL_DATE_TIME("LocalDateTime");
+
+    private final String typeName;
+
+    DataType(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Назва типу в Java, яка також є назвою файлу даних.
+     */
+    public String typeName() {
+        return typeName;
+    }
+
+    public String dataFilePath() {
+        return "list/" + typeName + ".data";
+    }
+
+    /**
+     * Розбирає значення опції командного рядка: назву типу ({@code int}, {@code LocalDate})
+     * або назву константи ({@code local_date}) без урахування регістру.
+     *
+     * @throws IllegalArgumentException якщо тип невідомий
+     */
+    public static DataType fromOption(String value) {
+        for (DataType type : values()) {
+            if (type.typeName.equalsIgnoreCase(value) || type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Невідомий тип даних: " + value
+                + " (очікується Character, byte, short, int, long, float, double, String, LocalDate, LocalTime або LocalDateTime)");
+    }
+
+    @Override
+    public String toString() {
+        return typeName;
+    }
+}
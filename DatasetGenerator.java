@@ -0,0 +1,577 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Клас DatasetGenerator створює детерміновані набори даних довільного розміру для всіх
+ * типів з {@link DataType}.
+ *
+ * <p>Для кожного типу задано впорядкований домен значень (алфавіт символів, увесь діапазон
+ * byte/short/int/long, рівномірна сітка float/double, слова з 8 латинських літер, дати
+ * 2000–2049, секунди доби). Розподіл обирає номер значення в домені, а номер монотонно
+ * перетворюється на значення, тож {@link Distribution#SORTED} дає відсортовані дані
+ * будь-якого типу. Той самий seed дає ті самі дані.</p>
+ *
+ * <p>Елементи генеруються потоком і одразу записуються в текстовий файл у форматі list/
+ * (по одному на рядок) або в {@link BinaryDataFile}, тож розмір набору обмежений лише диском.
+ * Обидва формати читаються всіма режимами через {@code --data=ФАЙЛ}.</p>
+ */
+public final class DatasetGenerator {
+    static final String USAGE_MESSAGE = "Використання: java DatasetGenerator [опції]\n" +
+"Опції:\n" +
+"  --type=ТИП|all          тип даних (як у --type для BasicDataOperation) або all (за замовчуванням)\n" +
+"  --count=N               кількість елементів (за замовчуванням 1000000)\n" +
+"  --distribution=РОЗПОДІЛ uniform (за замовчуванням), zipf, sorted, reversed, duplicates\n" +
+"  --skew=S                показник степеня для zipf (за замовчуванням 1.0)\n" +
+"  --distinct=K            кількість різних значень для duplicates (за замовчуванням 100)\n" +
+"  --seed=N                seed генератора (за замовчуванням 42)\n" +
+"  --format=text|binary    рядки як у list/ (за замовчуванням) або двійковий файл\n" +
+"  --output=ШЛЯХ           файл (для одного типу) або каталог (за замовчуванням list/generated)\n" +
+"Приклад:\n" +
+"  java DatasetGenerator --type=int --count=100000000 --distribution=zipf --format=binary\n" +
+"  java BasicDataOperation 42 --type=int --data=list/generated/int-zipf-100000000.bin";
+
+    /**
+     * Розподіл номерів значень у домені типу.
+     */
+    public enum Distribution {
+        /** Рівномірно по всьому домену. */
+        UNIFORM,
+        /** Закон Ципфа: k-те за популярністю значення трапляється з імовірністю ∝ 1/k^s. */
+        ZIPF,
+        /** Неспадна послідовність, рівномірно розкладена по домену. */
+        SORTED,
+        /** Та сама послідовність у зворотному порядку. */
+        REVERSED,
+        /** Невеликий набір значень, кожне повторюється багато разів. */
+        DUPLICATES;
+
+        /**
+         * Розбирає значення опції командного рядка (без урахування регістру).
+         */
+        public static Distribution fromOption(String value) {
+            for (Distribution distribution : values()) {
+                if (distribution.name().equalsIgnoreCase(value)) {
+                    return distribution;
+                }
+            }
+            throw new IllegalArgumentException("Невідомий розподіл: " + value
+                    + " (очікується uniform, zipf, sorted, reversed або duplicates)");
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /** Символи для Character: ASCII без пробілу, кирилиця А–я та українські Є, І, Ї, Ґ. */
+    private static final String ALPHABET = buildAlphabet();
+    private static final int WORD_LENGTH = 8;
+    private static final long WORD_DOMAIN = pow(26, WORD_LENGTH);
+    private static final long FLOAT_DOMAIN = 1L << 24;
+    private static final double FLOAT_RANGE = 1e6;
+    private static final long DOUBLE_DOMAIN = 1L << 52;
+    private static final double DOUBLE_RANGE = 1e12;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+    private static final long DATE_DOMAIN = FIRST_DATE.until(LocalDate.of(2050, 1, 1), ChronoUnit.DAYS);
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss'Z'");
+
+    private Distribution distribution;
+    private long seed;
+    private double skew = 1.0;
+    private int distinct = 100;
+
+    private DataType[] types = DataType.values();
+    private long count = 1_000_000;
+    private boolean binary;
+    private String output;
+
+    public DatasetGenerator(Distribution distribution, long seed) {
+        this.distribution = distribution;
+        this.seed = seed;
+    }
+
+    /**
+     * Показник степеня для {@link Distribution#ZIPF}.
+     */
+    public DatasetGenerator withSkew(double newSkew) {
+        if (!(newSkew > 0) || Double.isInfinite(newSkew)) {
+            throw new IllegalArgumentException("--skew очікує додатне число, отримано: " + newSkew);
+        }
+        this.skew = newSkew;
+        return this;
+    }
+
+    /**
+     * Кількість різних значень для {@link Distribution#DUPLICATES}.
+     */
+    public DatasetGenerator withDistinct(int newDistinct) {
+        if (newDistinct <= 0) {
+            throw new IllegalArgumentException("--distinct очікує додатне ціле число, отримано: " + newDistinct);
+        }
+        this.distinct = newDistinct;
+        return this;
+    }
+
+    public static void main(String[] args) {
+        DatasetGenerator generator;
+        try {
+            generator = fromOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        generator.generateAll();
+        PerformanceTracker.printSummary();
+    }
+
+    /**
+     * Розбирає опції командного рядка.
+     *
+     * @throws IllegalArgumentException якщо опція невідома або має некоректне значення
+     */
+    static DatasetGenerator fromOptions(String[] args) {
+        DatasetGenerator generator = new DatasetGenerator(Distribution.UNIFORM, 42);
+        for (String option : args) {
+            if (option.startsWith("--distribution=")) {
+                generator.distribution = Distribution.fromOption(option.substring("--distribution=".length()));
+            } else if (option.startsWith("--seed=")) {
+                generator.seed = parseLong(option.substring("--seed=".length()), "--seed");
+            } else if (option.startsWith("--type=")) {
+                String value = option.substring("--type=".length());
+                generator.types = value.equalsIgnoreCase("all")
+                        ? DataType.values()
+                        : new DataType[] {DataType.fromOption(value)};
+            } else if (option.startsWith("--count=")) {
+                generator.count = parseLong(option.substring("--count=".length()), "--count");
+                if (generator.count <= 0) {
+                    throw new IllegalArgumentException("--count очікує додатне число, отримано: " + generator.count);
+                }
+            } else if (option.startsWith("--skew=")) {
+                try {
+                    generator.withSkew(Double.parseDouble(option.substring("--skew=".length())));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("--skew очікує число, отримано: " + option.substring("--skew=".length()));
+                }
+            } else if (option.startsWith("--distinct=")) {
+                generator.withDistinct((int) parseLong(option.substring("--distinct=".length()), "--distinct"));
+            } else if (option.equals("--format=text")) {
+                generator.binary = false;
+            } else if (option.equals("--format=binary")) {
+                generator.binary = true;
+            } else if (option.startsWith("--output=")) {
+                generator.output = option.substring("--output=".length());
+            } else {
+                throw new IllegalArgumentException("невідома опція " + option);
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * Генерує файли для всіх обраних типів.
+     */
+    private void generateAll() {
+        System.out.println("Розподіл: " + distribution + ", елементів: " + count + ", seed: " + seed
+                + ", формат: " + (binary ? "binary" : "text"));
+        for (DataType type : types) {
+            String filePath = outputPath(type);
+            long timeStart = System.nanoTime();
+            generate(type, count, filePath, binary);
+            PerformanceTracker.displayOperationTime(timeStart, "генерація " + type + " (" + count + " елементів)");
+            System.out.println("✅ " + filePath);
+        }
+    }
+
+    private String outputPath(DataType type) {
+        String fileName = type.typeName() + "-" + distribution + "-" + count + (binary ? ".bin" : ".data");
+        if (output != null && types.length == 1 && !Files.isDirectory(Paths.get(output))) {
+            return output;
+        }
+        Path directory = Paths.get(output != null ? output : "list/generated");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return directory.resolve(fileName).toString();
+    }
+
+    /**
+     * Записує {@code count} елементів типу в текстовий або двійковий файл.
+     *
+     * @throws IllegalArgumentException якщо текстовий файл має понад {@link Integer#MAX_VALUE} рядків
+     */
+    public void generate(DataType type, long count, String filePath, boolean binary) {
+        Ranks ranks = new Ranks(domainSize(type), count);
+        if (binary) {
+            BinaryDataFile.write(filePath, type, sink -> {
+                for (long index = 0; index < count; index++) {
+                    writeBinary(type, sink, ranks.next(index));
+                }
+            });
+        } else {
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("текстовий файл обмежений " + Integer.MAX_VALUE + " рядками; використайте --format=binary");
+            }
+            DataFileHandler.writeLinesToFile(filePath, (int) count, index -> format(type, ranks.next(index)));
+        }
+    }
+
+    /**
+     * Генерує масив символів із алфавіту Character.
+     */
+    public Character[] characters(int count) {
+        Ranks ranks = new Ranks(ALPHABET.length(), count);
+        Character[] values = new Character[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = ALPHABET.charAt((int) ranks.next(i));
+        }
+        return values;
+    }
+
+    /**
+     * Генерує масив слів з 8 латинських літер (домен {@link DataType#STRING}).
+     */
+    public String[] strings(int count) {
+        Ranks ranks = new Ranks(WORD_DOMAIN, count);
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = word(ranks.next(i));
+        }
+        return values;
+    }
+
+    // ===== Домени типів =====
+
+    private static long domainSize(DataType type) {
+        switch (type) {
+            case CHARACTER:
+                return ALPHABET.length();
+            case BYTE:
+                return 1L << Byte.SIZE;
+            case SHORT:
+                return 1L << Short.SIZE;
+            case INT:
+                return 1L << Integer.SIZE;
+            case LONG:
+                // 2^64 значень не вміщується в long: домен удвічі менший, значення йдуть з кроком 2
+                return Long.MAX_VALUE;
+            case FLOAT:
+                return FLOAT_DOMAIN;
+            case DOUBLE:
+                return DOUBLE_DOMAIN;
+            case STRING:
+                return WORD_DOMAIN;
+            case LOCAL_DATE:
+                return DATE_DOMAIN;
+            case LOCAL_TIME:
+                return SECONDS_PER_DAY;
+            case LOCAL_DATE_TIME:
+                return DATE_DOMAIN * SECONDS_PER_DAY;
+            default:
+                throw new IllegalArgumentException("Невідомий тип " + type);
+        }
+    }
+
+    /**
+     * Текст значення з номером {@code rank} у форматі файлів list/.
+     */
+    private static String format(DataType type, long rank) {
+        switch (type) {
+            case CHARACTER:
+                return String.valueOf(ALPHABET.charAt((int) rank));
+            case BYTE:
+            case SHORT:
+            case INT:
+                return Long.toString(integerValue(type, rank));
+            case LONG:
+                return Long.toString(longValue(rank));
+            case FLOAT:
+                return Float.toString(floatValue(rank));
+            case DOUBLE:
+                return Double.toString(doubleValue(rank));
+            case STRING:
+                return word(rank);
+            case LOCAL_DATE:
+                return FIRST_DATE.plusDays(rank).toString();
+            case LOCAL_TIME:
+                return TIME_FORMAT.format(LocalTime.ofSecondOfDay(rank));
+            case LOCAL_DATE_TIME:
+                return DATE_TIME_FORMAT.format(dateTimeValue(rank));
+            default:
+                throw new IllegalArgumentException("Невідомий тип " + type);
+        }
+    }
+
+    private static void writeBinary(DataType type, BinaryDataFile.Sink sink, long rank) throws IOException {
+        switch (type) {
+            case CHARACTER:
+                sink.putChar(ALPHABET.charAt((int) rank));
+                break;
+            case BYTE:
+                sink.putByte((byte) integerValue(type, rank));
+                break;
+            case SHORT:
+                sink.putShort((short) integerValue(type, rank));
+                break;
+            case INT:
+                sink.putInt((int) integerValue(type, rank));
+                break;
+            case LONG:
+                sink.putLong(longValue(rank));
+                break;
+            case FLOAT:
+                sink.putFloat(floatValue(rank));
+                break;
+            case DOUBLE:
+                sink.putDouble(doubleValue(rank));
+                break;
+            case STRING:
+                sink.putString(word(rank));
+                break;
+            case LOCAL_DATE:
+                sink.putLocalDate(FIRST_DATE.plusDays(rank));
+                break;
+            case LOCAL_TIME:
+                sink.putLocalTime(LocalTime.ofSecondOfDay(rank));
+                break;
+            case LOCAL_DATE_TIME:
+                sink.putLocalDateTime(dateTimeValue(rank));
+                break;
+            default:
+                throw new IllegalArgumentException("Невідомий тип " + type);
+        }
+    }
+
+    /**
+     * byte/short/int: номер зсувається так, що номер 0 — мінімальне значення типу.
+     */
+    private static long integerValue(DataType type, long rank) {
+        return rank - (domainSize(type) >>> 1);
+    }
+
+    private static long longValue(long rank) {
+        return Long.MIN_VALUE + 2 * rank;
+    }
+
+    private static float floatValue(long rank) {
+        return (float) (-FLOAT_RANGE + 2 * FLOAT_RANGE * rank / FLOAT_DOMAIN);
+    }
+
+    private static double doubleValue(long rank) {
+        return -DOUBLE_RANGE + 2 * DOUBLE_RANGE * rank / DOUBLE_DOMAIN;
+    }
+
+    private static LocalDateTime dateTimeValue(long rank) {
+        return FIRST_DATE.atStartOfDay().plusSeconds(rank);
+    }
+
+    /**
+     * Слово фіксованої довжини: номер у системі числення з основою 26, тож порядок
+     * номерів збігається з лексикографічним порядком слів.
+     */
+    private static String word(long rank) {
+        char[] letters = new char[WORD_LENGTH];
+        long rest = rank;
+        for (int i = WORD_LENGTH - 1; i >= 0; i--) {
+            letters[i] = (char) ('a' + rest % 26);
+            rest /= 26;
+        }
+        return new String(letters);
+    }
+
+    private static String buildAlphabet() {
+        StringBuilder alphabet = new StringBuilder();
+        for (char c = '!'; c <= '~'; c++) {
+            alphabet.append(c);
+        }
+        alphabet.append('Є').append('І').append('Ї');
+        for (char c = 'А'; c <= 'я'; c++) {
+            alphabet.append(c);
+        }
+        alphabet.append('є').append('і').append('ї').append('Ґ').append('ґ');
+        return alphabet.toString();
+    }
+
+    private static long pow(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    private static long parseLong(String value, String optionName) {
+        try {
+            return Long.parseLong(value.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(optionName + " очікує ціле число, отримано: " + value);
+        }
+    }
+
+    // ===== Розподіли =====
+
+    /**
+     * Послідовність номерів значень у домені {@code [0, domain)} для обраного розподілу.
+     * Номери запитуються за зростанням індексу.
+     */
+    private final class Ranks {
+        private final long domain;
+        private final long count;
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private ZipfSampler zipf;
+        private long zipfStride;
+        private long zipfSpacing;
+        private long[] pool;
+
+        Ranks(long domain, long count) {
+            this.domain = domain;
+            this.count = count;
+            if (distribution == Distribution.ZIPF) {
+                long support = Math.min(domain, count);
+                zipf = new ZipfSampler(support, skew);
+                zipfStride = coprimeStride(support);
+                zipfSpacing = domain / support;
+            } else if (distribution == Distribution.DUPLICATES) {
+                pool = new long[(int) Math.min(distinct, domain)];
+                for (int i = 0; i < pool.length; i++) {
+                    pool[i] = random.nextLong(domain);
+                }
+            }
+        }
+
+        long next(long index) {
+            switch (distribution) {
+                case UNIFORM:
+                    return random.nextLong(domain);
+                case ZIPF:
+                    // популярність k розкидається по домену перестановкою, а не йде від мінімуму
+                    long popularity = zipf.sample(random) - 1;
+                    return multiplyMod(popularity, zipfStride, zipf.size()) * zipfSpacing;
+                case SORTED:
+                    return spread(index);
+                case REVERSED:
+                    return spread(count - 1 - index);
+                case DUPLICATES:
+                    return pool[random.nextInt(pool.length)];
+                default:
+                    throw new IllegalStateException("Невідомий розподіл " + distribution);
+            }
+        }
+
+        /**
+         * Неспадне відображення індексу на домен: {@code index * domain / count}.
+         */
+        private long spread(long index) {
+            if (domain <= Long.MAX_VALUE / count) {
+                return index * domain / count;
+            }
+            return Math.min(domain - 1, (long) ((double) index / count * domain));
+        }
+    }
+
+    private static long coprimeStride(long modulus) {
+        if (modulus <= 2) {
+            return 1;
+        }
+        long stride = (long) (modulus * 0.6180339887498949) | 1;
+        while (gcd(stride, modulus) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * {@code a * b mod m} для невід'ємних a, b < m без переповнення.
+     */
+    private static long multiplyMod(long a, long b, long m) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if (high == 0 && low >= 0) {
+            return low % m;
+        }
+        return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(m)).longValue();
+    }
+
+    /**
+     * Вибірка з розподілу Ципфа на {1..n} методом rejection-inversion (Hörmann, Derflinger):
+     * O(1) на вибірку без таблиці ймовірностей, тож n може бути мільярдом.
+     */
+    private static final class ZipfSampler {
+        private final long n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double threshold;
+
+        ZipfSampler(long n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1.0;
+            this.hIntegralN = hIntegral(n + 0.5);
+            this.threshold = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+        }
+
+        long size() {
+            return n;
+        }
+
+        long sample(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                long k = Math.max(1, Math.min(n, (long) (x + 0.5)));
+                if (k - x <= threshold || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1.0 - exponent) * logX) * logX;
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = Math.max(-1.0, x * (1.0 - exponent));
+            return Math.exp(helper1(t) * x);
+        }
+
+        /** {@code log(1 + x) / x} зі стійким наближенням біля нуля. */
+        private static double helper1(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+        }
+
+        /** {@code (exp(x) - 1) / x} зі стійким наближенням біля нуля. */
+        private static double helper2(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Клас Measurement — результат каліброваного виміру {@link PerformanceTracker#measure}:
+ * середній час одного виклику операції та похибка за серією вимірів.
+ *
+ * <p>Кожен вимір — це пакет з {@link #callsPerSample()} викликів, тож його тривалість
+ * значно більша за роздільну здатність таймера. Похибка — півширина довірчого інтервалу
+ * 99.9% за розподілом Стьюдента, як і в JMH-бенчмарках модуля benchmark/.</p>
+ *
+ * <p>Виміри зберігаються окремо від гістограм затримок: середні за пакет — не затримки
+ * окремих викликів, тож перцентилі з них не мали б сенсу.</p>
+ */
+public final class Measurement {
+    static final double CONFIDENCE = 0.999;
+
+    private final String operationName;
+    private final double[] samples;
+    private final long callsPerSample;
+    private final long callCount;
+    private final double bytesPerCall;
+    private final double mean;
+    private final double stdDev;
+    private final double error;
+
+    /**
+     * @param operationName Назва операції
+     * @param samples Середній час одного виклику в кожному вимірі, нс
+     * @param callsPerSample Кількість викликів в одному вимірі
+     * @param bytesPerCall Байтів, виділених потоком на один виклик (NaN — невідомо)
+     */
+    Measurement(String operationName, double[] samples, long callsPerSample, double bytesPerCall) {
+        this(operationName, samples, callsPerSample, samples.length * callsPerSample, bytesPerCall);
+    }
+
+    private Measurement(String operationName, double[] samples, long callsPerSample, long callCount, double bytesPerCall) {
+        this.operationName = operationName;
+        this.samples = samples.clone();
+        this.callsPerSample = callsPerSample;
+        this.callCount = callCount;
+        this.bytesPerCall = bytesPerCall;
+
+        int n = samples.length;
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        this.mean = n > 0 ? sum / n : Double.NaN;
+        double sumSquares = 0;
+        for (double sample : samples) {
+            sumSquares += (sample - mean) * (sample - mean);
+        }
+        this.stdDev = n > 1 ? Math.sqrt(sumSquares / (n - 1)) : Double.NaN;
+        this.error = n > 1 ? studentQuantile(1 - (1 - CONFIDENCE) / 2, n - 1) * stdDev / Math.sqrt(n) : Double.NaN;
+    }
+
+    public String operationName() {
+        return operationName;
+    }
+
+    /**
+     * Середній час одного виклику, нс.
+     */
+    public double mean() {
+        return mean;
+    }
+
+    /**
+     * Півширина довірчого інтервалу 99.9%, нс (NaN, якщо вимір лише один).
+     */
+    public double error() {
+        return error;
+    }
+
+    public double stdDev() {
+        return stdDev;
+    }
+
+    public int sampleCount() {
+        return samples.length;
+    }
+
+    public long callsPerSample() {
+        return callsPerSample;
+    }
+
+    /**
+     * Загальна кількість виміряних викликів (без прогріву).
+     */
+    public long callCount() {
+        return callCount;
+    }
+
+    /**
+     * Середня кількість байтів, виділених потоком на один виклик (NaN, якщо облік вимкнено).
+     */
+    public double bytesPerCall() {
+        return bytesPerCall;
+    }
+
+    /**
+     * Середній час одного виклику в кожному вимірі, нс.
+     */
+    public double[] samples() {
+        return samples.clone();
+    }
+
+    /**
+     * Об'єднує виміри тієї ж операції (наприклад, з кількох процесорів): виміри обох серій
+     * складаються в одну, байти на виклик усереднюються з вагою кількості викликів.
+     */
+    Measurement combine(Measurement other) {
+        double[] combined = Arrays.copyOf(samples, samples.length + other.samples.length);
+        System.arraycopy(other.samples, 0, combined, samples.length, other.samples.length);
+        long calls = callCount + other.callCount;
+        double bytes = Double.isNaN(bytesPerCall) || Double.isNaN(other.bytesPerCall)
+                ? Double.NaN
+                : (bytesPerCall * callCount + other.bytesPerCall * other.callCount) / calls;
+        return new Measurement(operationName, combined, Math.max(callsPerSample, other.callsPerSample), calls, bytes);
+    }
+
+    /**
+     * Текстовий вигляд {@code "<середнє> ± <похибка> ns"}.
+     */
+    @Override
+    public String toString() {
+        return Double.isNaN(error)
+                ? String.format(Locale.ROOT, "%.1f ns", mean)
+                : String.format(Locale.ROOT, "%.1f ± %.1f ns", mean, error);
+    }
+
+    /**
+     * Квантиль t-розподілу Стьюдента (розклад Корніша-Фішера від нормального квантиля).
+     */
+    static double studentQuantile(double p, int degreesOfFreedom) {
+        // Для 1 та 2 ступенів свободи розклад неточний, тому використовуємо точні формули.
+        if (degreesOfFreedom == 1) {
+            return Math.tan(Math.PI * (p - 0.5));
+        }
+        if (degreesOfFreedom == 2) {
+            return (2 * p - 1) / Math.sqrt(2 * p * (1 - p));
+        }
+        double z = normalQuantile(p);
+        double v = degreesOfFreedom;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        double z9 = z7 * z * z;
+        return z
+                + (z3 + z) / (4 * v)
+                + (5 * z5 + 16 * z3 + 3 * z) / (96 * v * v)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * v * v * v)
+                + (79 * z9 + 776 * z7 + 1482 * z5 - 1920 * z3 - 945 * z) / (92160 * v * v * v * v);
+    }
+
+    /**
+     * Квантиль стандартного нормального розподілу (алгоритм Acklam).
+     */
+    static double normalQuantile(double p) {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        double pLow = 0.02425;
+
+        if (p < pLow) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - pLow) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
@@ -0,0 +1,577 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Клас OffHeapCanaryMap — Map Canary → власник, дані якої зберігаються поза heap.
+ *
+ * <p>Записи кодуються в UTF-8 і дописуються в арену з direct {@link ByteBuffer}
+ * (шматки зростають удвічі до 64 МБ). Запис має вигляд
+ * {@code [u16 nickname][u16 singing][nickname][singing][u16 owner][owner]}, де u16 —
+ * довжина поля в байтах. Одиночні сурогати (некоректні в UTF-8, але допустимі в String)
+ * кодуються без втрат трьома байтами, як у WTF-8, тож різні ключі лишаються різними,
+ * як у HashMap. Таблиця слотів — теж direct-буфери (сегменти по 4М слотів),
+ * відкрита адресація з лінійним пробуванням; слот займає 16 байт: посилання на запис,
+ * хеш і довжину ключа. Видалення зсувають наступні записи ланцюжка назад, тож
+ * надгробків немає і довжина пробування не деградує.</p>
+ *
+ * <p>Для одного запису в heap не створюється жодного об'єкта: ні вузла Map, ні Canary,
+ * ні String. Об'єкти з'являються лише на межі API — коли get/remove/ітератор повертають
+ * власника чи ключ. containsKey і пошук виділення пам'яті не потребують: ключ кодується
+ * в робочий масив екземпляра.</p>
+ *
+ * <p>Місце старих записів після remove чи заміни значення стає сміттям в арені;
+ * коли сміття більше, ніж живих даних, арена ущільнюється. Обсяг direct-пам'яті
+ * обмежує {@code -XX:MaxDirectMemorySize}. Клас не потокобезпечний, як і {@code HashMap}.
+ * Ітератор не підтримує видалення.</p>
+ */
+public final class OffHeapCanaryMap extends AbstractMap<BasicDataOperationUsingMap.Canary, String> {
+    private static final int SLOT_BYTES = 16;
+    private static final int SLOT_REF = 0;
+    private static final int SLOT_HASH = 8;
+    private static final int SLOT_KEY_LENGTH = 12;
+    private static final int SEGMENT_BITS = 22;
+    private static final int SEGMENT_SLOTS = 1 << SEGMENT_BITS;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+    private static final long MIN_COMPACTION_GARBAGE = 1 << 20;
+
+    private ByteBuffer[] slotSegments;
+    private int capacity;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    /** Окремі представлення шматків для масового читання (position змінюється лише в них). */
+    private final List<ByteBuffer> readViews = new ArrayList<>();
+    private ByteBuffer currentChunk;
+    private long liveBytes;
+    private long garbageBytes;
+
+    /** Робочий масив: закодований ключ, за ним — закодований власник. */
+    private byte[] scratch = new byte[256];
+    /** Представлення робочого масиву для порівняння ключів по 8 байт. */
+    private ByteBuffer scratchView = ByteBuffer.wrap(scratch);
+    private int keyLength;
+    private int keyHash;
+
+    public OffHeapCanaryMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize Очікувана кількість записів (таблиця слотів не розширюватиметься до неї)
+     */
+    public OffHeapCanaryMap(int expectedSize) {
+        allocateTable(tableSizeFor((int) Math.min(MAX_CAPACITY, (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR))));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof BasicDataOperationUsingMap.Canary
+                && findSlot((BasicDataOperationUsingMap.Canary) key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof BasicDataOperationUsingMap.Canary)) {
+            return null;
+        }
+        int slot = findSlot((BasicDataOperationUsingMap.Canary) key);
+        return slot < 0 ? null : readOwner(slotRef(slot), slotKeyLength(slot));
+    }
+
+    /**
+     * @throws IllegalArgumentException якщо поле в UTF-8 довше за 65 535 байт
+     * @throws NullPointerException якщо ключ, його поля або власник дорівнюють null
+     */
+    @Override
+    public String put(BasicDataOperationUsingMap.Canary key, String owner) {
+        int slot = findSlot(key);
+        int ownerLength = encode(owner, keyLength + 2);
+        putShort(keyLength, ownerLength);
+        int recordLength = keyLength + 2 + ownerLength;
+
+        if (slot >= 0) {
+            long oldRef = slotRef(slot);
+            int oldRecordLength = recordLength(oldRef, keyLength);
+            // спершу дописуємо новий запис: декодування старого власника використовує робочий масив
+            setSlot(slot, appendRecord(recordLength), keyHash, keyLength);
+            String previous = readOwner(oldRef, keyLength);
+            garbageBytes += oldRecordLength;
+            liveBytes += recordLength - oldRecordLength;
+            maybeCompact();
+            return previous;
+        }
+
+        if (size + 1 > threshold) {
+            resize();
+            slot = findSlot(keyHash, keyLength);
+        }
+        setSlot(-slot - 1, appendRecord(recordLength), keyHash, keyLength);
+        size++;
+        liveBytes += recordLength;
+        return null;
+    }
+
+    @Override
+    public String remove(Object key) {
+        if (!(key instanceof BasicDataOperationUsingMap.Canary)) {
+            return null;
+        }
+        int slot = findSlot((BasicDataOperationUsingMap.Canary) key);
+        if (slot < 0) {
+            return null;
+        }
+        long ref = slotRef(slot);
+        int recordLength = recordLength(ref, keyLength);
+        String previous = readOwner(ref, keyLength);
+        deleteSlot(slot);
+        size--;
+        liveBytes -= recordLength;
+        garbageBytes += recordLength;
+        maybeCompact();
+        return previous;
+    }
+
+    /**
+     * Звільняє всю direct-пам'ять, повертаючись до початкової таблиці.
+     */
+    @Override
+    public void clear() {
+        chunks.clear();
+        readViews.clear();
+        currentChunk = null;
+        liveBytes = 0;
+        garbageBytes = 0;
+        size = 0;
+        allocateTable(16);
+    }
+
+    /**
+     * Повертає обсяг зарезервованої direct-пам'яті в байтах (таблиця слотів і арена).
+     */
+    public long offHeapBytes() {
+        long bytes = (long) capacity * SLOT_BYTES;
+        for (ByteBuffer chunk : chunks) {
+            bytes += chunk.capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Представлення записів; кожен запис декодується в нові Canary і String під час ітерації.
+     */
+    @Override
+    public Set<Map.Entry<BasicDataOperationUsingMap.Canary, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<BasicDataOperationUsingMap.Canary, String>> iterator() {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    // ===== Таблиця слотів =====
+
+    private void allocateTable(int newCapacity) {
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        threshold = (int) (newCapacity * LOAD_FACTOR);
+        int segmentCount = Math.max(1, newCapacity >>> SEGMENT_BITS);
+        int segmentSlots = Math.min(newCapacity, SEGMENT_SLOTS);
+        slotSegments = new ByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // direct-буфер заповнений нулями: посилання 0 означає порожній слот
+            slotSegments[i] = ByteBuffer.allocateDirect(segmentSlots * SLOT_BYTES);
+        }
+    }
+
+    private static int tableSizeFor(int slots) {
+        int tableSize = Integer.highestOneBit(Math.max(slots, 16) - 1) << 1;
+        return Math.min(tableSize, MAX_CAPACITY);
+    }
+
+    private void resize() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("OffHeapCanaryMap досягла максимальної кількості слотів");
+        }
+        ByteBuffer[] oldSegments = slotSegments;
+        int oldCapacity = capacity;
+        allocateTable(oldCapacity << 1);
+
+        // хеш і довжина ключа зберігаються в слоті, тож арену під час перенесення не читаємо
+        for (int i = 0; i < oldCapacity; i++) {
+            ByteBuffer segment = oldSegments[i >>> SEGMENT_BITS];
+            int base = slotBase(i);
+            long ref = segment.getLong(base + SLOT_REF);
+            if (ref != 0) {
+                int hash = segment.getInt(base + SLOT_HASH);
+                int slot = hash & mask;
+                while (slotRef(slot) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                setSlot(slot, ref, hash, segment.getInt(base + SLOT_KEY_LENGTH));
+            }
+        }
+    }
+
+    /**
+     * Кодує ключ у робочий масив і шукає його слот.
+     *
+     * @return номер слоту або {@code -(точка вставки) - 1}, якщо ключа немає
+     */
+    private int findSlot(BasicDataOperationUsingMap.Canary key) {
+        int nicknameLength = encode(key.nickname(), 4);
+        int singingLength = encode(key.singing(), 4 + nicknameLength);
+        putShort(0, nicknameLength);
+        putShort(2, singingLength);
+        keyLength = 4 + nicknameLength + singingLength;
+        keyHash = hash(scratch, keyLength);
+        return findSlot(keyHash, keyLength);
+    }
+
+    private int findSlot(int hash, int length) {
+        int slot = hash & mask;
+        while (true) {
+            long ref = slotRef(slot);
+            if (ref == 0) {
+                return -slot - 1;
+            }
+            if (slotHash(slot) == hash && slotKeyLength(slot) == length && keyEquals(ref, length)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Видаляє слот зі зсувом назад: кожен наступний запис ланцюжка, чия ідеальна позиція
+     * не лежить між діркою та ним самим, переноситься в дірку.
+     */
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        long ref;
+        while ((ref = slotRef(next)) != 0) {
+            int hash = slotHash(next);
+            int ideal = hash & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                setSlot(hole, ref, hash, slotKeyLength(next));
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        setSlot(hole, 0, 0, 0);
+    }
+
+    private ByteBuffer segment(int slot) {
+        return slotSegments[slot >>> SEGMENT_BITS];
+    }
+
+    private static int slotBase(int slot) {
+        return (slot & (SEGMENT_SLOTS - 1)) * SLOT_BYTES;
+    }
+
+    private long slotRef(int slot) {
+        return segment(slot).getLong(slotBase(slot) + SLOT_REF);
+    }
+
+    private int slotHash(int slot) {
+        return segment(slot).getInt(slotBase(slot) + SLOT_HASH);
+    }
+
+    private int slotKeyLength(int slot) {
+        return segment(slot).getInt(slotBase(slot) + SLOT_KEY_LENGTH);
+    }
+
+    private void setSlot(int slot, long ref, int hash, int length) {
+        ByteBuffer segment = segment(slot);
+        int base = slotBase(slot);
+        segment.putLong(base + SLOT_REF, ref);
+        segment.putInt(base + SLOT_HASH, hash);
+        segment.putInt(base + SLOT_KEY_LENGTH, length);
+    }
+
+    // ===== Арена записів =====
+
+    /**
+     * Дописує запис з робочого масиву в арену.
+     *
+     * @return посилання на запис: {@code (шматок << 32 | зміщення) + 1}, 0 зарезервовано для порожнього слоту
+     */
+    private long appendRecord(int recordLength) {
+        if (currentChunk == null || currentChunk.remaining() < recordLength) {
+            int nextSize = currentChunk == null ? MIN_CHUNK_SIZE : Math.min(MAX_CHUNK_SIZE, currentChunk.capacity() << 1);
+            currentChunk = ByteBuffer.allocateDirect(Math.max(nextSize, recordLength));
+            chunks.add(currentChunk);
+            readViews.add(currentChunk.duplicate());
+        }
+        int offset = currentChunk.position();
+        currentChunk.put(scratch, 0, recordLength);
+        return (((long) (chunks.size() - 1) << 32) | offset) + 1;
+    }
+
+    private ByteBuffer chunk(long ref) {
+        return chunks.get((int) ((ref - 1) >>> 32));
+    }
+
+    private static int offset(long ref) {
+        return (int) (ref - 1);
+    }
+
+    private int recordLength(long ref, int length) {
+        return length + 2 + (chunk(ref).getShort(offset(ref) + length) & 0xFFFF);
+    }
+
+    /**
+     * Порівнює ключ запису з ключем у робочому масиві по 8 байт без копіювання:
+     * обидва буфери big-endian, тож рівність long-слів означає рівність байтів.
+     */
+    private boolean keyEquals(long ref, int length) {
+        ByteBuffer chunk = chunk(ref);
+        int offset = offset(ref);
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            if (chunk.getLong(offset + i) != scratchView.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (chunk.get(offset + i) != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Масово копіює байти запису в хвіст робочого масиву, не зачіпаючи закодований ключ
+     * на його початку. Закодований власник після ключа може бути перезаписаний: put
+     * дописує новий запис в арену раніше, ніж декодує попереднього власника.
+     *
+     * @return початок скопійованих байтів у робочому масиві
+     */
+    private int copyToScratchTail(long ref, int offset, int length) {
+        ensureScratch(keyLength + 2 + length);
+        int start = scratch.length - length;
+        ByteBuffer view = readViews.get((int) ((ref - 1) >>> 32));
+        view.position(offset);
+        view.get(scratch, start, length);
+        return start;
+    }
+
+    private String readOwner(long ref, int length) {
+        int ownerOffset = offset(ref) + length;
+        return decode(ref, ownerOffset + 2, chunk(ref).getShort(ownerOffset) & 0xFFFF);
+    }
+
+    private BasicDataOperationUsingMap.Canary readKey(long ref) {
+        ByteBuffer chunk = chunk(ref);
+        int offset = offset(ref);
+        int nicknameLength = chunk.getShort(offset) & 0xFFFF;
+        int singingLength = chunk.getShort(offset + 2) & 0xFFFF;
+        return new BasicDataOperationUsingMap.Canary(
+                decode(ref, offset + 4, nicknameLength),
+                decode(ref, offset + 4 + nicknameLength, singingLength));
+    }
+
+    /**
+     * Переписує живі записи в нову арену, коли сміття більше, ніж живих даних.
+     */
+    private void maybeCompact() {
+        if (garbageBytes < MIN_COMPACTION_GARBAGE || garbageBytes < liveBytes) {
+            return;
+        }
+        List<ByteBuffer> oldViews = new ArrayList<>(readViews);
+        chunks.clear();
+        readViews.clear();
+        currentChunk = null;
+
+        for (int slot = 0; slot < capacity; slot++) {
+            long ref = slotRef(slot);
+            if (ref == 0) {
+                continue;
+            }
+            ByteBuffer view = oldViews.get((int) ((ref - 1) >>> 32));
+            int offset = offset(ref);
+            int length = slotKeyLength(slot);
+            int recordLength = length + 2 + (view.getShort(offset + length) & 0xFFFF);
+            ensureScratch(recordLength);
+            view.position(offset);
+            view.get(scratch, 0, recordLength);
+            segment(slot).putLong(slotBase(slot) + SLOT_REF, appendRecord(recordLength));
+        }
+        garbageBytes = 0;
+    }
+
+    // ===== Кодування =====
+
+    /**
+     * Кодує рядок у UTF-8 в робочий масив з позиції {@code position}.
+     * Сурогатні пари записуються як один 4-байтовий символ, одиночні сурогати — трьома
+     * байтами свого коду (0xED 0xA0..0xBF 0x80..0xBF, як у WTF-8), тож кодування
+     * взаємно однозначне, а {@link #decode} відновлює рядок без втрат.
+     *
+     * @return кількість записаних байтів
+     */
+    private int encode(String text, int position) {
+        int length = text.length();
+        ensureScratch(position + 2 + length * 3);
+        int index = position;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                scratch[index++] = (byte) c;
+            } else if (c < 0x800) {
+                scratch[index++] = (byte) (0xC0 | (c >> 6));
+                scratch[index++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                scratch[index++] = (byte) (0xF0 | (codePoint >> 18));
+                scratch[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                scratch[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                scratch[index++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                scratch[index++] = (byte) (0xE0 | (c >> 12));
+                scratch[index++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                scratch[index++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        int encodedLength = index - position;
+        if (encodedLength > MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("Поле довше за " + MAX_FIELD_BYTES + " байт у UTF-8: " + encodedLength);
+        }
+        return encodedLength;
+    }
+
+    private String decode(long ref, int offset, int length) {
+        int start = copyToScratchTail(ref, offset, length);
+        for (int i = start, end = start + length - 1; i < end; i++) {
+            if (scratch[i] == (byte) 0xED && (scratch[i + 1] & 0xFF) >= 0xA0) {
+                return decodeWithSurrogates(start, length);
+            }
+        }
+        return new String(scratch, start, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Декодує поле з одиночними сурогатами, які стандартний декодер UTF-8 замінив би на U+FFFD.
+     * Байти записані {@link #encode}, тож послідовності коректні й перевірки не потрібні.
+     */
+    private String decodeWithSurrogates(int start, int length) {
+        char[] chars = new char[length];
+        int count = 0;
+        for (int i = start, end = start + length; i < end; ) {
+            int b = scratch[i] & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+                i++;
+            } else if (b < 0xE0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (scratch[i + 1] & 0x3F));
+                i += 2;
+            } else if (b < 0xF0) {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((scratch[i + 1] & 0x3F) << 6) | (scratch[i + 2] & 0x3F));
+                i += 3;
+            } else {
+                int codePoint = ((b & 0x07) << 18) | ((scratch[i + 1] & 0x3F) << 12)
+                        | ((scratch[i + 2] & 0x3F) << 6) | (scratch[i + 3] & 0x3F);
+                chars[count++] = Character.highSurrogate(codePoint);
+                chars[count++] = Character.lowSurrogate(codePoint);
+                i += 4;
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    private void putShort(int position, int value) {
+        scratch[position] = (byte) (value >>> 8);
+        scratch[position + 1] = (byte) value;
+    }
+
+    private void ensureScratch(int required) {
+        if (scratch.length < required) {
+            byte[] grown = new byte[Math.max(required, scratch.length << 1)];
+            System.arraycopy(scratch, 0, grown, 0, scratch.length);
+            scratch = grown;
+            scratchView = ByteBuffer.wrap(grown);
+        }
+    }
+
+    /**
+     * FNV-1a з фінальним перемішуванням murmur3: молодші біти, за якими обирається слот,
+     * залежать від усіх байтів ключа.
+     */
+    private static int hash(byte[] bytes, int length) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ (bytes[i] & 0xFF)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Ітератор по зайнятих слотах у порядку таблиці.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<BasicDataOperationUsingMap.Canary, String>> {
+        private int nextSlot = advance(0);
+
+        private int advance(int from) {
+            int slot = from;
+            while (slot < capacity && slotRef(slot) == 0) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < capacity;
+        }
+
+        @Override
+        public Map.Entry<BasicDataOperationUsingMap.Canary, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long ref = slotRef(nextSlot);
+            int length = slotKeyLength(nextSlot);
+            Map.Entry<BasicDataOperationUsingMap.Canary, String> entry =
+                    new AbstractMap.SimpleImmutableEntry<>(readKey(ref), readOwner(ref, length));
+            nextSlot = advance(nextSlot + 1);
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Клас ParallelSort — паралельні варіанти алгоритмів {@link SortEngine} на {@link ForkJoinPool}.
+ *
+ * <p>Масив ділиться на {@code tasks} суцільних відрізків, по одному на задачу:</p>
+ * <ul>
+ *   <li>char/short/byte — кожна задача рахує гістограму свого відрізка, гістограми
+ *       додаються, а заповнення результату знову ділиться між задачами за діапазонами значень;</li>
+ *   <li>Character, int, long — стабільне розкладання: для кожного відрізка й кожного значення
+ *       (розряду) обчислюється власна початкова позиція, тож задачі пишуть у спільний буфер
+ *       без перетинів. Для Character зберігаються ті самі об'єкти, для int/long це
+ *       паралельний LSD-прохід по 8 біт;</li>
+ *   <li>стратегія {@link SortEngine.Strategy#COMPARISON} — {@link Arrays#parallelSort},
+ *       запущений у тому самому пулі (поділ на підзадачі JDK обирає сам).</li>
+ * </ul>
+ *
+ * <p>Результат збігається з послідовним сортуванням елемент-у-елемент.</p>
+ */
+final class ParallelSort {
+    private static final int CHAR_DOMAIN = Character.MAX_VALUE + 1;
+    private static final int RADIX = 256;
+
+    private ParallelSort() {
+    }
+
+    static void sort(ForkJoinPool pool, int tasks, Character[] array) {
+        int n = array.length;
+        int[][] counts = new int[tasks][CHAR_DOMAIN];
+        forEachTask(pool, tasks, t -> {
+            int[] local = counts[t];
+            for (int i = from(n, tasks, t), end = from(n, tasks, t + 1); i < end; i++) {
+                local[array[i]]++;
+            }
+        });
+        toTaskOffsets(counts, CHAR_DOMAIN);
+
+        Character[] sorted = new Character[n];
+        forEachTask(pool, tasks, t -> {
+            int[] offsets = counts[t];
+            for (int i = from(n, tasks, t), end = from(n, tasks, t + 1); i < end; i++) {
+                Character value = array[i];
+                sorted[offsets[value]++] = value;
+            }
+        });
+        forEachTask(pool, tasks, t -> {
+            int start = from(n, tasks, t);
+            System.arraycopy(sorted, start, array, start, from(n, tasks, t + 1) - start);
+        });
+    }
+
+    static void sort(ForkJoinPool pool, int tasks, char[] array, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        int[] counts = histogram(pool, tasks, n, CHAR_DOMAIN, (local, start, end) -> {
+            for (int i = fromIndex + start; i < fromIndex + end; i++) {
+                local[array[i]]++;
+            }
+        });
+        fillByValue(pool, tasks, counts, (value, position, count) ->
+                Arrays.fill(array, fromIndex + position, fromIndex + position + count, (char) value));
+    }
+
+    static void sort(ForkJoinPool pool, int tasks, short[] array) {
+        int[] counts = histogram(pool, tasks, array.length, CHAR_DOMAIN, (local, start, end) -> {
+            for (int i = start; i < end; i++) {
+                local[array[i] - Short.MIN_VALUE]++;
+            }
+        });
+        fillByValue(pool, tasks, counts, (value, position, count) ->
+                Arrays.fill(array, position, position + count, (short) (value + Short.MIN_VALUE)));
+    }
+
+    static void sort(ForkJoinPool pool, int tasks, byte[] array) {
+        int[] counts = histogram(pool, tasks, array.length, RADIX, (local, start, end) -> {
+            for (int i = start; i < end; i++) {
+                local[array[i] - Byte.MIN_VALUE]++;
+            }
+        });
+        // 256 значень: заповнення впирається в пам'ять, ділити його немає сенсу
+        fillByValue(pool, 1, counts, (value, position, count) ->
+                Arrays.fill(array, position, position + count, (byte) (value + Byte.MIN_VALUE)));
+    }
+
+    /**
+     * Паралельне LSD-сортування по 8 біт; проходи з однаковим розрядом у всіх елементів пропускаються.
+     */
+    static void sort(ForkJoinPool pool, int tasks, int[] array) {
+        int n = array.length;
+        int[] source = array;
+        int[] buffer = new int[n];
+        int[][] counts = new int[tasks][RADIX];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            int[] input = source;
+            int digitShift = shift;
+            forEachTask(pool, tasks, t -> {
+                int[] local = counts[t];
+                Arrays.fill(local, 0);
+                for (int i = from(n, tasks, t), end = from(n, tasks, t + 1); i < end; i++) {
+                    local[radixDigit(input[i], digitShift)]++;
+                }
+            });
+            if (isSingleDigit(counts, radixDigit(input[0], digitShift), n)) {
+                continue;
+            }
+            toTaskOffsets(counts, RADIX);
+            int[] output = buffer;
+            forEachTask(pool, tasks, t -> {
+                int[] offsets = counts[t];
+                for (int i = from(n, tasks, t), end = from(n, tasks, t + 1); i < end; i++) {
+                    int value = input[i];
+                    output[offsets[radixDigit(value, digitShift)]++] = value;
+                }
+            });
+            source = output;
+            buffer = input;
+        }
+
+        if (source != array) {
+            int[] result = source;
+            forEachTask(pool, tasks, t -> {
+                int start = from(n, tasks, t);
+                System.arraycopy(result, start, array, start, from(n, tasks, t + 1) - start);
+            });
+        }
+    }
+
+    /**
+     * Паралельне LSD-сортування по 8 біт для long (до 8 проходів).
+     */
+    static void sort(ForkJoinPool pool, int tasks, long[] array) {
+        int n = array.length;
+        long[] source = array;
+        long[] buffer = new long[n];
+        int[][] counts = new int[tasks][RADIX];
+
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            long[] input = source;
+            int digitShift = shift;
+            forEachTask(pool, tasks, t -> {
+                int[] local = counts[t];
+                Arrays.fill(local, 0);
+                for (int i = from(n, tasks, t), end = from(n, tasks, t + 1); i < end; i++) {
+                    local[radixDigit(input[i], digitShift)]++;
+                }
+            });
+            if (isSingleDigit(counts, radixDigit(input[0], digitShift), n)) {
+                continue;
+            }
+            toTaskOffsets(counts, RADIX);
+            long[] output = buffer;
+            forEachTask(pool, tasks, t -> {
+                int[] offsets = counts[t];
+                for (int i = from(n, tasks, t), end = from(n, tasks, t + 1); i < end; i++) {
+                    long value = input[i];
+                    output[offsets[radixDigit(value, digitShift)]++] = value;
+                }
+            });
+            source = output;
+            buffer = input;
+        }
+
+        if (source != array) {
+            long[] result = source;
+            forEachTask(pool, tasks, t -> {
+                int start = from(n, tasks, t);
+                System.arraycopy(result, start, array, start, from(n, tasks, t + 1) - start);
+            });
+        }
+    }
+
+    /**
+     * Виконує {@link Arrays#parallelSort} у пулі: підзадачі JDK розгалужуються в тому пулі,
+     * з потоку якого його викликано.
+     */
+    static void parallelSort(ForkJoinPool pool, Runnable sort) {
+        pool.invoke(ForkJoinTask.adapt(sort));
+    }
+
+    // ===== Спільні кроки =====
+
+    /**
+     * Запускає {@code body} для кожного номера задачі 0..tasks-1 у пулі й чекає завершення всіх.
+     */
+    private static void forEachTask(ForkJoinPool pool, int tasks, IntConsumer body) {
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<ForkJoinTask<?>> subtasks = new ArrayList<>(tasks);
+                for (int t = 0; t < tasks; t++) {
+                    int task = t;
+                    subtasks.add(ForkJoinTask.adapt(() -> body.accept(task)));
+                }
+                invokeAll(subtasks);
+            }
+        });
+    }
+
+    /**
+     * Початок відрізка задачі {@code t} серед {@code tasks} рівних відрізків масиву довжини {@code n}.
+     */
+    private static int from(int n, int tasks, int t) {
+        return (int) ((long) n * t / tasks);
+    }
+
+    /**
+     * Лічильник значень у відрізку [start, end).
+     */
+    private interface RangeCounter {
+        void count(int[] counts, int start, int end);
+    }
+
+    /**
+     * Записує {@code count} копій значення {@code value}, починаючи з позиції {@code position}.
+     */
+    private interface ValueFill {
+        void fill(int value, int position, int count);
+    }
+
+    private static int[] histogram(ForkJoinPool pool, int tasks, int n, int domain, RangeCounter counter) {
+        int[][] counts = new int[tasks][domain];
+        forEachTask(pool, tasks, t -> counter.count(counts[t], from(n, tasks, t), from(n, tasks, t + 1)));
+        int[] total = counts[0];
+        for (int t = 1; t < tasks; t++) {
+            int[] local = counts[t];
+            for (int value = 0; value < domain; value++) {
+                total[value] += local[value];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Ділить діапазон значень між задачами так, щоб кожна заповнювала приблизно
+     * однакову кількість позицій результату.
+     */
+    private static void fillByValue(ForkJoinPool pool, int tasks, int[] counts, ValueFill fill) {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        int[] firstValue = new int[tasks + 1];
+        int[] firstPosition = new int[tasks + 1];
+        int value = 0;
+        int position = 0;
+        for (int t = 1; t < tasks; t++) {
+            long target = total * t / tasks;
+            while (value < counts.length && position + counts[value] <= target) {
+                position += counts[value++];
+            }
+            firstValue[t] = value;
+            firstPosition[t] = position;
+        }
+        firstValue[tasks] = counts.length;
+        forEachTask(pool, tasks, t -> {
+            int at = firstPosition[t];
+            for (int v = firstValue[t]; v < firstValue[t + 1]; v++) {
+                if (counts[v] > 0) {
+                    fill.fill(v, at, counts[v]);
+                    at += counts[v];
+                }
+            }
+        });
+    }
+
+    /**
+     * Перетворює лічильники задач на початкові позиції: для кожного значення відрізки
+     * задач ідуть по черзі, що зберігає стабільність.
+     */
+    private static void toTaskOffsets(int[][] counts, int domain) {
+        int total = 0;
+        for (int value = 0; value < domain; value++) {
+            for (int[] local : counts) {
+                int count = local[value];
+                local[value] = total;
+                total += count;
+            }
+        }
+    }
+
+    private static boolean isSingleDigit(int[][] counts, int digit, int n) {
+        long total = 0;
+        for (int[] local : counts) {
+            total += local[digit];
+        }
+        return total == n;
+    }
+
+    private static int radixDigit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+    }
+
+    private static int radixDigit(long value, int shift) {
+        return (int) (((value ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+}
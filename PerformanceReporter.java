@@ -0,0 +1,84 @@
+/**
+ * Інтерфейс PerformanceReporter отримує кожен вимір, записаний у {@link PerformanceTracker}.
+ *
+ * <p>Реалізації викликаються синхронно в потоці, що виконав операцію, тому мають бути
+ * швидкими. Для підсумкової статистики використовуйте {@link PerformanceTracker#printSummary()}.</p>
+ */
+@FunctionalInterface
+public interface PerformanceReporter {
+    /**
+     * @param operationName Назва операції
+     * @param elapsedNs Тривалість операції в наносекундах
+     */
+    void onMeasurement(String operationName, long elapsedNs);
+
+    /**
+     * Вимір разом з виділеннями пам'яті ({@link PerformanceTracker#startOperation()});
+     * за замовчуванням передається як звичайний вимір.
+     *
+     * @param operationName Назва операції
+     * @param elapsedNs Тривалість операції в наносекундах
+     * @param allocatedBytes Байтів, виділених потоком за час операції
+     * @param elementCount Кількість оброблених елементів (0 — невідомо)
+     * @param gcCount Кількість збирань сміття за час операції
+     * @param gcTimeMs Час збирань сміття, мс
+     */
+    default void onMeasurement(String operationName, long elapsedNs, long allocatedBytes, long elementCount,
+                               long gcCount, long gcTimeMs) {
+        onMeasurement(operationName, elapsedNs);
+    }
+
+    /**
+     * Калібрований вимір {@link PerformanceTracker#measure}; за замовчуванням передається
+     * як один вимір із середнім часом виклику.
+     */
+    default void onMeasurement(Measurement measurement) {
+        onMeasurement(measurement.operationName(), Math.round(measurement.mean()));
+    }
+
+    /**
+     * Звітувач, що виводить кожен вимір через {@link ReportSink} у форматі
+     * {@code [Performance] <операція>: <нс> ns (<мс> ms)}, а калібрований —
+     * {@code [Performance] <операція>: <середнє> ± <похибка> ns/виклик (<виміри> × <виклики>)};
+     * якщо відомі виділення пам'яті, додає байти (на елемент) і збирання сміття.
+     * Поза форматом text нічого не виводить.
+     */
+    static PerformanceReporter console() {
+        return new PerformanceReporter() {
+            @Override
+            public void onMeasurement(String operationName, long elapsedNs) {
+                if (ReportSink.isVerbose()) {
+                    double elapsedMs = elapsedNs / 1_000_000.0;
+                    ReportSink.line(String.format("  [Performance] %s: %d ns (%.3f ms)", operationName, elapsedNs, elapsedMs));
+                }
+            }
+
+            @Override
+            public void onMeasurement(String operationName, long elapsedNs, long allocatedBytes, long elementCount,
+                                      long gcCount, long gcTimeMs) {
+                if (ReportSink.isVerbose()) {
+                    StringBuilder line = new StringBuilder(String.format("  [Performance] %s: %d ns (%.3f ms), %,d байт",
+                            operationName, elapsedNs, elapsedNs / 1_000_000.0, allocatedBytes));
+                    if (elementCount > 0) {
+                        line.append(String.format(" (%.1f байт/ел.)", (double) allocatedBytes / elementCount));
+                    }
+                    if (gcCount > 0) {
+                        line.append(String.format(", GC: %d (%d ms)", gcCount, gcTimeMs));
+                    }
+                    ReportSink.line(line.toString());
+                }
+            }
+
+            @Override
+            public void onMeasurement(Measurement measurement) {
+                if (ReportSink.isVerbose()) {
+                    String allocation = Double.isNaN(measurement.bytesPerCall())
+                            ? "" : String.format(", %.1f байт/виклик", measurement.bytesPerCall());
+                    ReportSink.line(String.format("  [Performance] %s: %s/виклик (%d × %,d викликів)%s",
+                            measurement.operationName(), measurement, measurement.sampleCount(),
+                            measurement.callsPerSample(), allocation));
+                }
+            }
+        };
+    }
+}
@@ -1,7 +1,68 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ * 
+ * <p>Кожна операція має власну гістограму затримок ({@link LatencyHistogram}) у реєстрі,
+ * тож повторні виміри агрегуються: кількість, середнє, p50/p90/p99/p99.9 та максимум.
+ * Виведення кожного виміру в консоль — лише один з підключених {@link PerformanceReporter};
+ * його можна вимкнути і виводити тільки підсумок через {@link #printSummary()}.</p>
+ *
+ * <p>Швидкі операції без побічних ефектів (пошук, peek) варто вимірювати через
+ * {@link #measure(String, Supplier)}: одиничний холодний виклик у {@code System.nanoTime()}
+ * показує здебільшого роздільну здатність таймера та інтерпретатор, а калібрований вимір —
+ * середній час виклику після прогріву з похибкою. Такі виміри ({@link Measurement}) мають
+ * власний реєстр і окремий розділ підсумку: середнє за пакет викликів — не затримка
+ * окремого виклику, тож у гістограму затримок воно не записується.</p>
+ *
+ * <p>Для операцій, початок яких позначено {@link #startOperation()}, разом із часом
+ * записуються байти, виділені потоком ({@code com.sun.management.ThreadMXBean}), та
+ * різниця лічильників збирань сміття ({@link AllocationStats}); підсумок показує їх
+ * поруч із затримкою як байти на операцію і на елемент.</p>
  */
 public final class PerformanceTracker {
+    private static final Map<String, LatencyHistogram> REGISTRY = new ConcurrentHashMap<>();
+    private static final Map<String, Measurement> MEASUREMENTS = new ConcurrentHashMap<>();
+    private static final PerformanceReporter CONSOLE_REPORTER = PerformanceReporter.console();
+    private static final CopyOnWriteArrayList<PerformanceReporter> REPORTERS =
+            new CopyOnWriteArrayList<>(List.of(CONSOLE_REPORTER));
+
+    private static final int WARMUP_SAMPLES = 5;
+    private static final int MEASURED_SAMPLES = 10;
+    private static final long DEFAULT_SAMPLE_NS = 10_000_000L;
+
+    private static volatile long calibrationSampleNs = DEFAULT_SAMPLE_NS;
+    // Volatile-читання в кожному виклику не дає JIT видалити чи винести з циклу обчислення результату.
+    private static volatile Object consumeSentinel = new Object();
+    private static volatile long consumeLongSentinel = Long.MIN_VALUE;
+    private static volatile int consumedSink;
+
+    private static final Map<String, AllocationStats> ALLOCATIONS = new ConcurrentHashMap<>();
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = allocationBean();
+    private static final GarbageCollectorMXBean[] GC_BEANS =
+            ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+    // Сам запит лічильника виділяє кілька байтів (масиви в ThreadMXBean); їх віднімаємо від кожного виміру.
+    private static final long ALLOCATION_OVERHEAD = allocationOverhead();
+    private static final ThreadLocal<OperationStarts> OPERATION_STARTS = ThreadLocal.withInitial(OperationStarts::new);
+    private static volatile boolean allocationTracking = THREAD_BEAN != null;
+
+    private PerformanceTracker() {
+    }
+
     /**
      * Відображає тривалість виконання операції в наносекундах.
      * 
@@ -9,8 +70,528 @@ public final class PerformanceTracker {
      * @param operationName Назва операції.
      */
     public static void displayOperationTime(long startTime, String operationName) {
+        displayOperationTime(startTime, operationName, 0);
+    }
+
+    /**
+     * Відображає тривалість операції над {@code elementCount} елементами; якщо початок
+     * позначено {@link #startOperation()}, записує також виділення пам'яті та збирання сміття.
+     * 
+     * @param startTime Значення, повернуте {@link #startOperation()} (або {@code System.nanoTime()}).
+     * @param operationName Назва операції.
+     * @param elementCount Кількість оброблених елементів (0 — невідомо).
+     */
+    public static void displayOperationTime(long startTime, String operationName, long elementCount) {
         long elapsedNs = System.nanoTime() - startTime;
-        double elapsedMs = elapsedNs / 1_000_000.0;
-        System.out.printf("  [Performance] %s: %d ns (%.3f ms)%n", operationName, elapsedNs, elapsedMs);
+        OperationStarts starts = allocationTracking ? OPERATION_STARTS.get() : null;
+        int index = starts != null ? starts.find(startTime) : -1;
+        if (index < 0) {
+            displayElapsedTime(elapsedNs, operationName);
+            return;
+        }
+        long allocatedBytes = Math.max(0, allocatedBytes() - starts.bytes[index] - ALLOCATION_OVERHEAD);
+        long gcCount = gcCount() - starts.gcCounts[index];
+        long gcTimeMs = gcTimeMs() - starts.gcTimes[index];
+        starts.size = index;
+
+        recorder(operationName).record(elapsedNs);
+        allocations(operationName).record(1, allocatedBytes, elementCount, gcCount, gcTimeMs);
+        for (PerformanceReporter reporter : REPORTERS) {
+            reporter.onMeasurement(operationName, elapsedNs, allocatedBytes, elementCount, gcCount, gcTimeMs);
+        }
+    }
+
+    /**
+     * Позначає початок операції: запам'ятовує для поточного потоку виділені байти та лічильники
+     * збирань сміття і повертає {@code System.nanoTime()}, який потрібно передати в
+     * {@link #displayOperationTime(long, String, long)}. Лічильники читаються до відліку часу,
+     * тож у тривалість операції не входять.
+     */
+    public static long startOperation() {
+        if (!allocationTracking) {
+            return System.nanoTime();
+        }
+        OperationStarts starts = OPERATION_STARTS.get();
+        long allocatedBytes = allocatedBytes();
+        long gcCount = gcCount();
+        long gcTimeMs = gcTimeMs();
+        long timeStart = System.nanoTime();
+        starts.push(timeStart, allocatedBytes, gcCount, gcTimeMs);
+        return timeStart;
+    }
+
+    /**
+     * Відображає вже виміряну тривалість операції в наносекундах.
+     * 
+     * @param elapsedNs Тривалість операції в наносекундах.
+     * @param operationName Назва операції.
+     */
+    public static void displayElapsedTime(long elapsedNs, String operationName) {
+        recorder(operationName).record(elapsedNs);
+        for (PerformanceReporter reporter : REPORTERS) {
+            reporter.onMeasurement(operationName, elapsedNs);
+        }
+    }
+
+    /**
+     * Вимірює операцію без побічних ефектів з прогрівом і калібруванням та повертає її результат.
+     *
+     * <p>Кількість викликів в одному вимірі подвоюється, доки вимір не триватиме щонайменше
+     * {@link #setCalibrationTime(long) цільовий час} (це ж і перший прогрів); далі виконується
+     * ще 5 вимірів прогріву і 10 вимірів з тією ж кількістю викликів. Кожен результат
+     * споживається, тож JIT не може видалити роботу. Результат — {@link Measurement}
+     * (середнє ± похибка) — отримують звітувачі, і він зберігається в реєстрі каліброваних
+     * вимірів (виміри операції з тією ж назвою об'єднуються), а не в гістограмі затримок.
+     * Якщо сама операція повільніша за цільовий час, вимірів стає менше, щоб загальна
+     * тривалість залишалася обмеженою. До результату входить виклик лямбди — кілька наносекунд.</p>
+     *
+     * <p>Операцію, що змінює колекцію (poll, add, sort), так вимірювати не можна — для неї
+     * лишається {@link #displayOperationTime(long, String)}. Якщо калібрування вимкнено,
+     * операція виконується один раз, як раніше.</p>
+     *
+     * <p>Для операцій з результатом int або long є перевантаження з {@link IntSupplier} і
+     * {@link LongSupplier}: результат не упаковується, тож у байти на виклик потрапляють
+     * лише виділення самої операції.</p>
+     *
+     * @param operationName Назва операції.
+     * @param operation Операція; має повертати той самий результат при кожному виклику.
+     * @return результат операції
+     */
+    public static <T> T measure(String operationName, Supplier<T> operation) {
+        long timeStart = System.nanoTime();
+        T result = operation.get();
+        calibrate(operationName, timeStart, calls -> runCalls(operation, calls));
+        return result;
+    }
+
+    /**
+     * {@link #measure(String, Supplier)} для операції з результатом int, без упаковки результату.
+     */
+    public static int measure(String operationName, IntSupplier operation) {
+        long timeStart = System.nanoTime();
+        int result = operation.getAsInt();
+        calibrate(operationName, timeStart, calls -> runCalls(operation, calls));
+        return result;
+    }
+
+    /**
+     * {@link #measure(String, Supplier)} для операції з результатом long, без упаковки результату.
+     */
+    public static long measure(String operationName, LongSupplier operation) {
+        long timeStart = System.nanoTime();
+        long result = operation.getAsLong();
+        calibrate(operationName, timeStart, calls -> runCalls(operation, calls));
+        return result;
+    }
+
+    /**
+     * Калібрування, прогрів і виміри для {@link #measure}; {@code runCalls} виконує задану
+     * кількість викликів операції і повертає їх тривалість у наносекундах.
+     *
+     * @param timeStart Початок першого (холодного) виклику, вже виконаного
+     */
+    private static void calibrate(String operationName, long timeStart, LongUnaryOperator runCalls) {
+        long sampleNs = calibrationSampleNs;
+        if (sampleNs == 0) {
+            displayOperationTime(timeStart, operationName);
+            return;
+        }
+
+        long budgetNs = 2 * (WARMUP_SAMPLES + MEASURED_SAMPLES) * sampleNs;
+        long calls = 1;
+        long elapsedNs = runCalls.applyAsLong(calls);
+        while (elapsedNs < sampleNs) {
+            calls *= 2;
+            elapsedNs = runCalls.applyAsLong(calls);
+        }
+        for (int i = 0; i < WARMUP_SAMPLES && System.nanoTime() - timeStart < budgetNs; i++) {
+            runCalls.applyAsLong(calls);
+        }
+        boolean trackAllocations = allocationTracking;
+        long bytesBefore = trackAllocations ? allocatedBytes() : 0;
+        long gcCountBefore = trackAllocations ? gcCount() : 0;
+        long gcTimeBefore = trackAllocations ? gcTimeMs() : 0;
+        double[] samples = new double[MEASURED_SAMPLES];
+        int sampleCount = 0;
+        while (sampleCount < MEASURED_SAMPLES && (sampleCount == 0 || System.nanoTime() - timeStart < budgetNs)) {
+            samples[sampleCount++] = (double) runCalls.applyAsLong(calls) / calls;
+        }
+        double bytesPerCall = Double.NaN;
+        if (trackAllocations) {
+            long allocatedBytes = Math.max(0, allocatedBytes() - bytesBefore - ALLOCATION_OVERHEAD);
+            bytesPerCall = (double) allocatedBytes / (sampleCount * calls);
+            allocations(operationName).record(sampleCount * calls, allocatedBytes, 0,
+                    gcCount() - gcCountBefore, gcTimeMs() - gcTimeBefore);
+        }
+
+        Measurement measurement = new Measurement(operationName, Arrays.copyOf(samples, sampleCount), calls, bytesPerCall);
+        MEASUREMENTS.merge(operationName, measurement, Measurement::combine);
+        for (PerformanceReporter reporter : REPORTERS) {
+            reporter.onMeasurement(measurement);
+        }
+    }
+
+    /**
+     * Задає цільову тривалість одного виміру {@link #measure(String, Supplier)}
+     * (за замовчуванням 10 мс); 0 вимикає калібрування.
+     */
+    public static void setCalibrationTime(long sampleMs) {
+        if (sampleMs < 0) {
+            throw new IllegalArgumentException("тривалість виміру не може бути від'ємною: " + sampleMs);
+        }
+        calibrationSampleNs = sampleMs * 1_000_000L;
+    }
+
+    /**
+     * Цільова тривалість одного виміру {@link #measure(String, Supplier)} у наносекундах
+     * (0 — калібрування вимкнено).
+     */
+    static long calibrationTimeNs() {
+        return calibrationSampleNs;
+    }
+
+    /**
+     * Вмикає або вимикає облік виділень пам'яті та збирань сміття (за замовчуванням увімкнено,
+     * якщо JVM підтримує лічильник виділень потоку).
+     */
+    public static void setAllocationTracking(boolean enabled) {
+        allocationTracking = enabled && THREAD_BEAN != null;
+    }
+
+    /**
+     * Повертає облік виділень операції, створюючи його при першому зверненні.
+     * 
+     * @param operationName Назва операції.
+     */
+    public static AllocationStats allocations(String operationName) {
+        AllocationStats stats = ALLOCATIONS.get(operationName);
+        return stats != null ? stats : ALLOCATIONS.computeIfAbsent(operationName, AllocationStats::new);
+    }
+
+    private static long runCalls(Supplier<?> operation, long calls) {
+        int matches = 0;
+        long timeStart = System.nanoTime();
+        for (long i = 0; i < calls; i++) {
+            if (operation.get() == consumeSentinel) {
+                matches++;
+            }
+        }
+        long elapsedNs = System.nanoTime() - timeStart;
+        consumedSink += matches;
+        return elapsedNs;
+    }
+
+    private static long runCalls(IntSupplier operation, long calls) {
+        int matches = 0;
+        long timeStart = System.nanoTime();
+        for (long i = 0; i < calls; i++) {
+            if (operation.getAsInt() == consumeLongSentinel) {
+                matches++;
+            }
+        }
+        long elapsedNs = System.nanoTime() - timeStart;
+        consumedSink += matches;
+        return elapsedNs;
+    }
+
+    private static long runCalls(LongSupplier operation, long calls) {
+        int matches = 0;
+        long timeStart = System.nanoTime();
+        for (long i = 0; i < calls; i++) {
+            if (operation.getAsLong() == consumeLongSentinel) {
+                matches++;
+            }
+        }
+        long elapsedNs = System.nanoTime() - timeStart;
+        consumedSink += matches;
+        return elapsedNs;
+    }
+
+    /**
+     * Повертає гістограму операції, створюючи її при першому зверненні.
+     * 
+     * <p>Для гарячих циклів гістограму варто отримати один раз і викликати
+     * {@link LatencyHistogram#record(long)} напряму, без звітувачів.</p>
+     * 
+     * @param operationName Назва операції.
+     */
+    public static LatencyHistogram recorder(String operationName) {
+        LatencyHistogram histogram = REGISTRY.get(operationName);
+        return histogram != null ? histogram : REGISTRY.computeIfAbsent(operationName, LatencyHistogram::new);
+    }
+
+    /**
+     * Вмикає або вимикає виведення кожного виміру в консоль.
+     */
+    public static void setConsoleOutput(boolean enabled) {
+        if (enabled) {
+            REPORTERS.addIfAbsent(CONSOLE_REPORTER);
+        } else {
+            REPORTERS.remove(CONSOLE_REPORTER);
+        }
+    }
+
+    public static void addReporter(PerformanceReporter reporter) {
+        REPORTERS.addIfAbsent(reporter);
+    }
+
+    public static void removeReporter(PerformanceReporter reporter) {
+        REPORTERS.remove(reporter);
+    }
+
+    /**
+     * Очищує всі накопичені гістограми і калібровані виміри.
+     */
+    public static void reset() {
+        REGISTRY.clear();
+        MEASUREMENTS.clear();
+        ALLOCATIONS.clear();
+    }
+
+    /**
+     * Виводить підсумок по всіх операціях (час у наносекундах): таблицю для форматів
+     * text і quiet, масив JSON або CSV — для json і csv ({@link ReportSink#format()}).
+     *
+     * <p>Калібровані виміри ({@link #measure}) йдуть окремо від гістограм затримок: у таблиці —
+     * власним розділом (викликів, середнє ± похибка), у JSON і CSV — записами з
+     * {@code calibrated = true}, де кількість — число виміряних викликів, а перцентилів немає.</p>
+     */
+    public static void printSummary() {
+        ReportSink.flush();
+        List<LatencyHistogram> histograms = new ArrayList<>(REGISTRY.values());
+        histograms.sort(Comparator.comparing(LatencyHistogram::name));
+        List<Measurement> measurements = new ArrayList<>(MEASUREMENTS.values());
+        measurements.sort(Comparator.comparing(Measurement::operationName));
+        switch (ReportSink.format()) {
+            case JSON:
+                printJsonSummary(histograms, measurements);
+                break;
+            case CSV:
+                printCsvSummary(histograms, measurements);
+                break;
+            default:
+                printTableSummary(histograms, measurements);
+        }
+    }
+
+    private static void printTableSummary(List<LatencyHistogram> histograms, List<Measurement> measurements) {
+        System.out.println("\n=== ПІДСУМОК ПРОДУКТИВНОСТІ (ns; пам'ять — байти, виділені потоком) ===");
+        System.out.println(String.format("%-60s | %8s | %12s | %10s | %10s | %10s | %10s | %12s | %14s | %10s | %5s | %7s",
+                "Операція", "К-сть", "Середнє", "p50", "p90", "p99", "p99.9", "Макс",
+                "Байт/оп", "Байт/ел", "GC", "GC мс"));
+        System.out.println("-".repeat(210));
+        for (LatencyHistogram histogram : histograms) {
+            AllocationStats stats = ALLOCATIONS.get(histogram.name());
+            System.out.println(String.format(
+                    "%-60s | %8d | %12.1f | %10d | %10d | %10d | %10d | %12d | %14s | %10s | %5s | %7s",
+                    histogram.name(), histogram.count(), histogram.mean(),
+                    histogram.percentile(0.50), histogram.percentile(0.90),
+                    histogram.percentile(0.99), histogram.percentile(0.999), histogram.max(),
+                    stats == null ? "-" : formatStat(stats.bytesPerOperation()),
+                    stats == null ? "-" : formatStat(stats.bytesPerElement()),
+                    stats == null ? "-" : String.valueOf(stats.gcCount()),
+                    stats == null ? "-" : String.valueOf(stats.gcTimeMs())));
+        }
+        System.out.println("-".repeat(210));
+        if (measurements.isEmpty()) {
+            return;
+        }
+
+        System.out.println("\n=== КАЛІБРОВАНІ ВИМІРИ (ns на виклик після прогріву, похибка — 99.9% інтервал) ===");
+        System.out.println(String.format("%-60s | %14s | %6s | %12s | %12s | %14s | %5s | %7s",
+                "Операція", "Викликів", "Виміри", "Середнє", "± Похибка", "Байт/виклик", "GC", "GC мс"));
+        System.out.println("-".repeat(150));
+        for (Measurement measurement : measurements) {
+            AllocationStats stats = ALLOCATIONS.get(measurement.operationName());
+            System.out.println(String.format("%-60s | %14d | %6d | %12.1f | %12s | %14s | %5s | %7s",
+                    measurement.operationName(), measurement.callCount(), measurement.sampleCount(),
+                    measurement.mean(), formatStat(measurement.error()), formatStat(measurement.bytesPerCall()),
+                    stats == null ? "-" : String.valueOf(stats.gcCount()),
+                    stats == null ? "-" : String.valueOf(stats.gcTimeMs())));
+        }
+        System.out.println("-".repeat(150));
+    }
+
+    private static void printJsonSummary(List<LatencyHistogram> histograms, List<Measurement> measurements) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < histograms.size(); i++) {
+            LatencyHistogram histogram = histograms.get(i);
+            AllocationStats stats = ALLOCATIONS.get(histogram.name());
+            json.append(i == 0 ? "\n" : ",\n").append(String.format(Locale.ROOT,
+                    "  {\"operation\": %s, \"calibrated\": false, \"count\": %d, \"meanNs\": %.1f, \"p50Ns\": %d, \"p90Ns\": %d, "
+                            + "\"p99Ns\": %d, \"p999Ns\": %d, \"maxNs\": %d, \"bytesPerOp\": %s, "
+                            + "\"bytesPerElement\": %s, \"gcCount\": %s, \"gcTimeMs\": %s}",
+                    jsonString(histogram.name()), histogram.count(), histogram.mean(),
+                    histogram.percentile(0.50), histogram.percentile(0.90),
+                    histogram.percentile(0.99), histogram.percentile(0.999), histogram.max(),
+                    stats == null ? "null" : jsonNumber(stats.bytesPerOperation()),
+                    stats == null ? "null" : jsonNumber(stats.bytesPerElement()),
+                    stats == null ? "null" : String.valueOf(stats.gcCount()),
+                    stats == null ? "null" : String.valueOf(stats.gcTimeMs())));
+        }
+        for (int i = 0; i < measurements.size(); i++) {
+            Measurement measurement = measurements.get(i);
+            AllocationStats stats = ALLOCATIONS.get(measurement.operationName());
+            json.append(histograms.isEmpty() && i == 0 ? "\n" : ",\n").append(String.format(Locale.ROOT,
+                    "  {\"operation\": %s, \"calibrated\": true, \"count\": %d, \"samples\": %d, \"meanNs\": %.1f, "
+                            + "\"errorNs\": %s, \"bytesPerOp\": %s, \"gcCount\": %s, \"gcTimeMs\": %s}",
+                    jsonString(measurement.operationName()), measurement.callCount(), measurement.sampleCount(),
+                    measurement.mean(), jsonNumber(measurement.error()), jsonNumber(measurement.bytesPerCall()),
+                    stats == null ? "null" : String.valueOf(stats.gcCount()),
+                    stats == null ? "null" : String.valueOf(stats.gcTimeMs())));
+        }
+        System.out.println(json.append("\n]"));
+    }
+
+    private static void printCsvSummary(List<LatencyHistogram> histograms, List<Measurement> measurements) {
+        StringBuilder csv = new StringBuilder("operation,count,mean_ns,p50_ns,p90_ns,p99_ns,p999_ns,max_ns,"
+                + "bytes_per_op,bytes_per_element,gc_count,gc_time_ms,calibrated,error_ns\n");
+        for (LatencyHistogram histogram : histograms) {
+            AllocationStats stats = ALLOCATIONS.get(histogram.name());
+            csv.append(String.format(Locale.ROOT, "%s,%d,%.1f,%d,%d,%d,%d,%d,%s,%s,%s,%s,false,%n",
+                    csvField(histogram.name()), histogram.count(), histogram.mean(),
+                    histogram.percentile(0.50), histogram.percentile(0.90),
+                    histogram.percentile(0.99), histogram.percentile(0.999), histogram.max(),
+                    stats == null ? "" : csvNumber(stats.bytesPerOperation()),
+                    stats == null ? "" : csvNumber(stats.bytesPerElement()),
+                    stats == null ? "" : String.valueOf(stats.gcCount()),
+                    stats == null ? "" : String.valueOf(stats.gcTimeMs())));
+        }
+        for (Measurement measurement : measurements) {
+            AllocationStats stats = ALLOCATIONS.get(measurement.operationName());
+            csv.append(String.format(Locale.ROOT, "%s,%d,%.1f,,,,,,%s,,%s,%s,true,%s%n",
+                    csvField(measurement.operationName()), measurement.callCount(), measurement.mean(),
+                    csvNumber(measurement.bytesPerCall()),
+                    stats == null ? "" : String.valueOf(stats.gcCount()),
+                    stats == null ? "" : String.valueOf(stats.gcTimeMs()),
+                    csvNumber(measurement.error())));
+        }
+        System.out.print(csv);
+    }
+
+    private static String jsonString(String text) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < ' ') {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String formatStat(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.1f", value);
+    }
+
+    private static String jsonNumber(double value) {
+        return Double.isNaN(value) ? "null" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String csvNumber(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String csvField(String text) {
+        return text.contains(",") || text.contains("\"") || text.contains("\n")
+                ? "\"" + text.replace("\"", "\"\"") + "\""
+                : text;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        try {
+            if (!allocationBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return allocationBean;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static long allocationOverhead() {
+        if (THREAD_BEAN == null) {
+            return 0;
+        }
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long before = allocatedBytes();
+            gcCount();
+            gcTimeMs();
+            overhead = Math.min(overhead, allocatedBytes() - before);
+        }
+        return Math.max(0, overhead);
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : GC_BEANS) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : GC_BEANS) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * Стек початків операцій потоку ({@link #startOperation()}): операцію завершує
+     * {@link #displayOperationTime(long, String, long)} з тим самим значенням часу, а
+     * вкладені початки, які так і не завершились, відкидаються разом з нею.
+     */
+    private static final class OperationStarts {
+        private static final int CAPACITY = 16;
+
+        final long[] times = new long[CAPACITY];
+        final long[] bytes = new long[CAPACITY];
+        final long[] gcCounts = new long[CAPACITY];
+        final long[] gcTimes = new long[CAPACITY];
+        int size;
+
+        void push(long time, long allocatedBytes, long gcCount, long gcTimeMs) {
+            if (size == CAPACITY) {
+                // найстаріший початок уже навряд чи буде завершено
+                System.arraycopy(times, 1, times, 0, CAPACITY - 1);
+                System.arraycopy(bytes, 1, bytes, 0, CAPACITY - 1);
+                System.arraycopy(gcCounts, 1, gcCounts, 0, CAPACITY - 1);
+                System.arraycopy(gcTimes, 1, gcTimes, 0, CAPACITY - 1);
+                size--;
+            }
+            times[size] = time;
+            bytes[size] = allocatedBytes;
+            gcCounts[size] = gcCount;
+            gcTimes[size] = gcTimeMs;
+            size++;
+        }
+
+        int find(long time) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (times[i] == time) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
 }
\ No newline at end of file
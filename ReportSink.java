@@ -0,0 +1,167 @@
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Клас ReportSink — єдиний вихід звітів процесорів замість прямих {@code System.out.println}.
+ *
+ * <p>Записи для переліку елементів ({@link #entry(Object, Object)}, {@link #item(Object)})
+ * лише зберігають посилання в буфері потоку: текст форматується пізніше, під час
+ * {@link #flush()}, тобто поза виміряним циклом, і виводиться блоками по
+ * 64 К символів — один захват блокування {@link PrintStream} на блок, а не
+ * на рядок. Звичайний рядок ({@link #line(String)}) спершу виводить накопичені записи,
+ * тож порядок виведення зберігається. Буфер свій у кожного потоку, а друкується в
+ * {@code System.out} потоку, що викликав flush, тому {@link ThreadOutputCapture}
+ * у паралельному режимі перехоплює звіти як і раніше.</p>
+ *
+ * <p>Формат ({@code --report}):</p>
+ * <ul>
+ *   <li>{@code text} — усе виведення, як раніше (за замовчуванням);</li>
+ *   <li>{@code quiet} — лише підсумкова таблиця {@link PerformanceTracker#printSummary()};
+ *       записи та рядки відкидаються ще до буферизації;</li>
+ *   <li>{@code json}, {@code csv} — як quiet, але підсумок виводиться у машиночитному вигляді
+ *       (по об'єкту/рядку на операцію) — для дашбордів.</li>
+ * </ul>
+ * <p>Помилки ({@link #error(String)}) у режимах, відмінних від text, ідуть у {@code System.err},
+ * щоб не змішуватися з JSON/CSV.</p>
+ */
+public final class ReportSink {
+    /**
+     * Формат звіту.
+     */
+    public enum Format {
+        TEXT, QUIET, JSON, CSV;
+
+        /**
+         * @throws IllegalArgumentException якщо формат невідомий
+         */
+        public static Format fromOption(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Невідомий формат звіту: " + value + " (очікується text, quiet, json або csv)");
+        }
+    }
+
+    private static final int CHUNK_CHARS = 64 * 1024;
+    private static final int INITIAL_RECORDS = 256;
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private static volatile Format format = Format.TEXT;
+
+    private ReportSink() {
+    }
+
+    public static Format format() {
+        return format;
+    }
+
+    public static void setFormat(Format newFormat) {
+        format = newFormat;
+    }
+
+    /**
+     * Чи виводиться текстовий звіт; дає змогу пропустити підготовку виведення цілком.
+     */
+    public static boolean isVerbose() {
+        return format == Format.TEXT;
+    }
+
+    /**
+     * Рядок звіту; у режимах, відмінних від text, відкидається.
+     */
+    public static void line(String text) {
+        if (format == Format.TEXT) {
+            Buffer buffer = BUFFERS.get();
+            buffer.drain(System.out);
+            System.out.println(text);
+        }
+    }
+
+    /**
+     * Порожній рядок звіту.
+     */
+    public static void line() {
+        line("");
+    }
+
+    /**
+     * Повідомлення про помилку: у режимі text — у звіт, інакше — в {@code System.err}.
+     */
+    public static void error(String text) {
+        if (format == Format.TEXT) {
+            line(text);
+        } else {
+            System.err.println(text);
+        }
+    }
+
+    /**
+     * Запис «ключ -> значення» (рядок {@code "  key -> value"}); форматується під час flush.
+     */
+    public static void entry(Object key, Object value) {
+        if (format == Format.TEXT) {
+            BUFFERS.get().add(key, value);
+        }
+    }
+
+    /**
+     * Елемент переліку (рядок {@code "  value"}); форматується під час flush.
+     */
+    public static void item(Object value) {
+        entry(value, Buffer.NO_VALUE);
+    }
+
+    /**
+     * Виводить накопичені записи поточного потоку.
+     */
+    public static void flush() {
+        BUFFERS.get().drain(System.out);
+        System.out.flush();
+    }
+
+    /**
+     * Записи потоку парами (ключ, значення) у плоскому масиві без форматування.
+     */
+    private static final class Buffer {
+        private static final Object NO_VALUE = new Object();
+
+        private Object[] records = new Object[INITIAL_RECORDS * 2];
+        private int size;
+        private final StringBuilder chunk = new StringBuilder(CHUNK_CHARS + 256);
+
+        void add(Object key, Object value) {
+            if (size == records.length) {
+                records = Arrays.copyOf(records, size * 2);
+            }
+            records[size++] = key;
+            records[size++] = value;
+        }
+
+        void drain(PrintStream out) {
+            if (size == 0) {
+                return;
+            }
+            String separator = System.lineSeparator();
+            for (int i = 0; i < size; i += 2) {
+                chunk.append("  ").append(records[i]);
+                if (records[i + 1] != NO_VALUE) {
+                    chunk.append(" -> ").append(records[i + 1]);
+                }
+                chunk.append(separator);
+                if (chunk.length() >= CHUNK_CHARS) {
+                    out.print(chunk);
+                    chunk.setLength(0);
+                }
+            }
+            out.print(chunk);
+            chunk.setLength(0);
+            Arrays.fill(records, 0, size, null);
+            size = 0;
+            if (records.length > INITIAL_RECORDS * 2 * 64) {
+                records = new Object[INITIAL_RECORDS * 2];
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Клас SortEngine упорядковує масиви за зростанням з вибором алгоритму за типом даних.
+ *
+ * <p>Стратегія {@link Strategy#LINEAR} використовує сортування підрахунком для
+ * char/short/byte (домен не більше 65 536 значень) і порозрядне LSD-сортування по байтах
+ * для int/long. Обидва алгоритми стабільні та дають той самий порядок, що й
+ * {@link Arrays#sort}, тож відсортовані файли залишаються байт-у-байт однаковими.
+ * Стратегія {@link Strategy#COMPARISON} — звичайний {@link Arrays#sort}.</p>
+ *
+ * <p>Для коротких масивів лінійні алгоритми не окупають проходу по таблиці лічильників,
+ * тому нижче порогу завжди використовується {@link Arrays#sort}.</p>
+ *
+ * <p>Якщо задано паралелізм більше 1 ({@link #setParallelism(int)}), масиви, довжина яких
+ * дає щонайменше два відрізки по {@link #parallelThreshold()} елементів, сортуються
+ * {@link ParallelSort} у власному {@link ForkJoinPool} тим самим алгоритмом.
+ * За замовчуванням паралелізм дорівнює 1 — сортування послідовне.</p>
+ */
+public final class SortEngine {
+    /**
+     * Алгоритм сортування.
+     */
+    public enum Strategy {
+        /** Сортування порівнянням ({@link Arrays#sort}). */
+        COMPARISON,
+        /** Сортування підрахунком / порозрядне сортування. */
+        LINEAR;
+
+        /**
+         * Розбирає значення опції командного рядка (без урахування регістру).
+         */
+        public static Strategy fromOption(String value) {
+            for (Strategy strategy : values()) {
+                if (strategy.name().equalsIgnoreCase(value)) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Невідомий алгоритм сортування: " + value + " (очікується comparison або linear)");
+        }
+    }
+
+    private static final int CHAR_DOMAIN = Character.MAX_VALUE + 1;
+    private static final int COUNTING_SORT_THRESHOLD = 1 << 12;
+    private static final int SMALL_DOMAIN_THRESHOLD = 64;
+    private static final int RADIX_SORT_THRESHOLD = 1 << 10;
+
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    private static volatile Strategy strategy = Strategy.LINEAR;
+    private static volatile ForkJoinPool pool;
+    private static volatile int parallelism = 1;
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private SortEngine() {
+    }
+
+    public static Strategy strategy() {
+        return strategy;
+    }
+
+    public static void setStrategy(Strategy newStrategy) {
+        strategy = newStrategy;
+    }
+
+    public static int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Задає кількість потоків сортування; 1 вимикає паралельний режим.
+     * Попередній пул завершується, тож змінювати паралелізм під час сортування не можна.
+     */
+    public static synchronized void setParallelism(int newParallelism) {
+        if (newParallelism <= 0) {
+            throw new IllegalArgumentException("Паралелізм сортування має бути додатним: " + newParallelism);
+        }
+        if (newParallelism == parallelism) {
+            return;
+        }
+        ForkJoinPool previous = pool;
+        pool = newParallelism > 1 ? new ForkJoinPool(newParallelism) : null;
+        parallelism = newParallelism;
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    public static int parallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Задає мінімальну кількість елементів на одну паралельну задачу.
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Поріг паралельного сортування має бути додатним: " + threshold);
+        }
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Упорядковує масив Character; елементи null не допускаються, як і в {@link Arrays#sort(Object[])}.
+     */
+    public static void sort(Character[] array) {
+        ForkJoinPool parallelPool = pool;
+        int tasks = parallelTasks(parallelPool, array.length);
+        if (tasks > 1) {
+            if (strategy == Strategy.COMPARISON) {
+                ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+            } else {
+                ParallelSort.sort(parallelPool, tasks, array);
+            }
+            return;
+        }
+        if (strategy == Strategy.COMPARISON || array.length < COUNTING_SORT_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+
+        int[] offsets = new int[CHAR_DOMAIN + 1];
+        for (Character value : array) {
+            offsets[value + 1]++;
+        }
+        for (int i = 1; i <= CHAR_DOMAIN; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+
+        // Стабільне розкладання зберігає ті самі об'єкти Character без нових упаковок
+        Character[] sorted = new Character[array.length];
+        for (Character value : array) {
+            sorted[offsets[value]++] = value;
+        }
+        System.arraycopy(sorted, 0, array, 0, array.length);
+    }
+
+    public static void sort(char[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Упорядковує діапазон [fromIndex, toIndex) масиву char.
+     */
+    public static void sort(char[] array, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        ForkJoinPool parallelPool = pool;
+        int tasks = parallelTasks(parallelPool, length);
+        if (tasks > 1) {
+            if (strategy == Strategy.COMPARISON) {
+                ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array, fromIndex, toIndex));
+            } else {
+                ParallelSort.sort(parallelPool, tasks, array, fromIndex, toIndex);
+            }
+            return;
+        }
+        if (strategy == Strategy.COMPARISON || length < COUNTING_SORT_THRESHOLD) {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+
+        int[] counts = new int[CHAR_DOMAIN];
+        for (int i = fromIndex; i < toIndex; i++) {
+            counts[array[i]]++;
+        }
+        int position = fromIndex;
+        for (int value = 0; value < CHAR_DOMAIN; value++) {
+            for (int count = counts[value]; count > 0; count--) {
+                array[position++] = (char) value;
+            }
+        }
+    }
+
+    public static void sort(short[] array) {
+        ForkJoinPool parallelPool = pool;
+        int tasks = parallelTasks(parallelPool, array.length);
+        if (tasks > 1) {
+            if (strategy == Strategy.COMPARISON) {
+                ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+            } else {
+                ParallelSort.sort(parallelPool, tasks, array);
+            }
+            return;
+        }
+        if (strategy == Strategy.COMPARISON || array.length < COUNTING_SORT_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+
+        int[] counts = new int[CHAR_DOMAIN];
+        for (short value : array) {
+            counts[value - Short.MIN_VALUE]++;
+        }
+        int position = 0;
+        for (int i = 0; i < CHAR_DOMAIN; i++) {
+            for (int count = counts[i]; count > 0; count--) {
+                array[position++] = (short) (i + Short.MIN_VALUE);
+            }
+        }
+    }
+
+    public static void sort(byte[] array) {
+        ForkJoinPool parallelPool = pool;
+        int tasks = parallelTasks(parallelPool, array.length);
+        if (tasks > 1) {
+            if (strategy == Strategy.COMPARISON) {
+                ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+            } else {
+                ParallelSort.sort(parallelPool, tasks, array);
+            }
+            return;
+        }
+        if (strategy == Strategy.COMPARISON || array.length < SMALL_DOMAIN_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+
+        int[] counts = new int[256];
+        for (byte value : array) {
+            counts[value - Byte.MIN_VALUE]++;
+        }
+        int position = 0;
+        for (int i = 0; i < 256; i++) {
+            for (int count = counts[i]; count > 0; count--) {
+                array[position++] = (byte) (i + Byte.MIN_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Порозрядне LSD-сортування по 8 біт; знаковий біт інвертується, щоб від'ємні числа
+     * йшли першими. Проходи, в яких усі елементи мають однаковий байт, пропускаються.
+     */
+    public static void sort(int[] array) {
+        ForkJoinPool parallelPool = pool;
+        int tasks = parallelTasks(parallelPool, array.length);
+        if (tasks > 1) {
+            if (strategy == Strategy.COMPARISON) {
+                ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+            } else {
+                ParallelSort.sort(parallelPool, tasks, array);
+            }
+            return;
+        }
+        if (strategy == Strategy.COMPARISON || array.length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+
+        int[] source = array;
+        int[] buffer = new int[array.length];
+        int[] counts = new int[256];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int value : source) {
+                counts[radixDigit(value, shift)]++;
+            }
+            if (counts[radixDigit(source[0], shift)] == source.length) {
+                continue;
+            }
+            toOffsets(counts);
+            for (int value : source) {
+                buffer[counts[radixDigit(value, shift)]++] = value;
+            }
+            int[] swap = source;
+            source = buffer;
+            buffer = swap;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, array.length);
+        }
+    }
+
+    /**
+     * Порозрядне LSD-сортування по 8 біт для long (до 8 проходів).
+     */
+    public static void sort(long[] array) {
+        ForkJoinPool parallelPool = pool;
+        int tasks = parallelTasks(parallelPool, array.length);
+        if (tasks > 1) {
+            if (strategy == Strategy.COMPARISON) {
+                ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+            } else {
+                ParallelSort.sort(parallelPool, tasks, array);
+            }
+            return;
+        }
+        if (strategy == Strategy.COMPARISON || array.length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+
+        long[] source = array;
+        long[] buffer = new long[array.length];
+        int[] counts = new int[256];
+
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (long value : source) {
+                counts[radixDigit(value, shift)]++;
+            }
+            if (counts[radixDigit(source[0], shift)] == source.length) {
+                continue;
+            }
+            toOffsets(counts);
+            for (long value : source) {
+                buffer[counts[radixDigit(value, shift)]++] = value;
+            }
+            long[] swap = source;
+            source = buffer;
+            buffer = swap;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, array.length);
+        }
+    }
+
+    /**
+     * Для float лінійного алгоритму немає: {@link Arrays#sort} або, в паралельному режимі,
+     * {@link Arrays#parallelSort}.
+     */
+    public static void sort(float[] array) {
+        ForkJoinPool parallelPool = pool;
+        if (parallelTasks(parallelPool, array.length) > 1) {
+            ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+        } else {
+            Arrays.sort(array);
+        }
+    }
+
+    /**
+     * Для double лінійного алгоритму немає: {@link Arrays#sort} або, в паралельному режимі,
+     * {@link Arrays#parallelSort}.
+     */
+    public static void sort(double[] array) {
+        ForkJoinPool parallelPool = pool;
+        if (parallelTasks(parallelPool, array.length) > 1) {
+            ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+        } else {
+            Arrays.sort(array);
+        }
+    }
+
+    /**
+     * Упорядковує масив порівнюваних об'єктів (String, дати й час) за природним порядком.
+     */
+    public static <T extends Comparable<? super T>> void sort(T[] array) {
+        ForkJoinPool parallelPool = pool;
+        if (parallelTasks(parallelPool, array.length) > 1) {
+            ParallelSort.parallelSort(parallelPool, () -> Arrays.parallelSort(array));
+        } else {
+            Arrays.sort(array);
+        }
+    }
+
+    /**
+     * Кількість паралельних задач для масиву: не більше паралелізму і не менше
+     * {@link #parallelThreshold()} елементів на задачу; 1 означає послідовне сортування.
+     */
+    private static int parallelTasks(ForkJoinPool parallelPool, int length) {
+        if (parallelPool == null) {
+            return 1;
+        }
+        return Math.max(1, Math.min(parallelism, length / parallelThreshold));
+    }
+
+    private static int radixDigit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+    }
+
+    private static int radixDigit(long value, int shift) {
+        return (int) (((value ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+
+    /**
+     * Перетворює лічильники на початкові позиції кожного розряду.
+     */
+    private static void toOffsets(int[] counts) {
+        int total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            counts[i] = total;
+            total += count;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Клас SortScalingReport вимірює, як прискорюється {@link SortEngine} зі зростанням
+ * кількості потоків сортування.
+ *
+ * <p>Для кожного типу масиву (Character і char з символів файлу даних, повторених до
+ * потрібної довжини; int і long — випадкові) і кожного паралелізму сортується свіжа копія
+ * тих самих даних. Спочатку всі рівні паралелізму проходять прогрів (щонайменше 3 раунди
+ * і щонайменше 1 с на тип масиву — послідовний шлях JIT компілює не одразу), і лише потім
+ * починаються виміри; виміри рівнів чергуються по раундах (з оберненням порядку в кожному
+ * наступному), тож JIT і стан купи однаково впливають на всі рівні, а не лише на перший.
+ * Береться найкращий вимір кожного рівня. Результат кожного паралельного прогону
+ * звіряється з послідовним.</p>
+ *
+ * <p>Рівні, де потоків більше, ніж ядер, і прискорення, більше за кількість задіяних ядер,
+ * позначаються у звіті: це не масштабування, а похибка виміру.</p>
+ */
+final class SortScalingReport {
+    static final int DEFAULT_LENGTH = 1 << 22;
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final long WARMUP_NS = 1_000_000_000L;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final long RANDOM_SEED = 42;
+
+    private final Character[] source;
+    private final int length;
+    private final int[] parallelismLevels;
+
+    /**
+     * @param source Символи файлу даних
+     * @param length Довжина масивів, що сортуються
+     * @param maxParallelism Найбільший паралелізм (рівні — степені двійки до нього)
+     */
+    SortScalingReport(Character[] source, int length, int maxParallelism) {
+        if (source.length == 0) {
+            throw new IllegalArgumentException("файл даних порожній");
+        }
+        this.source = source;
+        this.length = length;
+        this.parallelismLevels = parallelismLevels(maxParallelism);
+    }
+
+    void run() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ReportSink.line("Ядер: " + cores
+                + ", елементів: " + length
+                + ", алгоритм: " + SortEngine.strategy().name().toLowerCase()
+                + ", поріг на задачу: " + SortEngine.parallelThreshold());
+        int maxParallelism = parallelismLevels[parallelismLevels.length - 1];
+        if (maxParallelism > cores) {
+            ReportSink.line("⚠ Потоків (до " + maxParallelism + ") більше, ніж ядер (" + cores
+                    + "): рівні понад " + cores + " потоків не показують реального масштабування.");
+        }
+
+        Character[] characters = new Character[length];
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            characters[i] = source[i % source.length];
+            chars[i] = characters[i];
+        }
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        int[] ints = random.ints(length).toArray();
+        long[] longs = random.longs(length).toArray();
+
+        int initialParallelism = SortEngine.parallelism();
+        List<Result> results = new ArrayList<>();
+        try {
+            measure("Character[]", () -> characters.clone(), SortEngine::sort, Arrays::equals, results);
+            measure("char[]", () -> chars.clone(), SortEngine::sort, Arrays::equals, results);
+            measure("int[]", () -> ints.clone(), SortEngine::sort, Arrays::equals, results);
+            measure("long[]", () -> longs.clone(), SortEngine::sort, Arrays::equals, results);
+        } finally {
+            SortEngine.setParallelism(initialParallelism);
+        }
+        printScaling(results);
+    }
+
+    /**
+     * Порівняння результатів двох сортувань.
+     */
+    private interface Equality<A> {
+        boolean equals(A first, A second);
+    }
+
+    private <A> void measure(String name, Supplier<A> copy, Consumer<A> sort, Equality<A> equality,
+                             List<Result> results) {
+        int levels = parallelismLevels.length;
+        long warmupStart = System.nanoTime();
+        for (int round = 0; round < WARMUP_ROUNDS || System.nanoTime() - warmupStart < WARMUP_NS; round++) {
+            for (int parallelism : parallelismLevels) {
+                SortEngine.setParallelism(parallelism);
+                sort.accept(copy.get());
+            }
+        }
+
+        long[] best = new long[levels];
+        Arrays.fill(best, Long.MAX_VALUE);
+        List<A> sorted = new ArrayList<>();
+        for (int level = 0; level < levels; level++) {
+            sorted.add(null);
+        }
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (int step = 0; step < levels; step++) {
+                int level = round % 2 == 0 ? step : levels - 1 - step;
+                SortEngine.setParallelism(parallelismLevels[level]);
+                A array = copy.get();
+                long timeStart = System.nanoTime();
+                sort.accept(array);
+                best[level] = Math.min(best[level], System.nanoTime() - timeStart);
+                sorted.set(level, array);
+            }
+        }
+
+        for (int level = 0; level < levels; level++) {
+            boolean matches = equality.equals(sorted.get(0), sorted.get(level));
+            results.add(new Result(name, parallelismLevels[level], best[level]));
+            ReportSink.line(String.format("  %-12s %3d потоків: %10.2f мс%s",
+                    name, parallelismLevels[level], best[level] / 1e6,
+                    matches ? "" : "  ❌ результат відрізняється від послідовного"));
+        }
+    }
+
+    private void printScaling(List<Result> results) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ReportSink.line("\n📈 МАСШТАБУВАННЯ СОРТУВАННЯ (прискорення відносно " + parallelismLevels[0] + " потоку):\n");
+        ReportSink.line(String.format("%-12s | %8s | %12s | %12s | %12s",
+                "Масив", "Потоків", "Час (мс)", "Прискорення", "Ефективність"));
+        ReportSink.line("-".repeat(68));
+        Result baseline = null;
+        for (Result result : results) {
+            if (baseline == null || !baseline.name.equals(result.name)) {
+                baseline = result;
+            }
+            double speedup = (double) baseline.bestNs / result.bestNs;
+            double efficiency = speedup * baseline.parallelism / result.parallelism;
+            // прискорення понад кількість задіяних ядер фізично неможливе — це шум виміру
+            boolean implausible = speedup > 1.1 * Math.min(result.parallelism, cores) / baseline.parallelism;
+            ReportSink.line(String.format("%-12s | %8s | %12.2f | %11.2fx | %11.0f%%%s",
+                    result.name, result.parallelism + (result.parallelism > cores ? "*" : ""),
+                    result.bestNs / 1e6, speedup, efficiency * 100, implausible ? "  !" : ""));
+        }
+        ReportSink.line("-".repeat(68));
+        ReportSink.line("* — потоків більше, ніж ядер (" + cores + "): реального прискорення понад " + cores
+                + " потоків там немає.");
+        ReportSink.line("! — прискорення більше за кількість задіяних ядер: похибка виміру, а не масштабування.");
+    }
+
+    private static int[] parallelismLevels(int maxParallelism) {
+        List<Integer> levels = new ArrayList<>();
+        for (int parallelism = 1; parallelism < maxParallelism; parallelism <<= 1) {
+            levels.add(parallelism);
+        }
+        levels.add(maxParallelism);
+        return levels.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Найкращий час сортування одного типу масиву з одним паралелізмом.
+     */
+    private static final class Result {
+        private final String name;
+        private final int parallelism;
+        private final long bestNs;
+
+        Result(String name, int parallelism, long bestNs) {
+            this.name = name;
+            this.parallelism = parallelism;
+            this.bestNs = bestNs;
+        }
+    }
+}
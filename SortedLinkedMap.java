@@ -0,0 +1,183 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Клас SortedLinkedMap — Map, яка одночасно підтримує порядок додавання і порядок компаратора.
+ *
+ * <p>Записи зберігаються в {@link LinkedHashMap} (хеш-індекс для пошуку за O(1) і порядок
+ * додавання для звичайної ітерації), а ключі — ще й у збалансованому дереві ({@link TreeSet}
+ * з компаратором). Додавання нового ключа чи видалення коштує O(log n), заміна значення
+ * існуючого ключа — O(1). Впорядкований обхід ({@link #sortedEntrySet()}) доступний будь-коли
+ * без перебудови, тож чергування оновлень і впорядкованих читань не потребує повного
+ * сортування O(n log n) на кожне читання.</p>
+ *
+ * <p>{@link #entrySet()} і ітерація Map — у порядку додавання, як у LinkedHashMap.</p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значення
+ */
+public final class SortedLinkedMap<K, V> extends AbstractMap<K, V> {
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>();
+    private final TreeSet<K> order;
+    private Set<Map.Entry<K, V>> entrySetView;
+    private Set<Map.Entry<K, V>> sortedEntrySetView;
+
+    /**
+     * @param comparator Порядок ключів; має бути узгоджений з equals ключів
+     */
+    public SortedLinkedMap(Comparator<? super K> comparator) {
+        this.order = new TreeSet<>(comparator);
+    }
+
+    /**
+     * Копіює записи Map у порядку її ітерації.
+     */
+    public SortedLinkedMap(Map<? extends K, ? extends V> source, Comparator<? super K> comparator) {
+        this(comparator);
+        putAll(source);
+    }
+
+    public Comparator<? super K> comparator() {
+        return order.comparator();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        boolean existed = entries.containsKey(key);
+        V previous = entries.put(key, value);
+        if (!existed) {
+            order.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+        order.remove((K) key);
+        return entries.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        order.clear();
+    }
+
+    /**
+     * Ключі в порядку компаратора (незмінне представлення).
+     */
+    public NavigableSet<K> sortedKeySet() {
+        return Collections.unmodifiableNavigableSet(order);
+    }
+
+    /**
+     * Записи в порядку компаратора (незмінне представлення): обхід іде по дереву ключів,
+     * значення беруться з хеш-індексу.
+     */
+    public Set<Map.Entry<K, V>> sortedEntrySet() {
+        if (sortedEntrySetView == null) {
+            sortedEntrySetView = new SortedEntrySetView();
+        }
+        return sortedEntrySetView;
+    }
+
+    /**
+     * Записи в порядку додавання; remove() через ітератор прибирає ключ і з дерева.
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySetView == null) {
+            entrySetView = new EntrySetView();
+        }
+        return entrySetView;
+    }
+
+    private final class EntrySetView extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+            return new Iterator<>() {
+                private K currentKey;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    Map.Entry<K, V> entry = iterator.next();
+                    currentKey = entry.getKey();
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    order.remove(currentKey);
+                }
+            };
+        }
+    }
+
+    private final class SortedEntrySetView extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<K> keys = order.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return keys.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    K key = keys.next();
+                    return new SimpleImmutableEntry<>(key, entries.get(key));
+                }
+            };
+        }
+    }
+}
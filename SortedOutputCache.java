@@ -0,0 +1,262 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас SortedOutputCache повторно використовує відсортований масив символів і файл
+ * {@code <джерело>.sorted}, поки вміст файлу-джерела не змінився.
+ *
+ * <p>Ключ кешу — контрольна сума CRC32C файлу-джерела ({@link DataFileHandler#checksum(String)}),
+ * яка обчислюється один раз за запуск. Поруч з {@code .sorted} зберігається файл метаданих
+ * {@code .sorted.meta} з контрольними сумами джерела, масиву символів у порядку файлу і
+ * відсортованого файлу та кількістю елементів. Артефакт вважається дійсним, лише якщо
+ * збігаються контрольні суми обох файлів і кількість елементів.</p>
+ *
+ * <p>Масив, переданий у {@link #restore(Character[], String)}, замінюється відсортованими
+ * даними лише тоді, коли його довжина і контрольна сума ({@link #checksum(Character[])})
+ * збігаються з масивом, з якого отримано артефакт, — тобто це справді невідсортовані
+ * дані файлу, а не довільний масив тієї ж довжини.</p>
+ *
+ * <p>Протягом запуску:</p>
+ * <ul>
+ *   <li>{@link #restore(Character[], String)} заповнює масив уже відсортованими даними —
+ *       з пам'яті або з дійсного {@code .sorted} на диску — замість повторного сортування;</li>
+ *   <li>{@link #store(Character[], String)} записує {@code .sorted} і метадані лише один раз:
+ *       якщо артефакт для поточної контрольної суми вже дійсний, запис пропускається.</li>
+ * </ul>
+ *
+ * <p>Метадані записуються після {@code .sorted}, тож обірваний запис залишає артефакт
+ * недійсним, а не пошкодженим. Методи потокобезпечні: паралельні процесори
+ * ({@code --concurrent}) отримують спільний запис кешу.</p>
+ */
+public final class SortedOutputCache {
+    static final String SORTED_SUFFIX = ".sorted";
+    static final String METADATA_SUFFIX = ".sorted.meta";
+    private static final String FORMAT_VERSION = "2";
+    private static final int CHECKSUM_CHUNK = 8 * 1024;
+
+    private static final Map<String, Entry> ENTRIES = new HashMap<>();
+    private static volatile boolean enabled = true;
+
+    private SortedOutputCache() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Вмикає або вимикає кеш; вимкнений кеш не відновлює дані, а {@code .sorted} записується щоразу.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Заповнює масив відсортованими даними файлу-джерела, якщо вони вже відомі.
+     *
+     * <p>Контрольна сума масиву запам'ятовується і на промах: {@link #store(Character[], String)}
+     * записує її в метадані, щоб наступний запуск міг перевірити свій масив.</p>
+     *
+     * @param data Масив, завантажений з {@code sourcePath}; на успіх його вміст замінюється відсортованим
+     * @param sourcePath Шлях до файлу-джерела
+     * @return {@code true}, якщо масив заповнено з кешу; {@code false} — масив потрібно відсортувати
+     */
+    public static boolean restore(Character[] data, String sourcePath) {
+        if (!enabled) {
+            return false;
+        }
+        long dataChecksum = checksum(data);
+        Character[] sorted;
+        synchronized (SortedOutputCache.class) {
+            Entry entry = entry(sourcePath);
+            if (entry.sorted == null && !entry.diskChecked) {
+                entry.diskChecked = true;
+                Properties metadata = loadValidMetadata(sourcePath, entry.sourceChecksum);
+                if (metadata != null) {
+                    entry.sorted = loadValidArtifact(sourcePath, metadata);
+                    entry.dataChecksum = entry.sorted != null ? parseChecksum(metadata.getProperty("data.crc32c")) : -1;
+                }
+                entry.persisted = entry.sorted != null;
+            }
+            if (entry.sorted == null) {
+                entry.dataChecksum = dataChecksum;
+            }
+            sorted = entry.sorted != null && entry.dataChecksum == dataChecksum ? entry.sorted : null;
+        }
+        if (sorted == null || sorted.length != data.length) {
+            return false;
+        }
+        // Character незмінні, тож копіювати достатньо посилання
+        System.arraycopy(sorted, 0, data, 0, data.length);
+        return true;
+    }
+
+    /**
+     * Зберігає відсортований масив у {@code <sourcePath>.sorted}, якщо дійсного артефакту ще немає.
+     *
+     * @param sorted Відсортований масив, завантажений з {@code sourcePath}
+     * @param sourcePath Шлях до файлу-джерела
+     * @return {@code true}, якщо файл записано; {@code false}, якщо наявний файл актуальний
+     */
+    public static boolean store(Character[] sorted, String sourcePath) {
+        String sortedPath = sourcePath + SORTED_SUFFIX;
+        if (!enabled) {
+            DataFileHandler.writeArrayToFile(sorted, sortedPath);
+            return true;
+        }
+        synchronized (SortedOutputCache.class) {
+            Entry entry = entry(sourcePath);
+            if (entry.persisted) {
+                return false;
+            }
+            DataFileHandler.writeArrayToFile(sorted, sortedPath);
+            if (entry.sourceChecksum >= 0 && entry.dataChecksum >= 0 && isLossless(sorted)) {
+                writeMetadata(sourcePath, entry.sourceChecksum, entry.dataChecksum,
+                        DataFileHandler.checksum(sortedPath), sorted.length);
+            } else {
+                // без метаданих наступний запуск не довірятиме файлу і відсортує дані заново
+                deleteMetadata(sourcePath);
+            }
+            entry.sorted = sorted.clone();
+            entry.diskChecked = true;
+            entry.persisted = true;
+            return true;
+        }
+    }
+
+    private static Entry entry(String sourcePath) {
+        return ENTRIES.computeIfAbsent(sourcePath, path -> new Entry(DataFileHandler.checksum(path)));
+    }
+
+    /**
+     * Контрольна сума CRC32C символів масиву в їхньому порядку (по два байти на символ).
+     */
+    static long checksum(Character[] data) {
+        CRC32C crc = new CRC32C();
+        byte[] chunk = new byte[CHECKSUM_CHUNK];
+        int length = 0;
+        for (Character value : data) {
+            if (length == chunk.length) {
+                crc.update(chunk, 0, length);
+                length = 0;
+            }
+            char c = value;
+            chunk[length++] = (byte) (c >>> 8);
+            chunk[length++] = (byte) c;
+        }
+        crc.update(chunk, 0, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Читає метадані, якщо вони відповідають поточній версії формату і контрольній сумі джерела.
+     *
+     * @return Метадані або {@code null}, якщо їх немає чи вони застаріли
+     */
+    private static Properties loadValidMetadata(String sourcePath, long sourceChecksum) {
+        if (sourceChecksum < 0) {
+            return null;
+        }
+        Properties metadata = readMetadata(sourcePath);
+        if (metadata == null
+                || !FORMAT_VERSION.equals(metadata.getProperty("version"))
+                || !Long.toString(sourceChecksum).equals(metadata.getProperty("source.crc32c"))
+                || parseChecksum(metadata.getProperty("data.crc32c")) < 0) {
+            return null;
+        }
+        return metadata;
+    }
+
+    /**
+     * Завантажує {@code .sorted}, якщо він відповідає контрольній сумі і кількості з метаданих.
+     *
+     * @return Відсортований масив або {@code null}, якщо артефакт пошкоджено чи замінено
+     */
+    private static Character[] loadValidArtifact(String sourcePath, Properties metadata) {
+        String sortedPath = sourcePath + SORTED_SUFFIX;
+        if (!Long.toString(DataFileHandler.checksum(sortedPath)).equals(metadata.getProperty("sorted.crc32c"))) {
+            return null;
+        }
+        Character[] sorted = DataFileHandler.loadArrayFromFile(sortedPath);
+        if (!Integer.toString(sorted.length).equals(metadata.getProperty("count"))) {
+            return null;
+        }
+        return sorted;
+    }
+
+    private static Properties readMetadata(String sourcePath) {
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(Paths.get(sourcePath + METADATA_SUFFIX), StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        } catch (IOException e) {
+            return null;
+        }
+        return metadata;
+    }
+
+    private static long parseChecksum(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void writeMetadata(String sourcePath, long sourceChecksum, long dataChecksum, long sortedChecksum, int count) {
+        List<String> lines = List.of(
+                "version=" + FORMAT_VERSION,
+                "source.crc32c=" + sourceChecksum,
+                "data.crc32c=" + dataChecksum,
+                "sorted.crc32c=" + sortedChecksum,
+                "count=" + count);
+        DataFileHandler.writeLinesToFile(sourcePath + METADATA_SUFFIX, lines.size(), lines::get);
+    }
+
+    private static void deleteMetadata(String sourcePath) {
+        try {
+            Files.deleteIfExists(Paths.get(sourcePath + METADATA_SUFFIX));
+        } catch (IOException ignored) {
+            // застарілі метадані все одно не збігуться з контрольною сумою нового .sorted
+        }
+    }
+
+    /**
+     * Перевіряє, що після запису та повторного читання {@code .sorted} дасть ті самі символи:
+     * пробільні та керуючі символи відкидаються при читанні, а сурогати записуються як '?'.
+     */
+    private static boolean isLossless(Character[] sorted) {
+        for (Character c : sorted) {
+            if (c <= ' ' || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Стан кешу для одного файлу-джерела в межах запуску.
+     */
+    private static final class Entry {
+        private final long sourceChecksum;
+        /** Контрольна сума невідсортованого масиву, з якого отримано {@link #sorted}; -1 — невідома. */
+        private long dataChecksum = -1;
+        private Character[] sorted;
+        private boolean diskChecked;
+        private boolean persisted;
+
+        Entry(long sourceChecksum) {
+            this.sourceChecksum = sourceChecksum;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Клас StreamingAggregator відповідає на запити мін/макс/пошук/кількість за один прохід
+ * по файлу даних, не завантажуючи його в масив і не будуючи колекцій.
+ *
+ * <p>Значення надходять з {@link TypedDataParser#scan} (текстовий або двійковий файл,
+ * відображений у пам'ять вікнами), а агрегатор тримає лише кілька полів: кількість
+ * елементів, мінімум, максимум, кількість входжень пошукового значення та позицію
+ * першого з них. Пам'ять не залежить від розміру файлу, тож можна аналізувати файли,
+ * більші за купу. Порядок значень той самий, що й у {@link TypedArray}: для float/double —
+ * {@link Double#compare} ({@code -0.0 < 0.0}, NaN найбільший).</p>
+ *
+ * <p>Якщо задано інтервал, кожні N елементів виводиться проміжний результат —
+ * агрегати вже прочитаної частини файлу.</p>
+ */
+final class StreamingAggregator implements TypedDataParser.ValueVisitor {
+    private final DataType type;
+    private final String searchText;
+    private final long progressInterval;
+
+    private long longKey;
+    private double doubleKey;
+    private Comparable<Object> objectKey;
+
+    private long count;
+    private long matches;
+    private long firstMatch = -1;
+    private long minLong = Long.MAX_VALUE;
+    private long maxLong = Long.MIN_VALUE;
+    private double minDouble;
+    private double maxDouble;
+    private Comparable<Object> minObject;
+    private Comparable<Object> maxObject;
+    private long timeStart;
+
+    /**
+     * @param type Тип даних файлу
+     * @param searchText Пошукове значення в текстовому вигляді
+     * @param progressInterval Кожні скільки елементів виводити проміжний результат (0 — не виводити)
+     * @throws IllegalArgumentException якщо пошукове значення не є значенням типу
+     */
+    @SuppressWarnings("unchecked")
+    StreamingAggregator(DataType type, String searchText, long progressInterval) {
+        this.type = type;
+        this.searchText = searchText;
+        this.progressInterval = progressInterval;
+        String text = searchText.trim();
+        switch (type) {
+            case CHARACTER:
+                longKey = searchText.charAt(0);
+                break;
+            case BYTE:
+                longKey = Byte.parseByte(text);
+                break;
+            case SHORT:
+                longKey = Short.parseShort(text);
+                break;
+            case INT:
+                longKey = Integer.parseInt(text);
+                break;
+            case LONG:
+                longKey = Long.parseLong(text);
+                break;
+            case FLOAT:
+                doubleKey = Float.parseFloat(text);
+                break;
+            case DOUBLE:
+                doubleKey = Double.parseDouble(text);
+                break;
+            case STRING:
+                objectKey = (Comparable<Object>) (Comparable<?>) searchText;
+                break;
+            case LOCAL_DATE:
+                objectKey = (Comparable<Object>) (Comparable<?>) LocalDate.parse(text);
+                break;
+            case LOCAL_TIME:
+                objectKey = (Comparable<Object>) (Comparable<?>) LocalTime.parse(text);
+                break;
+            case LOCAL_DATE_TIME:
+                objectKey = (Comparable<Object>) (Comparable<?>) TypedDataParser.parseLocalDateTime(text);
+                break;
+            default:
+                throw new IllegalArgumentException("Невідомий тип " + type);
+        }
+    }
+
+    /**
+     * Проходить файл один раз і виводить результат. Підсумок виводиться лише після того,
+     * як файл прочитано до кінця.
+     *
+     * @throws RuntimeException якщо файл не вдалося прочитати або розібрати; підсумок тоді
+     *         не виводиться, а {@link #count()} — кількість елементів, прочитаних до помилки
+     */
+    void run(String filePath) {
+        timeStart = System.nanoTime();
+        TypedDataParser.scan(type, filePath, this);
+        long elapsedNs = System.nanoTime() - timeStart;
+        PerformanceTracker.displayElapsedTime(elapsedNs, "потокова агрегація " + type);
+        printResult(elapsedNs);
+    }
+
+    @Override
+    public void visitLong(long value) {
+        if (value < minLong) {
+            minLong = value;
+        }
+        if (value > maxLong) {
+            maxLong = value;
+        }
+        if (value == longKey) {
+            match();
+        }
+        next();
+    }
+
+    @Override
+    public void visitDouble(double value) {
+        if (count == 0 || Double.compare(value, minDouble) < 0) {
+            minDouble = value;
+        }
+        if (count == 0 || Double.compare(value, maxDouble) > 0) {
+            maxDouble = value;
+        }
+        if (Double.compare(value, doubleKey) == 0) {
+            match();
+        }
+        next();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void visitObject(Comparable<?> value) {
+        Comparable<Object> comparable = (Comparable<Object>) value;
+        if (minObject == null || comparable.compareTo(minObject) < 0) {
+            minObject = comparable;
+        }
+        if (maxObject == null || comparable.compareTo(maxObject) > 0) {
+            maxObject = comparable;
+        }
+        if (comparable.compareTo(objectKey) == 0) {
+            match();
+        }
+        next();
+    }
+
+    /**
+     * @return кількість уже прочитаних елементів
+     */
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return мінімум у текстовому вигляді або null, якщо елементів немає
+     */
+    String min() {
+        if (count == 0) {
+            return null;
+        }
+        return minObject != null ? minObject.toString() : isFloating() ? formatDouble(minDouble) : formatLong(minLong);
+    }
+
+    /**
+     * @return максимум у текстовому вигляді або null, якщо елементів немає
+     */
+    String max() {
+        if (count == 0) {
+            return null;
+        }
+        return maxObject != null ? maxObject.toString() : isFloating() ? formatDouble(maxDouble) : formatLong(maxLong);
+    }
+
+    private void match() {
+        if (firstMatch < 0) {
+            firstMatch = count;
+        }
+        matches++;
+    }
+
+    private void next() {
+        count++;
+        if (progressInterval > 0 && count % progressInterval == 0) {
+            double seconds = (System.nanoTime() - timeStart) / 1e9;
+            ReportSink.line(String.format("  ⏳ оброблено %,d елементів: мін=%s, макс=%s, входжень=%,d (%.2f млн елементів/с)",
+                    count, min(), max(), matches, count / seconds / 1e6));
+        }
+    }
+
+    private void printResult(long elapsedNs) {
+        ReportSink.line("\n📊 РЕЗУЛЬТАТ ПОТОКОВОЇ АГРЕГАЦІЇ " + type + ":");
+        if (count == 0) {
+            ReportSink.line("   Файл не містить жодного елемента.");
+            return;
+        }
+        ReportSink.line(String.format("   Елементів: %,d", count));
+        ReportSink.line("   Мінімальне значення: " + min());
+        ReportSink.line("   Максимальне значення: " + max());
+        if (firstMatch >= 0) {
+            ReportSink.line(String.format("   Значення %s знайдено: перша позиція %,d, входжень %,d",
+                    searchText, firstMatch, matches));
+        } else {
+            ReportSink.line("   Значення " + searchText + " відсутнє.");
+        }
+        ReportSink.line(String.format("   Швидкість: %.2f млн елементів/с", count / (elapsedNs / 1e9) / 1e6));
+    }
+
+    private boolean isFloating() {
+        return type == DataType.FLOAT || type == DataType.DOUBLE;
+    }
+
+    private String formatLong(long value) {
+        return type == DataType.CHARACTER ? String.valueOf((char) value) : Long.toString(value);
+    }
+
+    private String formatDouble(double value) {
+        return type == DataType.FLOAT ? Float.toString((float) value) : Double.toString(value);
+    }
+}
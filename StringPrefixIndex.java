@@ -0,0 +1,236 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Клас StringPrefixIndex — незмінний префіксний індекс рядків на відсортованому масиві.
+ *
+ * <p>Рядки впорядковуються {@link SortEngine#sort(Comparable[])} (з {@code --sort-parallelism}
+ * великі масиви сортуються паралельно), після чого однакові рядки згортаються в один з
+ * лічильником. Рядки з однаковим префіксом лежать у масиві поспіль, тож точний пошук і
+ * пошук за префіксом — це двійковий пошук меж відрізка, O(|префікс| · log n), без
+ * проходу по даних. Кількість рядків з префіксом береться з префіксних сум лічильників.</p>
+ *
+ * <p>Для top-K доповнень над лічильниками будується дерево відрізків, вузол якого зберігає
+ * позицію найчастішого рядка свого відрізка. Найчастіший рядок відрізка префікса знаходиться
+ * за O(log n); далі відрізок ділиться навколо нього, і черга з пріоритетом видає наступного
+ * кандидата — разом O(k log n) незалежно від кількості рядків з префіксом.</p>
+ *
+ * <p>Пам'ять: масив унікальних рядків і три масиви примітивів на унікальний рядок
+ * (лічильник, префіксна сума, два вузли дерева) — без вузла на кожен символ, як у trie.
+ * Індекс описує дані на момент побудови; один екземпляр можна спільно використовувати
+ * з кількох потоків.</p>
+ */
+public final class StringPrefixIndex {
+    private final String[] values;
+    private final int[] counts;
+    /** {@code cumulative[i]} — кількість рядків у перших i унікальних рядках. */
+    private final long[] cumulative;
+    /** Дерево відрізків: {@code tree[leaves + i] = i}, внутрішній вузол — позиція максимуму дітей. */
+    private final int[] tree;
+    private final int leaves;
+
+    private StringPrefixIndex(String[] sorted) {
+        int[] runLengths = new int[sorted.length];
+        int distinct = 0;
+        for (String value : sorted) {
+            if (distinct == 0 || !value.equals(sorted[distinct - 1])) {
+                sorted[distinct++] = value;
+            }
+            runLengths[distinct - 1]++;
+        }
+        this.values = Arrays.copyOf(sorted, distinct);
+        this.counts = Arrays.copyOf(runLengths, distinct);
+
+        this.cumulative = new long[distinct + 1];
+        for (int i = 0; i < distinct; i++) {
+            cumulative[i + 1] = cumulative[i] + counts[i];
+        }
+
+        this.leaves = Math.max(1, distinct);
+        this.tree = new int[2 * leaves];
+        for (int i = 0; i < distinct; i++) {
+            tree[leaves + i] = i;
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Будує індекс з масиву рядків; масив не змінюється, елементи null не допускаються.
+     */
+    public static StringPrefixIndex of(String[] values) {
+        String[] sorted = values.clone();
+        SortEngine.sort(sorted);
+        return new StringPrefixIndex(sorted);
+    }
+
+    /**
+     * Кількість рядків у вихідних даних.
+     */
+    public long size() {
+        return cumulative[values.length];
+    }
+
+    public int distinctCount() {
+        return values.length;
+    }
+
+    /**
+     * Кількість входжень рядка (0, якщо його немає).
+     */
+    public int count(String value) {
+        int position = lowerBound(value);
+        return position < values.length && values[position].equals(value) ? counts[position] : 0;
+    }
+
+    public boolean contains(String value) {
+        return count(value) > 0;
+    }
+
+    /**
+     * Кількість рядків (з повторами), що починаються з префікса.
+     */
+    public long prefixCount(String prefix) {
+        int from = lowerBound(prefix);
+        return cumulative[prefixEnd(prefix, from)] - cumulative[from];
+    }
+
+    /**
+     * Кількість різних рядків, що починаються з префікса.
+     */
+    public int prefixDistinctCount(String prefix) {
+        int from = lowerBound(prefix);
+        return prefixEnd(prefix, from) - from;
+    }
+
+    /**
+     * До {@code k} найчастіших рядків з префіксом, за спаданням кількості
+     * (за однакової кількості — в лексикографічному порядку).
+     */
+    public List<Completion> topCompletions(String prefix, int k) {
+        int from = lowerBound(prefix);
+        int to = prefixEnd(prefix, from);
+        if (from == to || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Completion> result = new ArrayList<>(Math.min(k, to - from));
+        PriorityQueue<int[]> candidates = new PriorityQueue<>(
+                (a, b) -> counts[a[0]] != counts[b[0]] ? Integer.compare(counts[b[0]], counts[a[0]]) : Integer.compare(a[0], b[0]));
+        candidates.add(new int[] {maxPosition(from, to), from, to});
+        while (result.size() < k && !candidates.isEmpty()) {
+            int[] candidate = candidates.poll();
+            int position = candidate[0];
+            result.add(new Completion(values[position], counts[position]));
+            if (candidate[1] < position) {
+                candidates.add(new int[] {maxPosition(candidate[1], position), candidate[1], position});
+            }
+            if (position + 1 < candidate[2]) {
+                candidates.add(new int[] {maxPosition(position + 1, candidate[2]), position + 1, candidate[2]});
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Позиція першого рядка, не меншого за {@code key}.
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Кінець відрізка рядків з префіксом, що починається з {@code from}: рядки з префіксом
+     * лежать поспіль, тож межу знаходить двійковий пошук за {@link String#startsWith}.
+     */
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Позиція найчастішого рядка у відрізку [from, to) за деревом відрізків.
+     */
+    private int maxPosition(int from, int to) {
+        int best = from;
+        for (int left = from + leaves, right = to + leaves; left < right; left >>>= 1, right >>>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return counts[a] > counts[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Доповнення префікса: рядок і кількість його входжень.
+     */
+    public static final class Completion {
+        private final String value;
+        private final int count;
+
+        Completion(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public String value() {
+            return value;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Completion)) {
+                return false;
+            }
+            Completion completion = (Completion) other;
+            return count == completion.count && value.equals(completion.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * value.hashCode() + count;
+        }
+
+        @Override
+        public String toString() {
+            return value + " (" + count + ")";
+        }
+    }
+}
@@ -0,0 +1,244 @@
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Клас StripedSortedMap — потокобезпечна впорядкована Map з розщепленим блокуванням.
+ *
+ * <p>Ключі розподіляються за хешем між кількома TreeMap («смугами»), кожна з власним
+ * {@link ReentrantLock}. Операції з одним ключем блокують лише його смугу, тож потоки,
+ * що працюють з різними ключами, рідко чекають один на одного. Впорядковане представлення
+ * ({@link #snapshot()}, {@link #entrySet()}) збирається зі смуг по черзі і, як і в
+ * {@code ConcurrentSkipListMap}, є слабко узгодженим: зміни, зроблені під час збирання,
+ * можуть не потрапити до знімка.</p>
+ *
+ * <p>Ціна впорядкованості: смуги розподілені за хешем, а не за діапазонами ключів, тому
+ * кожна смуга містить ключі з усього діапазону. {@link #snapshot()} і {@link #entrySet()}
+ * щоразу копіюють усі смуги в нову TreeMap — O(n log n) часу і O(n) пам'яті на виклик,
+ * а firstKey чи діапазонний запит можна отримати лише з такого знімка. Для частих
+ * впорядкованих запитів краще підходить {@code ConcurrentSkipListMap} (O(log n));
+ * ця Map вигідна, коли переважають операції з окремими ключами.</p>
+ *
+ * <p>Ключі мають бути узгоджені з компаратором і з equals/hashCode. Значення null,
+ * як і в інших ConcurrentMap, не допускаються.</p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значення
+ */
+public final class StripedSortedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    private final Comparator<? super K> comparator;
+    private final TreeMap<K, V>[] stripes;
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param comparator Порядок ключів
+     * @param stripeCount Бажана кількість смуг (округлюється вгору до степеня двійки)
+     */
+    public StripedSortedMap(Comparator<? super K> comparator, int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Кількість смуг має бути додатною: " + stripeCount);
+        }
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        this.comparator = comparator;
+        this.stripes = newStripes(size);
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new TreeMap<>(comparator);
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    @Override
+    public V get(Object key) {
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].get(key);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].containsKey(key);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].put(key, value);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value);
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].putIfAbsent(key, value);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].remove(key);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].remove(key, value);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(newValue);
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].replace(key, oldValue, newValue);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value);
+        int stripe = stripeFor(key);
+        locks[stripe].lock();
+        try {
+            return stripes[stripe].replace(key, value);
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    /**
+     * Перевіряє наявність значення, проходячи смуги по черзі (O(n)).
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                if (stripes[i].containsValue(value)) {
+                    return true;
+                }
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                size += stripes[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                stripes[i].clear();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Повертає впорядкований за компаратором знімок усіх записів.
+     * Копіює всі смуги: O(n log n) на кожен виклик.
+     */
+    public SortedMap<K, V> snapshot() {
+        TreeMap<K, V> snapshot = new TreeMap<>(comparator);
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                snapshot.putAll(stripes[i]);
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Незмінне впорядковане представлення записів на основі {@link #snapshot()}
+     * (та сама ціна — O(n log n) на кожен виклик).
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(snapshot()).entrySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> TreeMap<K, V>[] newStripes(int size) {
+        return (TreeMap<K, V>[]) new TreeMap<?, ?>[size];
+    }
+
+    private int stripeFor(Object key) {
+        int h = key.hashCode();
+        // розсіювання старших бітів, як у HashMap
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,77 @@
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Клас ThreadOutputCapture перехоплює {@code System.out} окремо для кожного потоку.
+ *
+ * <p>Під час паралельного запуску процесорів їхні рядки інакше перемішувалися б у консолі.
+ * Поки захоплення встановлене, потік, що викликав {@link #startCapture()}, пише у власний
+ * буфер; решта потоків пише в оригінальний {@code System.out} як і раніше. Після завершення
+ * буфер виводиться цілим блоком.</p>
+ */
+public final class ThreadOutputCapture extends OutputStream {
+    private final PrintStream original;
+    private final ThreadLocal<ByteArrayOutputStream> buffers = new ThreadLocal<>();
+    private final PrintStream routingStream;
+
+    private ThreadOutputCapture(PrintStream original) {
+        this.original = original;
+        this.routingStream = new PrintStream(this, true, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Встановлює перехоплення замість поточного {@code System.out}.
+     */
+    public static ThreadOutputCapture install() {
+        ThreadOutputCapture capture = new ThreadOutputCapture(System.out);
+        System.setOut(capture.routingStream);
+        return capture;
+    }
+
+    /**
+     * Повертає оригінальний {@code System.out}.
+     */
+    public void uninstall() {
+        routingStream.flush();
+        System.setOut(original);
+    }
+
+    /**
+     * Починає накопичувати виведення поточного потоку.
+     */
+    public void startCapture() {
+        buffers.set(new ByteArrayOutputStream());
+    }
+
+    /**
+     * Завершує накопичення для поточного потоку і повертає накопичений текст.
+     */
+    public String stopCapture() {
+        routingStream.flush();
+        ByteArrayOutputStream buffer = buffers.get();
+        buffers.remove();
+        return buffer == null ? "" : buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ByteArrayOutputStream buffer = buffers.get();
+        if (buffer != null) {
+            buffer.write(bytes, offset, length);
+        } else {
+            original.print(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void flush() {
+        original.flush();
+    }
+}
@@ -0,0 +1,579 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Клас TypedArray — масив даних одного з типів {@link DataType} зі спільним набором операцій.
+ *
+ * <p>Числові типи зберігаються в примітивних масивах ({@code int[]}, {@code double[]} тощо):
+ * сортування, пошук і мін/макс виконуються без упакування, а об'єкт-обгортка створюється
+ * лише для результату. String та типи java.time зберігаються в масиві об'єктів.
+ * Порядок для float/double — той самий, що в {@link Arrays#sort(double[])}
+ * ({@code -0.0 < 0.0}, NaN наприкінці).</p>
+ *
+ * @param <T> упакований тип елемента
+ */
+public abstract class TypedArray<T extends Comparable<? super T>> {
+    private final DataType type;
+    private boolean sorted;
+
+    TypedArray(DataType type) {
+        this.type = type;
+    }
+
+    public DataType type() {
+        return type;
+    }
+
+    public abstract int length();
+
+    /**
+     * Повертає елемент за індексом (для примітивних масивів — упакований).
+     */
+    public abstract T get(int index);
+
+    /**
+     * Перетворює текст (наприклад, аргумент командного рядка) на значення цього типу.
+     *
+     * @throws IllegalArgumentException якщо текст не є значенням цього типу
+     */
+    public abstract T parseKey(String text);
+
+    /**
+     * Упорядковує масив за зростанням; масив, уже позначений відсортованим, не сортується повторно.
+     */
+    public final void sort() {
+        if (!sorted) {
+            sortValues();
+            sorted = true;
+        }
+    }
+
+    abstract void sortValues();
+
+    /**
+     * Чи відомо, що масив упорядкований: після {@link #sort()} або коли так позначив
+     * заголовок двійкового файлу ({@link BinaryDataFile.Header#sorted()}).
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Позначає масив як уже впорядкований; копія ({@link #copy()}) позначки не успадковує.
+     */
+    TypedArray<T> markSorted() {
+        sorted = true;
+        return this;
+    }
+
+    /**
+     * Двійковий пошук; як і {@link Arrays#binarySearch}, вимагає відсортованого масиву.
+     *
+     * @return позиція елемента або {@code -(точка вставки) - 1}
+     */
+    public abstract int binarySearch(T key);
+
+    public abstract T min();
+
+    public abstract T max();
+
+    /**
+     * Повертає незалежну копію масиву.
+     */
+    public abstract TypedArray<T> copy();
+
+    /**
+     * Текстове подання елемента для запису у файл.
+     */
+    public String format(int index) {
+        return String.valueOf(get(index));
+    }
+
+    void requireNotEmpty() {
+        if (length() == 0) {
+            throw new NoSuchElementException("Масив " + type + " порожній");
+        }
+    }
+
+    public static TypedArray<Byte> of(byte[] values) {
+        return new ByteArray(values);
+    }
+
+    public static TypedArray<Short> of(short[] values) {
+        return new ShortArray(values);
+    }
+
+    public static TypedArray<Integer> of(int[] values) {
+        return new IntArray(values);
+    }
+
+    public static TypedArray<Long> of(long[] values) {
+        return new LongArray(values);
+    }
+
+    public static TypedArray<Float> of(float[] values) {
+        return new FloatArray(values);
+    }
+
+    public static TypedArray<Double> of(double[] values) {
+        return new DoubleArray(values);
+    }
+
+    /**
+     * Масив об'єктів (String, LocalDate тощо) з функцією розбору ключа пошуку.
+     */
+    public static <T extends Comparable<? super T>> TypedArray<T> of(DataType type, T[] values, Function<String, T> keyParser) {
+        return new ObjectArray<>(type, values, keyParser);
+    }
+
+    @Override
+    public String toString() {
+        return "TypedArray{type=" + type + ", length=" + length() + "}";
+    }
+
+    private static final class ByteArray extends TypedArray<Byte> {
+        private final byte[] values;
+
+        ByteArray(byte[] values) {
+            super(DataType.BYTE);
+            this.values = values;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public Byte get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Byte parseKey(String text) {
+            return Byte.parseByte(text.trim());
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(Byte key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public Byte min() {
+            requireNotEmpty();
+            byte minValue = values[0];
+            for (byte value : values) {
+                if (value < minValue) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public Byte max() {
+            requireNotEmpty();
+            byte maxValue = values[0];
+            for (byte value : values) {
+                if (value > maxValue) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<Byte> copy() {
+            return new ByteArray(values.clone());
+        }
+
+        @Override
+        public String format(int index) {
+            return Byte.toString(values[index]);
+        }
+    }
+
+    private static final class ShortArray extends TypedArray<Short> {
+        private final short[] values;
+
+        ShortArray(short[] values) {
+            super(DataType.SHORT);
+            this.values = values;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public Short get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Short parseKey(String text) {
+            return Short.parseShort(text.trim());
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(Short key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public Short min() {
+            requireNotEmpty();
+            short minValue = values[0];
+            for (short value : values) {
+                if (value < minValue) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public Short max() {
+            requireNotEmpty();
+            short maxValue = values[0];
+            for (short value : values) {
+                if (value > maxValue) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<Short> copy() {
+            return new ShortArray(values.clone());
+        }
+
+        @Override
+        public String format(int index) {
+            return Short.toString(values[index]);
+        }
+    }
+
+    private static final class IntArray extends TypedArray<Integer> {
+        private final int[] values;
+
+        IntArray(int[] values) {
+            super(DataType.INT);
+            this.values = values;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Integer parseKey(String text) {
+            return Integer.parseInt(text.trim());
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(Integer key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public Integer min() {
+            requireNotEmpty();
+            int minValue = values[0];
+            for (int value : values) {
+                if (value < minValue) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public Integer max() {
+            requireNotEmpty();
+            int maxValue = values[0];
+            for (int value : values) {
+                if (value > maxValue) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<Integer> copy() {
+            return new IntArray(values.clone());
+        }
+
+        @Override
+        public String format(int index) {
+            return Integer.toString(values[index]);
+        }
+    }
+
+    private static final class LongArray extends TypedArray<Long> {
+        private final long[] values;
+
+        LongArray(long[] values) {
+            super(DataType.LONG);
+            this.values = values;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Long parseKey(String text) {
+            return Long.parseLong(text.trim());
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(Long key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public Long min() {
+            requireNotEmpty();
+            long minValue = values[0];
+            for (long value : values) {
+                if (value < minValue) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public Long max() {
+            requireNotEmpty();
+            long maxValue = values[0];
+            for (long value : values) {
+                if (value > maxValue) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<Long> copy() {
+            return new LongArray(values.clone());
+        }
+
+        @Override
+        public String format(int index) {
+            return Long.toString(values[index]);
+        }
+    }
+
+    private static final class FloatArray extends TypedArray<Float> {
+        private final float[] values;
+
+        FloatArray(float[] values) {
+            super(DataType.FLOAT);
+            this.values = values;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public Float get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Float parseKey(String text) {
+            return Float.parseFloat(text.trim());
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(Float key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public Float min() {
+            requireNotEmpty();
+            float minValue = values[0];
+            for (float value : values) {
+                if (Float.compare(value, minValue) < 0) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public Float max() {
+            requireNotEmpty();
+            float maxValue = values[0];
+            for (float value : values) {
+                if (Float.compare(value, maxValue) > 0) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<Float> copy() {
+            return new FloatArray(values.clone());
+        }
+
+        @Override
+        public String format(int index) {
+            return Float.toString(values[index]);
+        }
+    }
+
+    private static final class DoubleArray extends TypedArray<Double> {
+        private final double[] values;
+
+        DoubleArray(double[] values) {
+            super(DataType.DOUBLE);
+            this.values = values;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Double parseKey(String text) {
+            return Double.parseDouble(text.trim());
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(Double key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public Double min() {
+            requireNotEmpty();
+            double minValue = values[0];
+            for (double value : values) {
+                if (Double.compare(value, minValue) < 0) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public Double max() {
+            requireNotEmpty();
+            double maxValue = values[0];
+            for (double value : values) {
+                if (Double.compare(value, maxValue) > 0) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<Double> copy() {
+            return new DoubleArray(values.clone());
+        }
+
+        @Override
+        public String format(int index) {
+            return Double.toString(values[index]);
+        }
+    }
+
+    private static final class ObjectArray<T extends Comparable<? super T>> extends TypedArray<T> {
+        private final T[] values;
+        private final Function<String, T> keyParser;
+
+        ObjectArray(DataType type, T[] values, Function<String, T> keyParser) {
+            super(type);
+            this.values = values;
+            this.keyParser = keyParser;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public T get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public T parseKey(String text) {
+            return keyParser.apply(text);
+        }
+
+        @Override
+        void sortValues() {
+            SortEngine.sort(values);
+        }
+
+        @Override
+        public int binarySearch(T key) {
+            return Arrays.binarySearch(values, key);
+        }
+
+        @Override
+        public T min() {
+            requireNotEmpty();
+            T minValue = values[0];
+            for (T value : values) {
+                if (value.compareTo(minValue) < 0) minValue = value;
+            }
+            return minValue;
+        }
+
+        @Override
+        public T max() {
+            requireNotEmpty();
+            T maxValue = values[0];
+            for (T value : values) {
+                if (value.compareTo(maxValue) > 0) maxValue = value;
+            }
+            return maxValue;
+        }
+
+        @Override
+        public TypedArray<T> copy() {
+            return new ObjectArray<>(type(), values.clone(), keyParser);
+        }
+    }
+}
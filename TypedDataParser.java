@@ -0,0 +1,326 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Клас TypedDataParser завантажує файли даних list/ у {@link TypedArray} потрібного типу.
+ *
+ * <p>Рядки обходяться через {@link DataFileHandler#scanLines}. Цілі числа (byte, short, int,
+ * long) розбираються прямо з байтів відображеного файлу в примітивний масив — без String
+ * і без упакування для кожного рядка. Для float/double текст числа копіюється в
+ * багаторазовий буфер і передається в {@link Double#parseDouble}/{@link Float#parseFloat},
+ * які гарантують коректне округлення. String та типи java.time декодуються з UTF-8.</p>
+ *
+ * <p>Двійкові файли ({@link BinaryDataFile}) розпізнаються за магічними байтами і копіюються
+ * з відображеної пам'яті без розбору тексту; якщо заголовок позначає елементи впорядкованими,
+ * масив одразу позначається відсортованим ({@link TypedArray#isSorted()}).</p>
+ *
+ * <p>Некоректний рядок зупиняє завантаження з {@link NumberFormatException} або
+ * {@link java.time.format.DateTimeParseException} із текстом рядка.</p>
+ */
+public final class TypedDataParser {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private TypedDataParser() {
+    }
+
+    /**
+     * Завантажує файл даних типу з каталогу list/.
+     */
+    public static TypedArray<?> load(DataType type) {
+        return load(type, type.dataFilePath());
+    }
+
+    /**
+     * Завантажує файл довільного шляху як дані заданого типу.
+     *
+     * @throws IllegalArgumentException для {@link DataType#CHARACTER}, який завантажує
+     *         {@link DataFileHandler#loadCharListFromFile(String)}
+     */
+    public static TypedArray<?> load(DataType type, String filePath) {
+        boolean binary = BinaryDataFile.isBinary(filePath);
+        TypedArray<?> array = parse(type, filePath, binary);
+        if (binary && BinaryDataFile.readHeader(filePath).sorted()) {
+            array.markSorted();
+        }
+        return array;
+    }
+
+    private static TypedArray<?> parse(DataType type, String filePath, boolean binary) {
+        switch (type) {
+            case BYTE:
+                return TypedArray.of(binary ? BinaryDataFile.readBytes(filePath)
+                        : parseIntegers(filePath, Byte.MIN_VALUE, Byte.MAX_VALUE).toByteArray());
+            case SHORT:
+                return TypedArray.of(binary ? BinaryDataFile.readShorts(filePath)
+                        : parseIntegers(filePath, Short.MIN_VALUE, Short.MAX_VALUE).toShortArray());
+            case INT:
+                return TypedArray.of(binary ? BinaryDataFile.readInts(filePath)
+                        : parseIntegers(filePath, Integer.MIN_VALUE, Integer.MAX_VALUE).toIntArray());
+            case LONG:
+                return TypedArray.of(binary ? BinaryDataFile.readLongs(filePath)
+                        : parseIntegers(filePath, Long.MIN_VALUE, Long.MAX_VALUE).toLongArray());
+            case FLOAT:
+                return TypedArray.of(binary ? BinaryDataFile.readFloats(filePath) : parseFloats(filePath));
+            case DOUBLE:
+                return TypedArray.of(binary ? BinaryDataFile.readDoubles(filePath) : parseDoubles(filePath));
+            case STRING:
+                return TypedArray.of(type, binary ? BinaryDataFile.readStrings(filePath)
+                        : parseObjects(filePath, Function.identity()).toArray(new String[0]),
+                        Function.identity());
+            case LOCAL_DATE:
+                return TypedArray.of(type, binary ? BinaryDataFile.readLocalDates(filePath)
+                        : parseObjects(filePath, LocalDate::parse).toArray(new LocalDate[0]),
+                        text -> LocalDate.parse(text.trim()));
+            case LOCAL_TIME:
+                return TypedArray.of(type, binary ? BinaryDataFile.readLocalTimes(filePath)
+                        : parseObjects(filePath, LocalTime::parse).toArray(new LocalTime[0]),
+                        text -> LocalTime.parse(text.trim()));
+            case LOCAL_DATE_TIME:
+                return TypedArray.of(type, binary ? BinaryDataFile.readLocalDateTimes(filePath)
+                        : parseObjects(filePath, TypedDataParser::parseLocalDateTime).toArray(new LocalDateTime[0]),
+                        text -> parseLocalDateTime(text.trim()));
+            default:
+                throw new IllegalArgumentException("Тип " + type + " завантажується через DataFileHandler");
+        }
+    }
+
+    /**
+     * Обробник значень потокового обходу ({@link #scan}): char і цілі типи надходять як long,
+     * float/double — як double (float розширюється без втрат), решта — об'єктами.
+     */
+    public interface ValueVisitor {
+        void visitLong(long value);
+
+        void visitDouble(double value);
+
+        void visitObject(Comparable<?> value);
+    }
+
+    /**
+     * Обходить значення текстового або двійкового файлу по одному, без масиву й колекцій:
+     * пам'ять не залежить від розміру файлу. Рядки розбираються за тими ж правилами, що й
+     * у {@link #load(DataType, String)}.
+     *
+     * @throws NumberFormatException або {@link java.time.format.DateTimeParseException} для некоректного рядка
+     * @throws IllegalArgumentException якщо двійковий файл іншого типу або пошкоджений
+     * @throws java.io.UncheckedIOException якщо файл не вдалося прочитати
+     */
+    public static void scan(DataType type, String filePath, ValueVisitor visitor) {
+        if (BinaryDataFile.isBinary(filePath)) {
+            BinaryDataFile.scan(filePath, type, visitor);
+            return;
+        }
+        switch (type) {
+            case CHARACTER:
+                DataFileHandler.scanChars(filePath, visitor::visitLong);
+                break;
+            case BYTE:
+                scanIntegers(filePath, Byte.MIN_VALUE, Byte.MAX_VALUE, visitor);
+                break;
+            case SHORT:
+                scanIntegers(filePath, Short.MIN_VALUE, Short.MAX_VALUE, visitor);
+                break;
+            case INT:
+                scanIntegers(filePath, Integer.MIN_VALUE, Integer.MAX_VALUE, visitor);
+                break;
+            case LONG:
+                scanIntegers(filePath, Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+                break;
+            case FLOAT: {
+                byte[][] scratch = {new byte[64]};
+                DataFileHandler.scanLines(filePath, (buffer, start, end) ->
+                        visitor.visitDouble(Float.parseFloat(asciiText(buffer, start, end, scratch))));
+                break;
+            }
+            case DOUBLE: {
+                byte[][] scratch = {new byte[64]};
+                DataFileHandler.scanLines(filePath, (buffer, start, end) ->
+                        visitor.visitDouble(Double.parseDouble(asciiText(buffer, start, end, scratch))));
+                break;
+            }
+            case STRING:
+                DataFileHandler.scanLines(filePath, (buffer, start, end) -> visitor.visitObject(lineText(buffer, start, end)));
+                break;
+            case LOCAL_DATE:
+                DataFileHandler.scanLines(filePath, (buffer, start, end) ->
+                        visitor.visitObject(LocalDate.parse(lineText(buffer, start, end))));
+                break;
+            case LOCAL_TIME:
+                DataFileHandler.scanLines(filePath, (buffer, start, end) ->
+                        visitor.visitObject(LocalTime.parse(lineText(buffer, start, end))));
+                break;
+            case LOCAL_DATE_TIME:
+                DataFileHandler.scanLines(filePath, (buffer, start, end) ->
+                        visitor.visitObject(parseLocalDateTime(lineText(buffer, start, end))));
+                break;
+            default:
+                throw new IllegalArgumentException("Невідомий тип " + type);
+        }
+    }
+
+    /**
+     * Розбирає дату й час ISO-8601; зсув часового поясу, якщо є (наприклад, {@code Z}),
+     * відкидається, як у наборі list/LocalDateTime.data.
+     */
+    static LocalDateTime parseLocalDateTime(String text) {
+        return DateTimeFormatter.ISO_DATE_TIME.parse(text, LocalDateTime::from);
+    }
+
+    private static IntegerColumn parseIntegers(String filePath, long minValue, long maxValue) {
+        IntegerColumn column = new IntegerColumn();
+        DataFileHandler.scanLines(filePath, (buffer, start, end) -> column.add(parseInteger(buffer, start, end, minValue, maxValue)));
+        return column;
+    }
+
+    private static void scanIntegers(String filePath, long minValue, long maxValue, ValueVisitor visitor) {
+        DataFileHandler.scanLines(filePath, (buffer, start, end) -> visitor.visitLong(parseInteger(buffer, start, end, minValue, maxValue)));
+    }
+
+    private static long parseInteger(ByteBuffer buffer, int start, int end, long minValue, long maxValue) {
+        long value = parseLong(buffer, start, end);
+        if (value < minValue || value > maxValue) {
+            throw new NumberFormatException("Значення поза діапазоном [" + minValue + ", " + maxValue + "]: "
+                    + lineText(buffer, start, end));
+        }
+        return value;
+    }
+
+    /**
+     * Розбирає десяткове ціле зі знаком з байтів [start, end), як {@link Long#parseLong(String)}.
+     * Накопичення ведеться у від'ємному діапазоні, щоб коректно прочитати {@link Long#MIN_VALUE}.
+     */
+    private static long parseLong(ByteBuffer buffer, int start, int end) {
+        int index = start;
+        boolean negative = false;
+        int first = buffer.get(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        if (index == end) {
+            throw new NumberFormatException("Некоректне ціле число: " + lineText(buffer, start, end));
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw new NumberFormatException("Некоректне ціле число: " + lineText(buffer, start, end));
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new NumberFormatException("Некоректне ціле число: " + lineText(buffer, start, end));
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static float[] parseFloats(String filePath) {
+        float[][] values = {new float[INITIAL_CAPACITY]};
+        int[] size = {0};
+        byte[][] scratch = {new byte[64]};
+        DataFileHandler.scanLines(filePath, (buffer, start, end) -> {
+            if (size[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], size[0] * 2);
+            }
+            values[0][size[0]++] = Float.parseFloat(asciiText(buffer, start, end, scratch));
+        });
+        return Arrays.copyOf(values[0], size[0]);
+    }
+
+    private static double[] parseDoubles(String filePath) {
+        double[][] values = {new double[INITIAL_CAPACITY]};
+        int[] size = {0};
+        byte[][] scratch = {new byte[64]};
+        DataFileHandler.scanLines(filePath, (buffer, start, end) -> {
+            if (size[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], size[0] * 2);
+            }
+            values[0][size[0]++] = Double.parseDouble(asciiText(buffer, start, end, scratch));
+        });
+        return Arrays.copyOf(values[0], size[0]);
+    }
+
+    private static <T> List<T> parseObjects(String filePath, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        DataFileHandler.scanLines(filePath, (buffer, start, end) -> values.add(parser.apply(lineText(buffer, start, end))));
+        return values;
+    }
+
+    /**
+     * Копіює ASCII-текст числа в багаторазовий буфер; String створюється лише для парсера.
+     */
+    private static String asciiText(ByteBuffer buffer, int start, int end, byte[][] scratch) {
+        int length = end - start;
+        if (scratch[0].length < length) {
+            scratch[0] = new byte[length];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[0][i] = buffer.get(start + i);
+        }
+        return new String(scratch[0], 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String lineText(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Накопичувач цілих чисел; звуження до byte/short/int виконується один раз наприкінці,
+     * коли діапазон уже перевірено.
+     */
+    private static final class IntegerColumn {
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        byte[] toByteArray() {
+            byte[] result = new byte[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = (byte) values[i];
+            }
+            return result;
+        }
+
+        short[] toShortArray() {
+            short[] result = new short[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = (short) values[i];
+            }
+            return result;
+        }
+
+        int[] toIntArray() {
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = (int) values[i];
+            }
+            return result;
+        }
+
+        long[] toLongArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
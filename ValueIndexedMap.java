@@ -0,0 +1,271 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Клас ValueIndexedMap — двонаправлена Map: пряма Map ключ → значення та зворотний
+ * індекс значення → множина ключів, які узгоджено оновлюються при put/remove.
+ *
+ * <p>Пошук і видалення за значенням коштують пропорційно кількості збігів, а не розміру Map.
+ * Порядок ітерації та пошук за ключем делегуються прямій Map (LinkedHashMap, TreeMap тощо).
+ * Множини ключів в індексі впорядковані так само, як пряма Map: за компаратором для
+ * {@link SortedMap}, інакше в порядку першого додавання ключа. Для цього кожному ключу
+ * присвоюється номер додавання, тож зміна значення не переносить ключ у кінець множини
+ * нового значення, а повторний put з тим самим значенням індекс не змінює.</p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значення
+ */
+public final class ValueIndexedMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> forward;
+    private final Map<V, Set<K>> reverse = new HashMap<>();
+    private final Supplier<Set<K>> keySetFactory;
+    /** Номер першого додавання кожного ключа; null для {@link SortedMap}. */
+    private final Map<K, Long> insertionOrder;
+    private long nextInsertion;
+    private Set<Map.Entry<K, V>> entrySetView;
+
+    /**
+     * Обгортає готову Map і будує для неї зворотний індекс за O(n).
+     * Після цього пряму Map слід змінювати лише через ValueIndexedMap.
+     */
+    public ValueIndexedMap(Map<K, V> forward) {
+        this.forward = forward;
+        if (forward instanceof SortedMap) {
+            @SuppressWarnings("unchecked")
+            Comparator<? super K> comparator = ((SortedMap<K, V>) forward).comparator();
+            this.keySetFactory = () -> new TreeSet<>(comparator);
+            this.insertionOrder = null;
+        } else {
+            this.insertionOrder = new HashMap<>();
+            Comparator<K> byInsertion = Comparator.comparingLong(insertionOrder::get);
+            this.keySetFactory = () -> new TreeSet<>(byInsertion);
+        }
+        forward.forEach((key, value) -> {
+            track(key);
+            indexAdd(key, value);
+        });
+    }
+
+    @Override
+    public int size() {
+        return forward.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return forward.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return forward.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return reverse.containsKey(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return forward.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        boolean existed = forward.containsKey(key);
+        V previous = forward.put(key, value);
+        if (!existed) {
+            track(key);
+            indexAdd(key, value);
+        } else {
+            reindex(key, previous, value);
+        }
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!forward.containsKey(key)) {
+            return null;
+        }
+        V previous = forward.remove(key);
+        indexRemove((K) key, previous);
+        untrack(key);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        forward.clear();
+        reverse.clear();
+        if (insertionOrder != null) {
+            insertionOrder.clear();
+        }
+    }
+
+    /**
+     * Повертає всі ключі з заданим значенням (незмінне представлення).
+     */
+    public Set<K> keysForValue(V value) {
+        Set<K> keys = reverse.get(value);
+        return keys == null ? Collections.emptySet() : Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Повертає перший ключ із заданим значенням або {@code null}, якщо збігів немає.
+     */
+    public K findFirstKeyByValue(V value) {
+        Set<K> keys = reverse.get(value);
+        return keys == null ? null : keys.iterator().next();
+    }
+
+    /**
+     * Видаляє всі записи з заданим значенням.
+     *
+     * @return видалені ключі
+     */
+    public List<K> removeByValue(V value) {
+        Set<K> keys = reverse.remove(value);
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        for (K key : keys) {
+            forward.remove(key);
+            untrack(key);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySetView == null) {
+            entrySetView = new EntrySetView();
+        }
+        return entrySetView;
+    }
+
+    private void track(K key) {
+        if (insertionOrder != null) {
+            insertionOrder.put(key, nextInsertion++);
+        }
+    }
+
+    private void untrack(Object key) {
+        if (insertionOrder != null) {
+            insertionOrder.remove(key);
+        }
+    }
+
+    /**
+     * Переносить наявний ключ до множини нового значення; однакове значення індекс не змінює.
+     */
+    private void reindex(K key, V previous, V value) {
+        if (!Objects.equals(previous, value)) {
+            indexRemove(key, previous);
+            indexAdd(key, value);
+        }
+    }
+
+    private void indexAdd(K key, V value) {
+        reverse.computeIfAbsent(value, v -> keySetFactory.get()).add(key);
+    }
+
+    private void indexRemove(K key, V value) {
+        Set<K> keys = reverse.get(value);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            reverse.remove(value);
+        }
+    }
+
+    /**
+     * Представлення записів прямої Map, яке підтримує індекс при remove() та setValue().
+     */
+    private final class EntrySetView extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return forward.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, V>> iterator = forward.entrySet().iterator();
+            return new Iterator<>() {
+                private Map.Entry<K, V> current;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    current = iterator.next();
+                    return new IndexedEntry(current);
+                }
+
+                @Override
+                public void remove() {
+                    K key = current.getKey();
+                    V value = current.getValue();
+                    iterator.remove();
+                    indexRemove(key, value);
+                    untrack(key);
+                }
+            };
+        }
+    }
+
+    private final class IndexedEntry implements Map.Entry<K, V> {
+        private final Map.Entry<K, V> entry;
+
+        IndexedEntry(Map.Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = entry.setValue(value);
+            reindex(entry.getKey(), previous, value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return entry.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+}
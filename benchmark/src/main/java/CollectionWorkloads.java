@@ -0,0 +1,386 @@
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import benchmark.Workload;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Клас CollectionWorkloads — навантаження JMH-бенчмарків з пакета {@code benchmark} над класами
+ * BasicDataOperationUsing*, CharFrequencyIndex, CanaryTable та реалізаціями Map.
+ *
+ * <p>Бенчмарки JMH не можуть лежати в пакеті за замовчуванням, а класи з іменованого пакета не
+ * бачать класів застосунку, тому методи {@code @Benchmark} лише викликають {@link Workload},
+ * створений тут за назвою {@code Клас.метод}. Підготовка даних і колекцій виконується під час
+ * створення (Level.Trial), {@link Workload#reset()} — перед кожним викликом навантажень, що змінюють
+ * колекцію (Level.Invocation).</p>
+ *
+ * <p>Дані — лише типу Character: символи беруться з текстового файлу {@code list/Character*.data},
+ * двійкового файлу з типом Character ({@link BinaryDataFile}) або {@code generated:<розподіл>}
+ * ({@link DatasetGenerator}). Файли інших типів відхиляються, бо
+ * {@link DataFileHandler#loadArrayFromFile(String)} бере з кожного рядка лише перший символ.</p>
+ */
+public class CollectionWorkloads implements Workload.Factory {
+    private static final String GENERATED_PREFIX = "generated:";
+    private static final String BENCHMARK_PACKAGE = "benchmark.";
+    private static final int QUERIES = 1024;
+
+    private static final Map<String, Function<Fixture, Workload>> WORKLOADS = new LinkedHashMap<>();
+
+    private static final Map<String, Supplier<Map<BasicDataOperationUsingMap.Canary, String>>> MAPS = new LinkedHashMap<>();
+
+    static {
+        MAPS.put("linkedHashMap", LinkedHashMap::new);
+        MAPS.put("treeMap", () -> new TreeMap<>(BasicDataOperationUsingMap.CANARY_COMPARATOR));
+        MAPS.put("offHeapMap", OffHeapCanaryMap::new);
+        MAPS.put("sortedLinkedMap", () -> new SortedLinkedMap<>(BasicDataOperationUsingMap.CANARY_COMPARATOR));
+
+        // ===== Масив Character[] =====
+        WORKLOADS.put("CollectionBenchmark.arrayBinarySearch", f -> {
+            Character[] sorted = f.data.clone();
+            Arrays.sort(sorted);
+            return bh -> bh.consume(Arrays.binarySearch(sorted, f.key));
+        });
+        WORKLOADS.put("CollectionBenchmark.arrayMinMax", f -> bh -> {
+            Character minValue = f.data[0];
+            Character maxValue = f.data[0];
+            for (Character c : f.data) {
+                if (c < minValue) minValue = c;
+                if (c > maxValue) maxValue = c;
+            }
+            bh.consume(minValue);
+            bh.consume(maxValue);
+        });
+        WORKLOADS.put("CollectionMutationBenchmark.arraySort", f -> new Workload() {
+            Character[] copy;
+            public void reset() { copy = f.data.clone(); }
+            public void run(Blackhole bh) { Arrays.sort(copy); bh.consume(copy[0]); }
+        });
+
+        // ===== Vector<Character> =====
+        WORKLOADS.put("CollectionBenchmark.vectorBinarySearch", f -> {
+            Vector<Character> vector = new Vector<>(Arrays.asList(f.data));
+            Collections.sort(vector);
+            return bh -> bh.consume(Collections.binarySearch(vector, f.key));
+        });
+        WORKLOADS.put("CollectionBenchmark.vectorMinMax", f -> {
+            Vector<Character> vector = new Vector<>(Arrays.asList(f.data));
+            return bh -> {
+                bh.consume(Collections.min(vector));
+                bh.consume(Collections.max(vector));
+            };
+        });
+        WORKLOADS.put("CollectionMutationBenchmark.vectorSort", f -> new Workload() {
+            Vector<Character> vector;
+            public void reset() { vector = new Vector<>(Arrays.asList(f.data)); }
+            public void run(Blackhole bh) { Collections.sort(vector); bh.consume(vector.get(0)); }
+        });
+
+        // ===== PriorityQueue<Character> =====
+        WORKLOADS.put("CollectionBenchmark.priorityQueueContains", f -> {
+            PriorityQueue<Character> queue = new PriorityQueue<>(Arrays.asList(f.data));
+            return bh -> bh.consume(queue.contains(f.key));
+        });
+        WORKLOADS.put("CollectionBenchmark.priorityQueueMinMax", f -> {
+            PriorityQueue<Character> queue = new PriorityQueue<>(Arrays.asList(f.data));
+            return bh -> {
+                bh.consume(Collections.min(queue));
+                bh.consume(Collections.max(queue));
+            };
+        });
+        WORKLOADS.put("CollectionBenchmark.priorityQueuePeek", f -> {
+            PriorityQueue<Character> queue = new PriorityQueue<>(Arrays.asList(f.data));
+            return bh -> bh.consume(queue.peek());
+        });
+        WORKLOADS.put("CollectionMutationBenchmark.priorityQueuePoll", f -> {
+            f.requireBatch();
+            return new Workload() {
+                PriorityQueue<Character> queue;
+                public void reset() { queue = new PriorityQueue<>(Arrays.asList(f.data)); }
+                public void run(Blackhole bh) {
+                    for (int i = 0; i < BATCH; i++) bh.consume(queue.poll());
+                }
+            };
+        });
+
+        // ===== TreeSet<Character> =====
+        WORKLOADS.put("CollectionBenchmark.treeSetContains", f -> {
+            TreeSet<Character> set = new TreeSet<>(Arrays.asList(f.data));
+            return bh -> bh.consume(set.contains(f.key));
+        });
+        WORKLOADS.put("CollectionBenchmark.treeSetMinMax", f -> {
+            TreeSet<Character> set = new TreeSet<>(Arrays.asList(f.data));
+            return bh -> {
+                bh.consume(Collections.min(set));
+                bh.consume(Collections.max(set));
+            };
+        });
+
+        // ===== CharFrequencyIndex =====
+        WORKLOADS.put("CollectionBenchmark.frequencyIndexBuild", f -> bh -> bh.consume(CharFrequencyIndex.of(f.data)));
+        WORKLOADS.put("CollectionBenchmark.frequencyIndexContains", f -> {
+            CharFrequencyIndex index = CharFrequencyIndex.of(f.data);
+            return bh -> bh.consume(index.contains(f.key));
+        });
+        WORKLOADS.put("CollectionBenchmark.frequencyIndexMinMax", f -> {
+            CharFrequencyIndex index = CharFrequencyIndex.of(f.data);
+            return bh -> {
+                bh.consume(index.min());
+                bh.consume(index.max());
+            };
+        });
+
+        // ===== Map<Canary, String>: реалізація з параметра map =====
+        WORKLOADS.put("MapBenchmark.get", f -> {
+            MapFixture m = new MapFixture(f);
+            return new Workload() {
+                int next;
+                public void run(Blackhole bh) { bh.consume(m.map.get(m.queries[next++ & (QUERIES - 1)])); }
+            };
+        });
+        WORKLOADS.put("MapBenchmark.findByValue", f -> {
+            MapFixture m = new MapFixture(f);
+            return bh -> bh.consume(m.map.entrySet().stream()
+                    .filter(entry -> entry.getValue() != null && entry.getValue().equals(m.owner))
+                    .findFirst()
+                    .orElse(null));
+        });
+        WORKLOADS.put("MapBenchmark.sortByKey", f -> {
+            MapFixture m = new MapFixture(f);
+            return bh -> bh.consume(sortedCopy(m.map));
+        });
+        WORKLOADS.put("MapMutationBenchmark.put", f -> {
+            MapFixture m = new MapFixture(f);
+            BasicDataOperationUsingMap.Canary[] newKeys = new BasicDataOperationUsingMap.Canary[Workload.BATCH];
+            for (int i = 0; i < newKeys.length; i++) {
+                newKeys[i] = new BasicDataOperationUsingMap.Canary(f.data[f.random.nextInt(f.data.length)] + "+" + i, "3");
+            }
+            return new Workload() {
+                public void reset() {
+                    for (BasicDataOperationUsingMap.Canary newKey : newKeys) m.map.remove(newKey);
+                }
+                public void run(Blackhole bh) {
+                    for (BasicDataOperationUsingMap.Canary newKey : newKeys) bh.consume(m.map.put(newKey, "Павло"));
+                }
+            };
+        });
+        WORKLOADS.put("MapMutationBenchmark.removeByKey", f -> {
+            f.requireBatch();
+            MapFixture m = new MapFixture(f);
+            return new Workload() {
+                public void reset() { m.map = m.fill(); }
+                public void run(Blackhole bh) {
+                    for (int i = 0; i < BATCH; i++) bh.consume(m.map.remove(m.keys[i]));
+                }
+            };
+        });
+        WORKLOADS.put("MapMutationBenchmark.removeByValue", f -> {
+            MapFixture m = new MapFixture(f);
+            return new Workload() {
+                public void reset() { m.map = m.fill(); }
+                public void run(Blackhole bh) {
+                    List<BasicDataOperationUsingMap.Canary> keysToRemove = m.map.entrySet().stream()
+                            .filter(entry -> entry.getValue() != null && entry.getValue().equals(m.owner))
+                            .map(Map.Entry::getKey)
+                            .collect(Collectors.toList());
+                    keysToRemove.forEach(m.map::remove);
+                    bh.consume(keysToRemove.size());
+                }
+            };
+        });
+        WORKLOADS.put("MapMutationBenchmark.putThenSortedRead", f -> {
+            MapFixture m = new MapFixture(f);
+            BasicDataOperationUsingMap.Canary[] newKeys = new BasicDataOperationUsingMap.Canary[Workload.SORTED_READ_BATCH];
+            for (int i = 0; i < newKeys.length; i++) {
+                newKeys[i] = new BasicDataOperationUsingMap.Canary(f.key + "+" + i, "3");
+            }
+            return new Workload() {
+                public void reset() {
+                    for (BasicDataOperationUsingMap.Canary newKey : newKeys) m.map.remove(newKey);
+                }
+                public void run(Blackhole bh) {
+                    for (BasicDataOperationUsingMap.Canary newKey : newKeys) {
+                        bh.consume(m.map.put(newKey, "Павло"));
+                        Iterator<Map.Entry<BasicDataOperationUsingMap.Canary, String>> sorted = sortedEntries(m.map).iterator();
+                        for (int i = 0; i < 10 && sorted.hasNext(); i++) bh.consume(sorted.next());
+                    }
+                }
+            };
+        });
+
+        // ===== CanaryTable: ті самі записи в стовпцях зі словниковим кодуванням =====
+        WORKLOADS.put("CanaryTableBenchmark.build", f -> {
+            MapFixture m = new MapFixture(f);
+            return bh -> bh.consume(CanaryTable.of(m.map));
+        });
+        WORKLOADS.put("CanaryTableBenchmark.get", f -> {
+            MapFixture m = new MapFixture(f);
+            CanaryTable table = CanaryTable.of(m.map);
+            return new Workload() {
+                int next;
+                public void run(Blackhole bh) { bh.consume(table.get(m.queries[next++ & (QUERIES - 1)])); }
+            };
+        });
+        WORKLOADS.put("CanaryTableBenchmark.findByValue", f -> {
+            MapFixture m = new MapFixture(f);
+            CanaryTable table = CanaryTable.of(m.map);
+            return bh -> bh.consume(table.rowsByOwner(m.owner));
+        });
+    }
+
+    @Override
+    public Workload create(BenchmarkParams params) {
+        String name = params.getBenchmark();
+        if (name.startsWith(BENCHMARK_PACKAGE)) {
+            name = name.substring(BENCHMARK_PACKAGE.length());
+        }
+        Function<Fixture, Workload> factory = WORKLOADS.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("невідомий бенчмарк " + name);
+        }
+        return factory.apply(new Fixture(params));
+    }
+
+    /** Записи у порядку CANARY_COMPARATOR так, як їх отримує BasicDataOperationUsingMap для кожної реалізації. */
+    private static Iterable<Map.Entry<BasicDataOperationUsingMap.Canary, String>> sortedEntries(
+            Map<BasicDataOperationUsingMap.Canary, String> map) {
+        if (map instanceof SortedLinkedMap) {
+            return ((SortedLinkedMap<BasicDataOperationUsingMap.Canary, String>) map).sortedEntrySet();
+        }
+        if (map instanceof SortedMap) {
+            return map.entrySet();
+        }
+        return sortedCopy(map).entrySet();
+    }
+
+    private static Map<BasicDataOperationUsingMap.Canary, String> sortedCopy(Map<BasicDataOperationUsingMap.Canary, String> map) {
+        return map.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(BasicDataOperationUsingMap.CANARY_COMPARATOR))
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (e1, e2) -> e1,
+                        LinkedHashMap::new
+                ));
+    }
+
+    /**
+     * Параметри бенчмарку і підготовлені з них дані: масив {@code size} символів та ключ пошуку.
+     */
+    private static final class Fixture {
+        final BenchmarkParams params;
+        final int size;
+        final SplittableRandom random;
+        final Character[] data;
+        final Character key;
+
+        Fixture(BenchmarkParams params) {
+            this.params = params;
+            this.size = Integer.parseInt(params.getParam("size"));
+            this.random = new SplittableRandom(Long.parseLong(params.getParam("seed")));
+            this.data = prepareData(params.getParam("file"), size, random);
+            this.key = data[random.nextInt(data.length)];
+        }
+
+        void requireBatch() {
+            if (size < Workload.BATCH) {
+                throw new IllegalArgumentException("для " + params.getBenchmark() + " потрібно size >= " + Workload.BATCH);
+            }
+        }
+    }
+
+    /**
+     * Map з параметра {@code map}: ключі Canary та власники будуються з символів даних,
+     * {@code queries} — випадкові існуючі ключі для пошуку, обрані заздалегідь.
+     */
+    private static final class MapFixture {
+        final Supplier<Map<BasicDataOperationUsingMap.Canary, String>> mapFactory;
+        final BasicDataOperationUsingMap.Canary[] keys;
+        final String[] owners;
+        final BasicDataOperationUsingMap.Canary[] queries = new BasicDataOperationUsingMap.Canary[QUERIES];
+        final String owner;
+        Map<BasicDataOperationUsingMap.Canary, String> map;
+
+        MapFixture(Fixture f) {
+            String mapName = f.params.getParam("map");
+            mapFactory = mapName == null ? LinkedHashMap::new : MAPS.get(mapName);
+            if (mapFactory == null) {
+                throw new IllegalArgumentException("невідома реалізація Map " + mapName + " (очікується " + MAPS.keySet() + ")");
+            }
+            keys = new BasicDataOperationUsingMap.Canary[f.data.length];
+            owners = new String[f.data.length];
+            for (int i = 0; i < f.data.length; i++) {
+                keys[i] = new BasicDataOperationUsingMap.Canary(f.data[i] + "-" + i, String.valueOf(1 + i % 5));
+                owners[i] = "Власник-" + f.data[i];
+            }
+            for (int i = 0; i < queries.length; i++) {
+                queries[i] = keys[f.random.nextInt(keys.length)];
+            }
+            owner = "Власник-" + f.key;
+            map = fill();
+        }
+
+        Map<BasicDataOperationUsingMap.Canary, String> fill() {
+            Map<BasicDataOperationUsingMap.Canary, String> filled = mapFactory.get();
+            for (int i = 0; i < keys.length; i++) {
+                filled.put(keys[i], owners[i]);
+            }
+            return filled;
+        }
+    }
+
+    /**
+     * Будує детермінований масив заданого розміру із символів файлу даних
+     * або, для {@code generated:<розподіл>}, генерує його {@link DatasetGenerator}.
+     *
+     * @throws IllegalArgumentException якщо файл містить дані не типу Character або порожній
+     */
+    private static Character[] prepareData(String file, int size, SplittableRandom random) {
+        if (file.startsWith(GENERATED_PREFIX)) {
+            DatasetGenerator.Distribution distribution =
+                    DatasetGenerator.Distribution.fromOption(file.substring(GENERATED_PREFIX.length()));
+            return new DatasetGenerator(distribution, random.nextLong()).characters(size);
+        }
+        if (!isCharacterFile(file)) {
+            throw new IllegalArgumentException("файл " + file + " не містить даних типу Character;"
+                    + " бенчмарки колекцій працюють лише з list/Character*.data, двійковими файлами Character"
+                    + " або generated:<розподіл>");
+        }
+        Character[] source = DataFileHandler.loadArrayFromFile(file);
+        if (source.length == 0) {
+            throw new IllegalArgumentException("файл " + file + " порожній або недоступний");
+        }
+        Character[] data = new Character[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = source[random.nextInt(source.length)];
+        }
+        return data;
+    }
+
+    /**
+     * Текстовий файл вважається символьним за назвою ({@code Character.data}, {@code Character-zipf-...}),
+     * тип двійкового файлу перевіряє {@link BinaryDataFile} під час читання заголовка.
+     */
+    private static boolean isCharacterFile(String file) {
+        if (BinaryDataFile.isBinary(file)) {
+            return true;
+        }
+        String fileName = Paths.get(file).getFileName().toString();
+        String typeName = DataType.CHARACTER.typeName();
+        return fileName.startsWith(typeName + ".") || fileName.startsWith(typeName + "-");
+    }
+}
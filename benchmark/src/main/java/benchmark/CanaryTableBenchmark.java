@@ -0,0 +1,24 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CanaryTable: ті самі записи, що й у {@link MapBenchmark}, у стовпцях зі словниковим кодуванням.
+ */
+public class CanaryTableBenchmark extends WorkloadBenchmark {
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void findByValue(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+}
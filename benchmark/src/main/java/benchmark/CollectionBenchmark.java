@@ -0,0 +1,70 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Операції без зміни колекції над Character[], Vector, PriorityQueue, TreeSet і CharFrequencyIndex.
+ * Ключ пошуку — випадковий символ з даних, обраний під час підготовки.
+ */
+public class CollectionBenchmark extends WorkloadBenchmark {
+    @Benchmark
+    public void arrayBinarySearch(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void arrayMinMax(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void vectorBinarySearch(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void vectorMinMax(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void priorityQueueContains(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void priorityQueueMinMax(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void priorityQueuePeek(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void treeSetContains(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void treeSetMinMax(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void frequencyIndexBuild(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void frequencyIndexContains(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void frequencyIndexMinMax(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+}
@@ -0,0 +1,35 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Операції, що змінюють колекцію: перед кожним викликом {@link Workload#reset()} поза заміром
+ * відновлює початковий стан (копія масиву, нова Vector або PriorityQueue).
+ * Для poll потрібно {@code size >= }{@value Workload#BATCH}.
+ */
+public class CollectionMutationBenchmark extends WorkloadBenchmark {
+    @Setup(Level.Invocation)
+    public void reset() {
+        workload.reset();
+    }
+
+    @Benchmark
+    public void arraySort(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void vectorSort(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Workload.BATCH)
+    public void priorityQueuePoll(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+}
@@ -0,0 +1,29 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Операції без зміни Map&lt;Canary, String&gt; для кожної реалізації з параметра {@code map}.
+ * Ключі Canary та власники будуються з символів даних, ключі для get обрано заздалегідь.
+ */
+public class MapBenchmark extends WorkloadBenchmark {
+    @Param({"linkedHashMap", "treeMap", "offHeapMap", "sortedLinkedMap"})
+    public String map;
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void findByValue(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void sortByKey(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+}
@@ -0,0 +1,47 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Операції, що змінюють Map&lt;Canary, String&gt;: перед кожним викликом {@link Workload#reset()}
+ * поза заміром прибирає додані ключі або заново заповнює Map, тож розмір не зростає між вимірами.
+ * Для removeByKey потрібно {@code size >= }{@value Workload#BATCH}.
+ */
+public class MapMutationBenchmark extends WorkloadBenchmark {
+    @Param({"linkedHashMap", "treeMap", "offHeapMap", "sortedLinkedMap"})
+    public String map;
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        workload.reset();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Workload.BATCH)
+    public void put(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Workload.BATCH)
+    public void removeByKey(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    @Benchmark
+    public void removeByValue(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+
+    /** Додавання нового ключа, потім перші 10 записів у порядку CANARY_COMPARATOR. */
+    @Benchmark
+    @OperationsPerInvocation(Workload.SORTED_READ_BATCH)
+    public void putThenSortedRead(Blackhole blackhole) {
+        workload.run(blackhole);
+    }
+}
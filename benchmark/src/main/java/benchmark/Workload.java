@@ -0,0 +1,35 @@
+package benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Навантаження одного методу {@code @Benchmark}.
+ *
+ * <p>Класи застосунку лежать у пакеті за замовчуванням, а JMH не приймає там бенчмарки, тому
+ * самі навантаження реалізовано в {@code CollectionWorkloads} (пакет за замовчуванням) через
+ * {@link Factory}, а класи цього пакета лише оголошують стан, параметри й методи JMH.</p>
+ */
+@FunctionalInterface
+public interface Workload {
+    /** Кількість операцій у виклику навантажень put, removeByKey і poll ({@code @OperationsPerInvocation}). */
+    int BATCH = 1000;
+
+    /** Кількість пар «додавання + впорядковане читання» у виклику putThenSortedRead. */
+    int SORTED_READ_BATCH = 10;
+
+    /** Виконує одну операцію (або {@link #BATCH} для навантажень, що змінюють колекцію). */
+    void run(Blackhole blackhole);
+
+    /** Відновлює стан колекції перед наступним викликом; JMH викликає його поза заміром. */
+    default void reset() {
+    }
+
+    /**
+     * Створює навантаження за назвою {@code Клас.метод} бенчмарку і його параметрами
+     * ({@code size}, {@code file}, {@code seed}, {@code map}).
+     */
+    interface Factory {
+        Workload create(BenchmarkParams params);
+    }
+}
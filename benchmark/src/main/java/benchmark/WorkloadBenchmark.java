@@ -0,0 +1,66 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Спільний стан бенчмарків: параметри даних і навантаження поточного методу.
+ *
+ * <p>Дані детерміновані: масив {@code size} символів будується з файлу {@code file} генератором
+ * із seed {@code seed}. Замість файлу можна вказати {@code generated:<розподіл>} (uniform, zipf,
+ * sorted, reversed, duplicates) — тоді символи дає {@code DatasetGenerator}. Підтримуються лише
+ * дані типу Character: текстові {@code list/Character*.data} та двійкові файли з таким типом.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 3, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+public abstract class WorkloadBenchmark {
+    private static final String FACTORY_CLASS = "CollectionWorkloads";
+    private static final Workload.Factory FACTORY = loadFactory();
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"list/Character.data"})
+    public String file;
+
+    @Param({"42"})
+    public long seed;
+
+    protected Workload workload;
+
+    @Setup(Level.Trial)
+    public void createWorkload(BenchmarkParams params) {
+        workload = FACTORY.create(params);
+    }
+
+    /**
+     * Клас із пакета за замовчуванням не можна імпортувати, тому фабрика завантажується за назвою
+     * один раз; заміряні виклики йдуть напряму через {@link Workload}.
+     */
+    private static Workload.Factory loadFactory() {
+        try {
+            return Class.forName(FACTORY_CLASS)
+                    .asSubclass(Workload.Factory.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не вдалося створити " + FACTORY_CLASS, e);
+        }
+    }
+}